@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticationRequest;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of the authentication ceremony, from the raw {@link AuthenticationRequest} to
+ * the validated {@link AuthenticationData}, for credentials registered with each attestation statement format.
+ * Apple Anonymous attestation is not covered as there is no emulator to generate assertions for it.
+ */
+@State(Scope.Benchmark)
+public class AuthenticationBenchmark {
+
+    @Param({
+            CeremonyFixture.FORMAT_NONE,
+            CeremonyFixture.FORMAT_FIDO_U2F,
+            CeremonyFixture.FORMAT_PACKED,
+            CeremonyFixture.FORMAT_TPM,
+            CeremonyFixture.FORMAT_ANDROID_KEY,
+            CeremonyFixture.FORMAT_ANDROID_SAFETYNET
+    })
+    public String format;
+
+    private CeremonyFixture fixture;
+    private WebAuthnManager webAuthnManager;
+    private AuthenticationRequest authenticationRequest;
+
+    @Setup
+    public void setup() {
+        fixture = new CeremonyFixture(format);
+        webAuthnManager = fixture.getWebAuthnManager();
+        authenticationRequest = fixture.createAuthenticationRequest();
+        // fail fast if the fixture is broken instead of measuring the exception path
+        webAuthnManager.validate(authenticationRequest, fixture.createAuthenticationParameters());
+    }
+
+    @Benchmark
+    public AuthenticationData parse() {
+        return webAuthnManager.parse(authenticationRequest);
+    }
+
+    @Benchmark
+    public AuthenticationData validate() {
+        // AuthenticationParameters is created per invocation, as the validation updates the counter of the Authenticator
+        return webAuthnManager.validate(authenticationRequest, fixture.createAuthenticationParameters());
+    }
+}
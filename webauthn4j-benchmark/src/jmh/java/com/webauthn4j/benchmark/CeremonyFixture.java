@@ -0,0 +1,272 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.anchor.TrustAnchorsResolver;
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.authenticator.AuthenticatorImpl;
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientInput;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.test.authenticator.AuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.webauthn.*;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.validator.RegistrationObject;
+import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.androidkey.AndroidKeyAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.androidsafetynet.AndroidSafetyNetAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.apple.AppleAnonymousAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.none.NoneAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.packed.PackedAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.tpm.TPMAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.u2f.FIDOU2FAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.CertPathTrustworthinessValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.NullCertPathTrustworthinessValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.TrustAnchorCertPathTrustworthinessValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessValidator;
+
+import java.util.Collections;
+
+/**
+ * Generates registration and authentication ceremony fixtures for benchmarks with the authenticator emulators
+ * provided by webauthn4j-test, and the {@link WebAuthnManager} configured to validate them.
+ */
+class CeremonyFixture {
+
+    static final String FORMAT_NONE = "none";
+    static final String FORMAT_FIDO_U2F = "fido-u2f";
+    static final String FORMAT_PACKED = "packed";
+    static final String FORMAT_TPM = "tpm";
+    static final String FORMAT_ANDROID_KEY = "android-key";
+    static final String FORMAT_ANDROID_SAFETYNET = "android-safetynet";
+    static final String FORMAT_APPLE = "apple";
+
+    private static final String RP_ID = "example.com";
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+    private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter
+            = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+
+    private final String format;
+    private final Origin origin = new Origin("https://example.com");
+    private final Challenge challenge = new DefaultChallenge();
+
+    private WebAuthnManager webAuthnManager;
+    private RegistrationRequest registrationRequest;
+    private RegistrationParameters registrationParameters;
+    private AttestationObject attestationObject;
+    private ClientPlatform clientPlatform;
+
+    CeremonyFixture(String format) {
+        this.format = format;
+        if (FORMAT_APPLE.equals(format)) {
+            setupRecordedAppleAnonymousRegistration();
+        }
+        else {
+            setupEmulatedRegistration();
+        }
+    }
+
+    WebAuthnManager getWebAuthnManager() {
+        return webAuthnManager;
+    }
+
+    RegistrationRequest getRegistrationRequest() {
+        return registrationRequest;
+    }
+
+    RegistrationParameters getRegistrationParameters() {
+        return registrationParameters;
+    }
+
+    /**
+     * Creates an assertion with the emulated authenticator which registered the credential of this fixture
+     *
+     * @return authentication request
+     */
+    AuthenticationRequest createAuthenticationRequest() {
+        if (clientPlatform == null) {
+            throw new IllegalStateException(String.format("Authentication is not supported with '%s' fixture.", format));
+        }
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                RP_ID,
+                Collections.singletonList(
+                        new PublicKeyCredentialDescriptor(
+                                PublicKeyCredentialType.PUBLIC_KEY,
+                                attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId(),
+                                Collections.emptySet()
+                        )
+                ),
+                UserVerificationRequirement.DISCOURAGED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticatorAssertionResponse = credential.getAuthenticatorResponse();
+        return new AuthenticationRequest(
+                credential.getRawId(),
+                authenticatorAssertionResponse.getUserHandle(),
+                authenticatorAssertionResponse.getAuthenticatorData(),
+                authenticatorAssertionResponse.getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                authenticatorAssertionResponse.getSignature()
+        );
+    }
+
+    /**
+     * Creates authentication parameters with a freshly loaded {@link Authenticator}, as the signature counter of
+     * the {@link Authenticator} is updated by each successful validation.
+     *
+     * @return authentication parameters
+     */
+    AuthenticationParameters createAuthenticationParameters() {
+        Authenticator authenticator = new AuthenticatorImpl(
+                attestationObject.getAuthenticatorData().getAttestedCredentialData(),
+                attestationObject.getAttestationStatement(),
+                0
+        );
+        ServerProperty serverProperty = new ServerProperty(origin, RP_ID, challenge, null);
+        return new AuthenticationParameters(serverProperty, authenticator, false, true);
+    }
+
+    private void setupEmulatedRegistration() {
+        AuthenticatorAdaptor authenticatorAdaptor;
+        AttestationStatementValidator attestationStatementValidator;
+        TrustAnchorsResolver trustAnchorsResolver = TestAttestationUtil.createTrustAnchorProviderWith3tierTestRootCACertificate();
+        AttestationConveyancePreference attestationConveyancePreference = AttestationConveyancePreference.DIRECT;
+        switch (format) {
+            case FORMAT_NONE:
+                authenticatorAdaptor = new WebAuthnAuthenticatorAdaptor(new PackedAuthenticator());
+                attestationStatementValidator = new NoneAttestationStatementValidator();
+                attestationConveyancePreference = AttestationConveyancePreference.NONE;
+                break;
+            case FORMAT_FIDO_U2F:
+                authenticatorAdaptor = new FIDOU2FAuthenticatorAdaptor();
+                attestationStatementValidator = new FIDOU2FAttestationStatementValidator();
+                trustAnchorsResolver = TestAttestationUtil.createTrustAnchorProviderWith2tierTestRootCACertificate();
+                break;
+            case FORMAT_PACKED:
+                authenticatorAdaptor = new WebAuthnAuthenticatorAdaptor(new PackedAuthenticator());
+                attestationStatementValidator = new PackedAttestationStatementValidator();
+                break;
+            case FORMAT_TPM:
+                authenticatorAdaptor = new WebAuthnAuthenticatorAdaptor(new TPMAuthenticator());
+                attestationStatementValidator = new TPMAttestationStatementValidator();
+                break;
+            case FORMAT_ANDROID_KEY:
+                authenticatorAdaptor = new WebAuthnAuthenticatorAdaptor(new AndroidKeyAuthenticator());
+                attestationStatementValidator = new AndroidKeyAttestationStatementValidator();
+                break;
+            case FORMAT_ANDROID_SAFETYNET:
+                authenticatorAdaptor = new WebAuthnAuthenticatorAdaptor(new AndroidSafetyNetAuthenticator());
+                AndroidSafetyNetAttestationStatementValidator androidSafetyNetAttestationStatementValidator = new AndroidSafetyNetAttestationStatementValidator();
+                // fixture is generated once in setup, and must stay valid for the whole benchmark run
+                androidSafetyNetAttestationStatementValidator.setBackwardThreshold(Integer.MAX_VALUE);
+                attestationStatementValidator = androidSafetyNetAttestationStatementValidator;
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("Unknown attestation statement format '%s'.", format));
+        }
+        webAuthnManager = createWebAuthnManager(
+                attestationStatementValidator,
+                new TrustAnchorCertPathTrustworthinessValidator(trustAnchorsResolver)
+        );
+        clientPlatform = new ClientPlatform(origin, authenticatorAdaptor);
+
+        AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
+                new AuthenticatorSelectionCriteria(
+                        AuthenticatorAttachment.CROSS_PLATFORM,
+                        true,
+                        UserVerificationRequirement.DISCOURAGED);
+        PublicKeyCredentialParameters publicKeyCredentialParameters = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
+        AuthenticationExtensionsClientInputs<RegistrationExtensionClientInput> extensions = new AuthenticationExtensionsClientInputs<>();
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(RP_ID, "example.com"),
+                new PublicKeyCredentialUserEntity(),
+                challenge,
+                Collections.singletonList(publicKeyCredentialParameters),
+                null,
+                Collections.emptyList(),
+                authenticatorSelectionCriteria,
+                attestationConveyancePreference,
+                extensions
+        );
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential = clientPlatform.create(credentialCreationOptions);
+        AuthenticatorAttestationResponse authenticatorAttestationResponse = credential.getAuthenticatorResponse();
+        attestationObject = attestationObjectConverter.convert(authenticatorAttestationResponse.getAttestationObject());
+
+        registrationRequest = new RegistrationRequest(
+                authenticatorAttestationResponse.getAttestationObject(),
+                authenticatorAttestationResponse.getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                Collections.emptySet()
+        );
+        registrationParameters = new RegistrationParameters(
+                new ServerProperty(origin, RP_ID, challenge, null),
+                false,
+                true
+        );
+    }
+
+    /**
+     * There is no Apple Anonymous attestation emulator, so recorded data is used.
+     * As its attestation certificate is already expired, certificate path validation is skipped.
+     */
+    private void setupRecordedAppleAnonymousRegistration() {
+        webAuthnManager = createWebAuthnManager(
+                new AppleAnonymousAttestationStatementValidator(),
+                new NullCertPathTrustworthinessValidator()
+        );
+        RegistrationObject registrationObject = TestDataUtil.createRegistrationObjectWithAppleAttestation();
+        registrationRequest = new RegistrationRequest(
+                registrationObject.getAttestationObjectBytes(),
+                registrationObject.getCollectedClientDataBytes()
+        );
+        registrationParameters = new RegistrationParameters(
+                registrationObject.getServerProperty(),
+                false,
+                true
+        );
+    }
+
+    private WebAuthnManager createWebAuthnManager(AttestationStatementValidator attestationStatementValidator,
+                                                  CertPathTrustworthinessValidator certPathTrustworthinessValidator) {
+        return new WebAuthnManager(
+                Collections.singletonList(attestationStatementValidator),
+                certPathTrustworthinessValidator,
+                new DefaultSelfAttestationTrustworthinessValidator(),
+                objectConverter
+        );
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.data.RegistrationData;
+import com.webauthn4j.data.RegistrationParameters;
+import com.webauthn4j.data.RegistrationRequest;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of the registration ceremony, from the raw {@link RegistrationRequest} to
+ * the validated {@link RegistrationData}, for each attestation statement format.
+ */
+@State(Scope.Benchmark)
+public class RegistrationBenchmark {
+
+    @Param({
+            CeremonyFixture.FORMAT_NONE,
+            CeremonyFixture.FORMAT_FIDO_U2F,
+            CeremonyFixture.FORMAT_PACKED,
+            CeremonyFixture.FORMAT_TPM,
+            CeremonyFixture.FORMAT_ANDROID_KEY,
+            CeremonyFixture.FORMAT_ANDROID_SAFETYNET,
+            CeremonyFixture.FORMAT_APPLE
+    })
+    public String format;
+
+    private WebAuthnManager webAuthnManager;
+    private RegistrationRequest registrationRequest;
+    private RegistrationParameters registrationParameters;
+
+    @Setup
+    public void setup() {
+        CeremonyFixture fixture = new CeremonyFixture(format);
+        webAuthnManager = fixture.getWebAuthnManager();
+        registrationRequest = fixture.getRegistrationRequest();
+        registrationParameters = fixture.getRegistrationParameters();
+        // fail fast if the fixture is broken instead of measuring the exception path
+        webAuthnManager.validate(registrationRequest, registrationParameters);
+    }
+
+    @Benchmark
+    public RegistrationData parse() {
+        return webAuthnManager.parse(registrationRequest);
+    }
+
+    @Benchmark
+    public RegistrationData validate() {
+        return webAuthnManager.validate(registrationRequest, registrationParameters);
+    }
+}
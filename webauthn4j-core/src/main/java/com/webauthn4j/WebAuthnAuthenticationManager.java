@@ -24,6 +24,7 @@ import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.AuthenticationData;
 import com.webauthn4j.data.AuthenticationParameters;
 import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.data.AuthenticationResult;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
@@ -33,11 +34,19 @@ import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.AuthenticationDataValidator;
 import com.webauthn4j.validator.CustomAuthenticationValidator;
 import com.webauthn4j.validator.OriginValidator;
+import com.webauthn4j.validator.ValidationObserver;
+import com.webauthn4j.validator.ValidationStep;
 import com.webauthn4j.validator.exception.ValidationException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 public class WebAuthnAuthenticationManager {
 
@@ -79,6 +88,22 @@ public class WebAuthnAuthenticationManager {
     public @NonNull AuthenticationData parse(@NonNull AuthenticationRequest authenticationRequest) throws DataConversionException {
         AssertUtil.notNull(authenticationRequest, "authenticationRequest must not be null");
 
+        ValidationObserver validationObserver = authenticationDataValidator.getValidationObserver();
+        if (!validationObserver.isEnabled()) {
+            return convert(authenticationRequest);
+        }
+        long startNanos = System.nanoTime();
+        try {
+            AuthenticationData authenticationData = convert(authenticationRequest);
+            validationObserver.stepCompleted(ValidationStep.PARSE, System.nanoTime() - startNanos, null);
+            return authenticationData;
+        } catch (RuntimeException e) {
+            validationObserver.stepCompleted(ValidationStep.PARSE, System.nanoTime() - startNanos, e);
+            throw e;
+        }
+    }
+
+    private @NonNull AuthenticationData convert(@NonNull AuthenticationRequest authenticationRequest) {
         byte[] credentialId = authenticationRequest.getCredentialId();
         byte[] signature = authenticationRequest.getSignature();
         byte[] userHandle = authenticationRequest.getUserHandle();
@@ -121,7 +146,122 @@ public class WebAuthnAuthenticationManager {
         return authenticationData;
     }
 
+    /**
+     * Parses and validates the {@link AuthenticationRequest} asynchronously on the specified {@link Executor}.
+     * The returned future is completed exceptionally with {@link DataConversionException} or {@link ValidationException}
+     * if the parsing or the validation fails.
+     *
+     * @param authenticationRequest    request to validate
+     * @param authenticationParameters parameters for validation
+     * @param executor                 executor to run the validation on
+     * @return future of the validated {@link AuthenticationData}
+     */
+    public @NonNull CompletableFuture<AuthenticationData> validateAsync(
+            @NonNull AuthenticationRequest authenticationRequest,
+            @NonNull AuthenticationParameters authenticationParameters,
+            @NonNull Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        return CompletableFuture.supplyAsync(() -> validate(authenticationRequest, authenticationParameters), executor);
+    }
+
+    /**
+     * Validates the {@link AuthenticationData} asynchronously on the specified {@link Executor}.
+     *
+     * @param authenticationData       data to validate
+     * @param authenticationParameters parameters for validation
+     * @param executor                 executor to run the validation on
+     * @return future of the validated {@link AuthenticationData}
+     * @see #validateAsync(AuthenticationRequest, AuthenticationParameters, Executor)
+     */
+    public @NonNull CompletableFuture<AuthenticationData> validateAsync(
+            @NonNull AuthenticationData authenticationData,
+            @NonNull AuthenticationParameters authenticationParameters,
+            @NonNull Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        return CompletableFuture.supplyAsync(() -> validate(authenticationData, authenticationParameters), executor);
+    }
+
+    /**
+     * Parses and validates {@link AuthenticationRequest}s in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param authenticationRequests requests to validate
+     * @param parametersProvider     function to provide {@link AuthenticationParameters} for each request
+     * @return results in the same order as the requests
+     * @see #validateAll(List, Function, Executor)
+     */
+    public @NonNull List<AuthenticationResult> validateAll(
+            @NonNull List<AuthenticationRequest> authenticationRequests,
+            @NonNull Function<AuthenticationRequest, AuthenticationParameters> parametersProvider) {
+        return validateAll(authenticationRequests, parametersProvider, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses and validates {@link AuthenticationRequest}s in parallel on the specified {@link Executor}.
+     * A failure of an item doesn't fail the whole batch. The exception is reported in the corresponding
+     * {@link AuthenticationResult} instead, including the {@link RejectedExecutionException} of an item the executor
+     * rejects.
+     * Since validation updates the counter of the {@link com.webauthn4j.authenticator.Authenticator}, the
+     * parametersProvider should not return the same authenticator for multiple requests.
+     *
+     * @param authenticationRequests requests to validate
+     * @param parametersProvider     function to provide {@link AuthenticationParameters} for each request
+     * @param executor               executor to run validations on
+     * @return results in the same order as the requests
+     */
+    public @NonNull List<AuthenticationResult> validateAll(
+            @NonNull List<AuthenticationRequest> authenticationRequests,
+            @NonNull Function<AuthenticationRequest, AuthenticationParameters> parametersProvider,
+            @NonNull Executor executor) {
+        AssertUtil.notNull(authenticationRequests, "authenticationRequests must not be null");
+        AssertUtil.notNull(parametersProvider, "parametersProvider must not be null");
+        AssertUtil.notNull(executor, "executor must not be null");
+
+        for (AuthenticationRequest authenticationRequest : authenticationRequests) {
+            AssertUtil.notNull(authenticationRequest, "authenticationRequest must not be null");
+        }
+        List<CompletableFuture<AuthenticationResult>> futures = new ArrayList<>(authenticationRequests.size());
+        for (AuthenticationRequest authenticationRequest : authenticationRequests) {
+            CompletableFuture<AuthenticationResult> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> validateItem(authenticationRequest, parametersProvider), executor);
+            } catch (RejectedExecutionException e) {
+                // a bounded or shut down executor rejects the item only, and the other items are still validated
+                future = CompletableFuture.completedFuture(AuthenticationResult.failure(authenticationRequest, e));
+            }
+            futures.add(future);
+        }
+        List<AuthenticationResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<AuthenticationResult> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    private @NonNull AuthenticationResult validateItem(
+            @NonNull AuthenticationRequest authenticationRequest,
+            @NonNull Function<AuthenticationRequest, AuthenticationParameters> parametersProvider) {
+        try {
+            AuthenticationParameters authenticationParameters = parametersProvider.apply(authenticationRequest);
+            return AuthenticationResult.success(authenticationRequest, validate(authenticationRequest, authenticationParameters));
+        } catch (RuntimeException e) {
+            return AuthenticationResult.failure(authenticationRequest, e);
+        }
+    }
+
     public @NonNull AuthenticationDataValidator getAuthenticationDataValidator() {
         return authenticationDataValidator;
     }
+
+    public @NonNull ValidationObserver getValidationObserver() {
+        return authenticationDataValidator.getValidationObserver();
+    }
+
+    /**
+     * Sets the observer notified with the elapsed time and the outcome of parsing and each validation step
+     *
+     * @param validationObserver observer
+     */
+    public void setValidationObserver(@NonNull ValidationObserver validationObserver) {
+        authenticationDataValidator.setValidationObserver(validationObserver);
+    }
 }
@@ -19,6 +19,8 @@ package com.webauthn4j;
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.*;
+import com.webauthn4j.data.client.challenge.StatelessChallengeIssuer;
+import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.*;
 import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
 import com.webauthn4j.validator.attestation.statement.androidkey.NullAndroidKeyAttestationStatementValidator;
@@ -34,10 +36,14 @@ import com.webauthn4j.validator.attestation.trustworthiness.self.NullSelfAttesta
 import com.webauthn4j.validator.attestation.trustworthiness.self.SelfAttestationTrustworthinessValidator;
 import com.webauthn4j.validator.exception.ValidationException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 public class WebAuthnManager {
 
@@ -163,6 +169,14 @@ public class WebAuthnManager {
         return this.webAuthnRegistrationManager.validate(registrationData, registrationParameters);
     }
 
+    public @NonNull CompletableFuture<RegistrationData> validateAsync(@NonNull RegistrationRequest registrationRequest, @NonNull RegistrationParameters registrationParameters, @NonNull Executor executor) {
+        return this.webAuthnRegistrationManager.validateAsync(registrationRequest, registrationParameters, executor);
+    }
+
+    public @NonNull CompletableFuture<RegistrationData> validateAsync(@NonNull RegistrationData registrationData, @NonNull RegistrationParameters registrationParameters, @NonNull Executor executor) {
+        return this.webAuthnRegistrationManager.validateAsync(registrationData, registrationParameters, executor);
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NonNull AuthenticationData parse(@NonNull AuthenticationRequest authenticationRequest) throws DataConversionException {
         return this.webAuthnAuthenticationManager.parse(authenticationRequest);
@@ -179,6 +193,22 @@ public class WebAuthnManager {
     }
 
 
+    public @NonNull CompletableFuture<AuthenticationData> validateAsync(@NonNull AuthenticationRequest authenticationRequest, @NonNull AuthenticationParameters authenticationParameters, @NonNull Executor executor) {
+        return this.webAuthnAuthenticationManager.validateAsync(authenticationRequest, authenticationParameters, executor);
+    }
+
+    public @NonNull CompletableFuture<AuthenticationData> validateAsync(@NonNull AuthenticationData authenticationData, @NonNull AuthenticationParameters authenticationParameters, @NonNull Executor executor) {
+        return this.webAuthnAuthenticationManager.validateAsync(authenticationData, authenticationParameters, executor);
+    }
+
+    public @NonNull List<AuthenticationResult> validateAll(@NonNull List<AuthenticationRequest> authenticationRequests, @NonNull Function<AuthenticationRequest, AuthenticationParameters> parametersProvider) {
+        return this.webAuthnAuthenticationManager.validateAll(authenticationRequests, parametersProvider);
+    }
+
+    public @NonNull List<AuthenticationResult> validateAll(@NonNull List<AuthenticationRequest> authenticationRequests, @NonNull Function<AuthenticationRequest, AuthenticationParameters> parametersProvider, @NonNull Executor executor) {
+        return this.webAuthnAuthenticationManager.validateAll(authenticationRequests, parametersProvider, executor);
+    }
+
     public @NonNull RegistrationDataValidator getRegistrationDataValidator() {
         return this.webAuthnRegistrationManager.getRegistrationDataValidator();
     }
@@ -186,4 +216,28 @@ public class WebAuthnManager {
     public @NonNull AuthenticationDataValidator getAuthenticationDataValidator() {
         return this.webAuthnAuthenticationManager.getAuthenticationDataValidator();
     }
+
+    /**
+     * Sets the observer notified with the elapsed time and the outcome of parsing and each validation step,
+     * on both registration and authentication
+     *
+     * @param validationObserver observer
+     */
+    public void setValidationObserver(@NonNull ValidationObserver validationObserver) {
+        AssertUtil.notNull(validationObserver, "validationObserver must not be null");
+        this.webAuthnRegistrationManager.setValidationObserver(validationObserver);
+        this.webAuthnAuthenticationManager.setValidationObserver(validationObserver);
+    }
+
+    /**
+     * Sets the issuer to verify stateless challenges on both registration and authentication.
+     * It is used only for {@link com.webauthn4j.server.ServerProperty}s created with
+     * {@link com.webauthn4j.server.ServerProperty#withStatelessChallengeContext(byte[])}.
+     *
+     * @param statelessChallengeIssuer issuer of stateless challenges, or null if stateless challenges are not used
+     */
+    public void setStatelessChallengeIssuer(@Nullable StatelessChallengeIssuer statelessChallengeIssuer) {
+        getRegistrationDataValidator().setStatelessChallengeIssuer(statelessChallengeIssuer);
+        getAuthenticationDataValidator().setStatelessChallengeIssuer(statelessChallengeIssuer);
+    }
 }
@@ -34,6 +34,8 @@ import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.CustomRegistrationValidator;
 import com.webauthn4j.validator.OriginValidator;
 import com.webauthn4j.validator.RegistrationDataValidator;
+import com.webauthn4j.validator.ValidationObserver;
+import com.webauthn4j.validator.ValidationStep;
 import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
 import com.webauthn4j.validator.attestation.statement.androidkey.NullAndroidKeyAttestationStatementValidator;
 import com.webauthn4j.validator.attestation.statement.androidsafetynet.NullAndroidSafetyNetAttestationStatementValidator;
@@ -52,6 +54,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class WebAuthnRegistrationManager {
 
@@ -172,6 +176,22 @@ public class WebAuthnRegistrationManager {
     public @NonNull RegistrationData parse(@NonNull RegistrationRequest registrationRequest) throws DataConversionException {
         AssertUtil.notNull(registrationRequest, "registrationRequest must not be null");
 
+        ValidationObserver validationObserver = registrationDataValidator.getValidationObserver();
+        if (!validationObserver.isEnabled()) {
+            return convert(registrationRequest);
+        }
+        long startNanos = System.nanoTime();
+        try {
+            RegistrationData registrationData = convert(registrationRequest);
+            validationObserver.stepCompleted(ValidationStep.PARSE, System.nanoTime() - startNanos, null);
+            return registrationData;
+        } catch (RuntimeException e) {
+            validationObserver.stepCompleted(ValidationStep.PARSE, System.nanoTime() - startNanos, e);
+            throw e;
+        }
+    }
+
+    private @NonNull RegistrationData convert(@NonNull RegistrationRequest registrationRequest) {
         byte[] clientDataBytes = registrationRequest.getClientDataJSON();
         byte[] attestationObjectBytes = registrationRequest.getAttestationObject();
 
@@ -208,8 +228,52 @@ public class WebAuthnRegistrationManager {
         return registrationData;
     }
 
+    /**
+     * Parses and validates the {@link RegistrationRequest} asynchronously on the specified {@link Executor}.
+     * As attestation trustworthiness validation may block on I/O such as metadata or trust anchor retrieval,
+     * an executor dedicated to blocking tasks should be used rather than event-loop threads.
+     * The returned future is completed exceptionally with {@link DataConversionException} or {@link ValidationException}
+     * if the parsing or the validation fails.
+     *
+     * @param registrationRequest    request to validate
+     * @param registrationParameters parameters for validation
+     * @param executor               executor to run the validation on
+     * @return future of the validated {@link RegistrationData}
+     */
+    public @NonNull CompletableFuture<RegistrationData> validateAsync(@NonNull RegistrationRequest registrationRequest, @NonNull RegistrationParameters registrationParameters, @NonNull Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        return CompletableFuture.supplyAsync(() -> validate(registrationRequest, registrationParameters), executor);
+    }
+
+    /**
+     * Validates the {@link RegistrationData} asynchronously on the specified {@link Executor}.
+     *
+     * @param registrationData       data to validate
+     * @param registrationParameters parameters for validation
+     * @param executor               executor to run the validation on
+     * @return future of the validated {@link RegistrationData}
+     * @see #validateAsync(RegistrationRequest, RegistrationParameters, Executor)
+     */
+    public @NonNull CompletableFuture<RegistrationData> validateAsync(@NonNull RegistrationData registrationData, @NonNull RegistrationParameters registrationParameters, @NonNull Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        return CompletableFuture.supplyAsync(() -> validate(registrationData, registrationParameters), executor);
+    }
+
     public @NonNull RegistrationDataValidator getRegistrationDataValidator() {
         return registrationDataValidator;
     }
 
+    public @NonNull ValidationObserver getValidationObserver() {
+        return registrationDataValidator.getValidationObserver();
+    }
+
+    /**
+     * Sets the observer notified with the elapsed time and the outcome of parsing and each validation step
+     *
+     * @param validationObserver observer
+     */
+    public void setValidationObserver(@NonNull ValidationObserver validationObserver) {
+        registrationDataValidator.setValidationObserver(validationObserver);
+    }
+
 }
@@ -20,18 +20,23 @@ import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.security.cert.TrustAnchor;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * An abstract {@link TrustAnchorsProvider} implementation that provides caching functionality
+ * <p>
+ * The cached {@link TrustAnchor}s are held as an immutable snapshot, which is replaced atomically on {@link #reload()}.
+ * Readers never block once the first snapshot is loaded.
  */
 public abstract class CachingTrustAnchorsProviderBase implements TrustAnchorsProvider {
 
     // ~ Instance fields
     // ================================================================================================
 
-    private Map<AAGUID, Set<TrustAnchor>> cachedTrustAnchors;
+    private final AtomicReference<Map<AAGUID, Set<TrustAnchor>>> cachedTrustAnchors = new AtomicReference<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
 
     // ~ Methods
     // ========================================================================================================
@@ -43,12 +48,39 @@ public abstract class CachingTrustAnchorsProviderBase implements TrustAnchorsPro
      */
     @Override
     public @NonNull Map<AAGUID, Set<TrustAnchor>> provide() {
-        if (cachedTrustAnchors == null) {
-            synchronized (this) {
-                cachedTrustAnchors = loadTrustAnchors();
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = cachedTrustAnchors.get();
+        if (trustAnchors == null) {
+            loadLock.lock();
+            try {
+                trustAnchors = cachedTrustAnchors.get();
+                if (trustAnchors == null) {
+                    trustAnchors = createSnapshot(loadTrustAnchors());
+                    cachedTrustAnchors.set(trustAnchors);
+                }
+            } finally {
+                loadLock.unlock();
             }
         }
-        return cachedTrustAnchors;
+        return trustAnchors;
+    }
+
+    /**
+     * Loads {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map} again, and replaces the cached one.
+     * If loading fails, the cached one is kept.
+     */
+    public void reload() {
+        loadLock.lock();
+        try {
+            cachedTrustAnchors.set(createSnapshot(loadTrustAnchors()));
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private static @NonNull Map<AAGUID, Set<TrustAnchor>> createSnapshot(@NonNull Map<AAGUID, Set<TrustAnchor>> trustAnchors) {
+        Map<AAGUID, Set<TrustAnchor>> snapshot = new HashMap<>();
+        trustAnchors.forEach((aaguid, set) -> snapshot.put(aaguid, Collections.unmodifiableSet(new HashSet<>(set))));
+        return Collections.unmodifiableMap(snapshot);
     }
 
     /**
@@ -22,6 +22,7 @@ import com.webauthn4j.util.CertificateUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -33,7 +34,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-public class CertFileTrustAnchorsProvider extends CachingTrustAnchorsProviderBase {
+public class CertFileTrustAnchorsProvider extends ReloadableTrustAnchorsProviderBase {
 
     private static final String CERTIFICATES_MUST_NOT_BE_NULL = "challenge must not be null";
 
@@ -72,14 +73,19 @@ public class CertFileTrustAnchorsProvider extends CachingTrustAnchorsProviderBas
 
     private @NonNull TrustAnchor loadTrustAnchor(@NonNull Path certificate) {
         AssertUtil.notNull(certificate, CERTIFICATES_MUST_NOT_BE_NULL);
-        try {
-            X509Certificate x509Certificate = CertificateUtil.generateX509Certificate(Files.newInputStream(certificate));
+        try (InputStream inputStream = Files.newInputStream(certificate)) {
+            X509Certificate x509Certificate = CertificateUtil.generateX509Certificate(inputStream);
             return new TrustAnchor(x509Certificate, null);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    @Override
+    protected @NonNull List<Path> getWatchedFiles() {
+        return certificates;
+    }
+
     public @NonNull List<Path> getCertificates() {
         return certificates;
     }
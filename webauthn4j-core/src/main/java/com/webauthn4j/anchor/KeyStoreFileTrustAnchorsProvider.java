@@ -36,7 +36,7 @@ import java.util.*;
 /**
  * Loads {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map} from Java KeyStore file.
  */
-public class KeyStoreFileTrustAnchorsProvider extends CachingTrustAnchorsProviderBase {
+public class KeyStoreFileTrustAnchorsProvider extends ReloadableTrustAnchorsProviderBase {
 
     // ~ Instance fields
     // ================================================================================================
@@ -74,6 +74,11 @@ public class KeyStoreFileTrustAnchorsProvider extends CachingTrustAnchorsProvide
         }
     }
 
+    @Override
+    protected @NonNull List<Path> getWatchedFiles() {
+        return keyStore == null ? Collections.emptyList() : Collections.singletonList(keyStore);
+    }
+
     private @NonNull KeyStore loadKeyStoreFromStream(@NonNull InputStream inputStream, @NonNull String password)
             throws CertificateException, NoSuchAlgorithmException, IOException {
         KeyStore keyStoreObject = CertificateUtil.createKeyStore();
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An abstract {@link CachingTrustAnchorsProviderBase} implementation that reloads trust anchors when the files
+ * they are loaded from are modified.
+ * <p>
+ * Files are polled on the executor given to {@link #startReloading(ScheduledExecutorService, Duration)}.
+ * New trust anchors are loaded on the executor and published as a new snapshot, so that readers never block.
+ */
+public abstract class ReloadableTrustAnchorsProviderBase extends CachingTrustAnchorsProviderBase {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Logger logger = LoggerFactory.getLogger(ReloadableTrustAnchorsProviderBase.class);
+    private final Object reloadingLock = new Object();
+    private volatile Map<Path, FileTime> lastModifiedTimes;
+    private ScheduledFuture<?> reloadingTask;
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Starts polling the files returned by {@link #getWatchedFiles()}.
+     * The executor is not shut down by this class.
+     *
+     * @param executor executor to poll files and to load trust anchors on
+     * @param interval polling interval
+     */
+    public void startReloading(@NonNull ScheduledExecutorService executor, @NonNull Duration interval) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        AssertUtil.notNull(interval, "interval must not be null");
+        AssertUtil.isTrue(!interval.isNegative() && !interval.isZero(), "interval must be positive");
+        synchronized (reloadingLock) {
+            stopReloading();
+            if (lastModifiedTimes == null) {
+                lastModifiedTimes = readLastModifiedTimes();
+            }
+            long millis = interval.toMillis();
+            reloadingTask = executor.scheduleWithFixedDelay(this::reloadQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops polling the files
+     */
+    public void stopReloading() {
+        synchronized (reloadingLock) {
+            if (reloadingTask != null) {
+                reloadingTask.cancel(false);
+                reloadingTask = null;
+            }
+        }
+    }
+
+    /**
+     * Reloads trust anchors if any of the files returned by {@link #getWatchedFiles()} is modified.
+     *
+     * @return true if trust anchors are reloaded
+     */
+    public boolean reloadIfModified() {
+        Map<Path, FileTime> current = readLastModifiedTimes();
+        if (current.equals(lastModifiedTimes)) {
+            return false;
+        }
+        reload();
+        lastModifiedTimes = current;
+        return true;
+    }
+
+    private void reloadQuietly() {
+        try {
+            if (reloadIfModified()) {
+                logger.info("Reloaded trust anchors from {}", getWatchedFiles());
+            }
+        } catch (RuntimeException e) {
+            // keep the current trust anchors, and retry on the next poll
+            logger.warn("Failed to reload trust anchors", e);
+        }
+    }
+
+    private @NonNull Map<Path, FileTime> readLastModifiedTimes() {
+        Map<Path, FileTime> map = new HashMap<>();
+        for (Path file : getWatchedFiles()) {
+            try {
+                map.put(file, Files.getLastModifiedTime(file));
+            } catch (IOException e) {
+                map.put(file, FileTime.fromMillis(0));
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Provides files trust anchors are loaded from
+     *
+     * @return files to watch
+     */
+    protected abstract @NonNull List<Path> getWatchedFiles();
+}
@@ -30,6 +30,11 @@ public interface TrustAnchorsProvider {
 
     /**
      * Provides {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map}
+     * <p>
+     * Implementations should return the same {@link Map} and {@link Set} instances while the trust anchors are unchanged,
+     * and new instances instead of modifying the returned ones when they change. Consumers like
+     * {@link TrustAnchorsResolverImpl} reuse the data derived from them as long as the instances are the same, and
+     * derive it again on every call otherwise.
      *
      * @return {@link AAGUID} key {@link TrustAnchor} {@link Set} value {@link Map}
      */
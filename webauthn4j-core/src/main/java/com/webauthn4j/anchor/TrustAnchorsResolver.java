@@ -17,8 +17,10 @@
 package com.webauthn4j.anchor;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.CertificateUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.security.cert.PKIXParameters;
 import java.security.cert.TrustAnchor;
 import java.util.Set;
 
@@ -34,4 +36,15 @@ public interface TrustAnchorsResolver {
      * @return {@link TrustAnchor} {@link Set}.
      */
     @NonNull Set<TrustAnchor> resolve(@NonNull AAGUID aaguid);
+
+    /**
+     * Creates {@link PKIXParameters} for the {@link TrustAnchor} {@link Set} returned by {@link #resolve(AAGUID)}.
+     * Implementations may override this to reuse precomputed parameters. The returned instance is modified by the caller.
+     *
+     * @param trustAnchors {@link TrustAnchor} {@link Set}
+     * @return {@link PKIXParameters}
+     */
+    default @NonNull PKIXParameters createPKIXParameters(@NonNull Set<TrustAnchor> trustAnchors) {
+        return CertificateUtil.createPKIXParameters(trustAnchors);
+    }
 }
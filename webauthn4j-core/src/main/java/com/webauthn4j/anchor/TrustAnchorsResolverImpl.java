@@ -18,16 +18,20 @@ package com.webauthn4j.anchor;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CertificateUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.security.cert.PKIXParameters;
 import java.security.cert.TrustAnchor;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A {@link TrustAnchorsResolver} implementation that loads {@link TrustAnchor}s with {@link TrustAnchorsProvider}
+ * <p>
+ * The merged trust anchor set and its {@link PKIXParameters} template are kept per {@link AAGUID}, and reused while
+ * {@link TrustAnchorsProvider} provides the same {@link Set} instances for the {@link AAGUID} and {@link AAGUID#NULL}.
+ * Otherwise, the sets are merged on every call.
  */
 public class TrustAnchorsResolverImpl implements TrustAnchorsResolver {
 
@@ -35,6 +39,7 @@ public class TrustAnchorsResolverImpl implements TrustAnchorsResolver {
     // ================================================================================================
 
     private final TrustAnchorsProvider trustAnchorsProvider;
+    private final Map<AAGUID, ResolvedTrustAnchors> resolvedTrustAnchors = new ConcurrentHashMap<>();
 
     // ~ Constructor
     // ========================================================================================================
@@ -55,11 +60,85 @@ public class TrustAnchorsResolverImpl implements TrustAnchorsResolver {
         AssertUtil.notNull(aaguid, "aaguid must not be null");
 
         Map<AAGUID, Set<TrustAnchor>> trustAnchors = trustAnchorsProvider.provide();
+        Set<TrustAnchor> commonTrustAnchors = trustAnchors.getOrDefault(AAGUID.NULL, Collections.emptySet());
+        Set<TrustAnchor> specificTrustAnchors = trustAnchors.get(aaguid);
+        // unknown AAGUIDs share the entry of AAGUID.NULL so that the number of entries is bounded by the provider
+        AAGUID key = specificTrustAnchors == null ? AAGUID.NULL : aaguid;
+        if (specificTrustAnchors == null) {
+            specificTrustAnchors = Collections.emptySet();
+        }
 
-        HashSet<TrustAnchor> set = new HashSet<>();
-        set.addAll(trustAnchors.getOrDefault(AAGUID.NULL, Collections.emptySet()));
-        set.addAll(trustAnchors.getOrDefault(aaguid, Collections.emptySet()));
-        return set;
+        ResolvedTrustAnchors current = resolvedTrustAnchors.get(key);
+        if (current != null && current.isResolvedFrom(commonTrustAnchors, specificTrustAnchors)) {
+            return current;
+        }
+        ResolvedTrustAnchors resolved = new ResolvedTrustAnchors(commonTrustAnchors, specificTrustAnchors);
+        resolvedTrustAnchors.put(key, resolved);
+        return resolved;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the set is returned by {@link #resolve(AAGUID)}, a clone of its cached template is returned.
+     */
+    @Override
+    public @NonNull PKIXParameters createPKIXParameters(@NonNull Set<TrustAnchor> trustAnchors) {
+        AssertUtil.notNull(trustAnchors, "trustAnchors must not be null");
+
+        if (trustAnchors instanceof ResolvedTrustAnchors) {
+            return ((ResolvedTrustAnchors) trustAnchors).createPKIXParameters();
+        }
+        return CertificateUtil.createPKIXParameters(trustAnchors);
+    }
+
+    private static class ResolvedTrustAnchors extends AbstractSet<TrustAnchor> {
+
+        private final Set<TrustAnchor> commonSource;
+        private final Set<TrustAnchor> specificSource;
+        private final int commonSourceSize;
+        private final int specificSourceSize;
+        private final Set<TrustAnchor> trustAnchors;
+        private volatile PKIXParameters template;
+
+        ResolvedTrustAnchors(@NonNull Set<TrustAnchor> commonSource, @NonNull Set<TrustAnchor> specificSource) {
+            this.commonSource = commonSource;
+            this.specificSource = specificSource;
+            this.commonSourceSize = commonSource.size();
+            this.specificSourceSize = specificSource.size();
+            HashSet<TrustAnchor> set = new HashSet<>(commonSource);
+            set.addAll(specificSource);
+            this.trustAnchors = Collections.unmodifiableSet(set);
+        }
+
+        boolean isResolvedFrom(@NonNull Set<TrustAnchor> commonSource, @NonNull Set<TrustAnchor> specificSource) {
+            // sizes are compared as well to detect sets modified in place, as far as it is cheap
+            return this.commonSource == commonSource && this.specificSource == specificSource
+                    && commonSourceSize == commonSource.size() && specificSourceSize == specificSource.size();
+        }
+
+        @NonNull PKIXParameters createPKIXParameters() {
+            PKIXParameters current = template;
+            if (current == null) {
+                current = CertificateUtil.createPKIXParameters(trustAnchors);
+                template = current;
+            }
+            return (PKIXParameters) current.clone();
+        }
+
+        @Override
+        public @NonNull Iterator<TrustAnchor> iterator() {
+            return trustAnchors.iterator();
+        }
+
+        @Override
+        public int size() {
+            return trustAnchors.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return trustAnchors.contains(o);
+        }
     }
 
 }
@@ -35,6 +35,7 @@ public class AttestationObjectConverter {
 
     // ~ Instance fields
     // ================================================================================================
+    private final ObjectConverter objectConverter;
     private final CborConverter cborConverter;
 
     // ~ Constructors
@@ -42,6 +43,7 @@ public class AttestationObjectConverter {
 
     public AttestationObjectConverter(@NonNull ObjectConverter objectConverter) {
         AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.objectConverter = objectConverter;
         this.cborConverter = objectConverter.getCborConverter();
     }
 
@@ -68,6 +70,12 @@ public class AttestationObjectConverter {
      */
     public @Nullable AttestationObject convert(@NonNull byte[] source) {
         AssertUtil.notNull(source, SOURCE_NULL_CHECK_MESSAGE);
+        if (objectConverter.isWebAuthnCborDecoderEnabled()) {
+            AttestationObject attestationObject = WebAuthnCborDecoder.decodeAttestationObject(source, objectConverter);
+            if (attestationObject != null) {
+                return attestationObject;
+            }
+        }
         return cborConverter.readValue(source, AttestationObject.class);
     }
 
@@ -25,6 +25,7 @@ import com.webauthn4j.data.attestation.authenticator.COSEKey;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.UnsignedNumberUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.*;
 import java.nio.ByteBuffer;
@@ -41,10 +42,12 @@ public class AttestedCredentialDataConverter implements Serializable {
     private static final int L_INDEX = AAGUID_INDEX + AAGUID_LENGTH;
     private static final int CREDENTIAL_ID_INDEX = L_INDEX + L_LENGTH;
 
+    private final ObjectConverter objectConverter;
     private final CborConverter cborConverter;
 
     public AttestedCredentialDataConverter(@NonNull ObjectConverter objectConverter) {
         AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.objectConverter = objectConverter;
         this.cborConverter = objectConverter.getCborConverter();
     }
 
@@ -76,15 +79,8 @@ public class AttestedCredentialDataConverter implements Serializable {
         int length = UnsignedNumberUtil.getUnsignedShort(attestedCredentialData);
         byte[] credentialId = new byte[length];
         attestedCredentialData.get(credentialId, 0, length);
-        byte[] remaining = new byte[attestedCredentialData.remaining()];
-        attestedCredentialData.get(remaining);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
-        COSEKeyEnvelope coseKeyEnvelope = convertToCredentialPublicKey(byteArrayInputStream);
-        COSEKey coseKey = coseKeyEnvelope.getCOSEKey();
-        AttestedCredentialData result = new AttestedCredentialData(aaguid, credentialId, coseKey);
-        int extensionsBufferLength = remaining.length - coseKeyEnvelope.getLength();
-        attestedCredentialData.position(attestedCredentialData.position() - extensionsBufferLength);
-        return result;
+        COSEKey coseKey = convertToCredentialPublicKey(attestedCredentialData);
+        return new AttestedCredentialData(aaguid, credentialId, coseKey);
     }
 
     public @NonNull AttestedCredentialData convert(@NonNull byte[] attestedCredentialData) {
@@ -100,11 +96,38 @@ public class AttestedCredentialDataConverter implements Serializable {
      */
     public @NonNull byte[] extractCredentialId(@NonNull byte[] attestedCredentialData) {
         AssertUtil.notNull(attestedCredentialData, ATTESTED_CREDENTIAL_DATA_MUST_NOT_BE_NULL);
-        byte[] lengthBytes = Arrays.copyOfRange(attestedCredentialData, L_INDEX, CREDENTIAL_ID_INDEX);
-        int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(lengthBytes);
+        int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(ByteBuffer.wrap(attestedCredentialData, L_INDEX, L_LENGTH));
         return Arrays.copyOfRange(attestedCredentialData, CREDENTIAL_ID_INDEX, CREDENTIAL_ID_INDEX + credentialIdLength);
     }
 
+    /**
+     * Creates an {@link InputStream} which reads the remaining bytes of the {@link ByteBuffer} without advancing it.
+     * When the buffer is backed by an accessible array, the array is read in place instead of being copied.
+     *
+     * @param byteBuffer the source buffer
+     * @return an {@link InputStream} over the remaining bytes
+     */
+    static @NonNull ByteArrayInputStream createInputStream(@NonNull ByteBuffer byteBuffer) {
+        if (byteBuffer.hasArray()) {
+            return new ByteArrayInputStream(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+        }
+        byte[] remaining = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(remaining);
+        return new ByteArrayInputStream(remaining);
+    }
+
+    private @Nullable COSEKey convertToCredentialPublicKey(@NonNull ByteBuffer byteBuffer) {
+        if (objectConverter.isWebAuthnCborDecoderEnabled()) {
+            COSEKey coseKey = WebAuthnCborDecoder.decodeCOSEKey(byteBuffer);
+            if (coseKey != null) {
+                return coseKey;
+            }
+        }
+        COSEKeyEnvelope coseKeyEnvelope = convertToCredentialPublicKey(createInputStream(byteBuffer));
+        byteBuffer.position(byteBuffer.position() + coseKeyEnvelope.getLength());
+        return coseKeyEnvelope.getCOSEKey();
+    }
+
     @NonNull COSEKeyEnvelope convertToCredentialPublicKey(@NonNull InputStream inputStream) {
         AssertUtil.notNull(inputStream, "inputStream must not be null");
         //noinspection ConstantConditions as input stream is not null
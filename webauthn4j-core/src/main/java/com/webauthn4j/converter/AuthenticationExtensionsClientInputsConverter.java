@@ -30,6 +30,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  */
 public class AuthenticationExtensionsClientInputsConverter {
 
+    private static final TypeReference<AuthenticationExtensionsClientInputs<ExtensionClientInput>> TYPE_REFERENCE = new TypeReference<AuthenticationExtensionsClientInputs<ExtensionClientInput>>() {
+    };
+
     // ~ Instance fields
     // ================================================================================================
     private final JsonConverter jsonConverter;
@@ -45,10 +48,10 @@ public class AuthenticationExtensionsClientInputsConverter {
     // ~ Methods
     // ================================================================================================
 
+    @SuppressWarnings("unchecked")
     public <T extends ExtensionClientInput> @Nullable AuthenticationExtensionsClientInputs<T> convert(@NonNull String value) {
         AssertUtil.notNull(value, "value must not be null");
-        return jsonConverter.readValue(value, new TypeReference<AuthenticationExtensionsClientInputs<T>>() {
-        });
+        return (AuthenticationExtensionsClientInputs<T>) jsonConverter.readValue(value, TYPE_REFERENCE);
     }
 
 
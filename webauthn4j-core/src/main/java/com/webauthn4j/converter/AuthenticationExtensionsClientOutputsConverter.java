@@ -25,11 +25,16 @@ import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.ByteArrayInputStream;
+
 /**
  * Converter for {@link AuthenticationExtensionsClientOutputs}
  */
 public class AuthenticationExtensionsClientOutputsConverter {
 
+    private static final TypeReference<AuthenticationExtensionsClientOutputs<ExtensionClientOutput>> TYPE_REFERENCE = new TypeReference<AuthenticationExtensionsClientOutputs<ExtensionClientOutput>>() {
+    };
+
     // ~ Instance fields
     // ================================================================================================
     private final JsonConverter jsonConverter;
@@ -45,10 +50,26 @@ public class AuthenticationExtensionsClientOutputsConverter {
     // ~ Methods
     // ================================================================================================
 
+    @SuppressWarnings("unchecked")
     public <T extends ExtensionClientOutput> @Nullable AuthenticationExtensionsClientOutputs<T> convert(@NonNull String value) {
         AssertUtil.notNull(value, "value must not be null");
-        return jsonConverter.readValue(value, new TypeReference<AuthenticationExtensionsClientOutputs<T>>() {
-        });
+        return (AuthenticationExtensionsClientOutputs<T>) jsonConverter.readValue(value, TYPE_REFERENCE);
+    }
+
+    /**
+     * Converts the UTF-8 encoded JSON in the specified range of the byte array
+     *
+     * @param source byte array containing the JSON
+     * @param offset offset of the JSON in the byte array
+     * @param length length of the JSON
+     * @param <T>    extension client output type
+     * @return the converted {@link AuthenticationExtensionsClientOutputs}
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ExtensionClientOutput> @Nullable AuthenticationExtensionsClientOutputs<T> convert(@NonNull byte[] source, int offset, int length) {
+        AssertUtil.notNull(source, "source must not be null");
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(source, offset, length);
+        return (AuthenticationExtensionsClientOutputs<T>) jsonConverter.readValue(inputStream, TYPE_REFERENCE);
     }
 
     public <T extends ExtensionClientOutput> @NonNull String convertToString(@NonNull AuthenticationExtensionsClientOutputs<T> value) {
@@ -56,8 +56,13 @@ public class AuthenticatorDataConverter {
     private static final int L_INDEX = ATTESTED_CREDENTIAL_DATA_INDEX + AAGUID_LENGTH;
     private static final int CREDENTIAL_ID_INDEX = L_INDEX + L_LENGTH;
 
+    private static final TypeReference<AuthenticationExtensionsAuthenticatorOutputsEnvelope<ExtensionAuthenticatorOutput>> EXTENSIONS_ENVELOPE_TYPE =
+            new TypeReference<AuthenticationExtensionsAuthenticatorOutputsEnvelope<ExtensionAuthenticatorOutput>>() {
+            };
+
     //~ Instance fields
     // ================================================================================================
+    private final ObjectConverter objectConverter;
     private final CborConverter cborConverter;
     private final AttestedCredentialDataConverter attestedCredentialDataConverter;
 
@@ -66,6 +71,7 @@ public class AuthenticatorDataConverter {
 
     public AuthenticatorDataConverter(@NonNull ObjectConverter objectConverter) {
         AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.objectConverter = objectConverter;
         this.cborConverter = objectConverter.getCborConverter();
         this.attestedCredentialDataConverter = new AttestedCredentialDataConverter(objectConverter);
     }
@@ -148,17 +154,20 @@ public class AuthenticatorDataConverter {
         if (byteBuffer.remaining() == 0) {
             return new AuthenticationExtensionsAuthenticatorOutputs<>();
         }
-        byte[] remaining = new byte[byteBuffer.remaining()];
-        byteBuffer.get(remaining);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
-        AuthenticationExtensionsAuthenticatorOutputsEnvelope<T> envelope =
-                cborConverter.readValue(byteArrayInputStream, new TypeReference<AuthenticationExtensionsAuthenticatorOutputsEnvelope<T>>() {
-                });
+        if (objectConverter.isWebAuthnCborDecoderEnabled()) {
+            AuthenticationExtensionsAuthenticatorOutputs<T> extensions = WebAuthnCborDecoder.decodeExtensions(byteBuffer);
+            if (extensions != null) {
+                return extensions;
+            }
+        }
+        @SuppressWarnings("unchecked")
+        AuthenticationExtensionsAuthenticatorOutputsEnvelope<T> envelope = (AuthenticationExtensionsAuthenticatorOutputsEnvelope<T>)
+                cborConverter.readValue(AttestedCredentialDataConverter.createInputStream(byteBuffer), EXTENSIONS_ENVELOPE_TYPE);
         if(envelope == null){
+            byteBuffer.position(byteBuffer.limit());
             return null;
         }
-        int leftoverLength = remaining.length - envelope.getLength();
-        byteBuffer.position(byteBuffer.position() - leftoverLength);
+        byteBuffer.position(byteBuffer.position() + envelope.getLength());
         return envelope.getAuthenticationExtensionsAuthenticatorOutputs();
     }
 
@@ -169,14 +178,15 @@ public class AuthenticatorDataConverter {
      * @return the extracted attestedCredData byte array
      */
     public @NonNull byte[] extractAttestedCredentialData(@NonNull byte[] authenticatorData) {
-        byte[] lengthBytes = Arrays.copyOfRange(authenticatorData, L_INDEX, CREDENTIAL_ID_INDEX);
-        int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(lengthBytes);
+        int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(ByteBuffer.wrap(authenticatorData, L_INDEX, L_LENGTH));
         int credentialPublicKeyIndex = CREDENTIAL_ID_INDEX + credentialIdLength;
 
-        byte[] attestedCredentialDataBytes = Arrays.copyOfRange(authenticatorData, credentialPublicKeyIndex, authenticatorData.length);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(attestedCredentialDataBytes);
-        COSEKeyEnvelope coseKeyEnvelope = attestedCredentialDataConverter.convertToCredentialPublicKey(byteArrayInputStream);
-        int credentialPublicKeyLength = coseKeyEnvelope.getLength();
+        int credentialPublicKeyLength = objectConverter.isWebAuthnCborDecoderEnabled() ? WebAuthnCborDecoder.getItemLength(authenticatorData, credentialPublicKeyIndex) : -1;
+        if (credentialPublicKeyLength < 0) {
+            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(authenticatorData, credentialPublicKeyIndex, authenticatorData.length - credentialPublicKeyIndex);
+            COSEKeyEnvelope coseKeyEnvelope = attestedCredentialDataConverter.convertToCredentialPublicKey(byteArrayInputStream);
+            credentialPublicKeyLength = coseKeyEnvelope.getLength();
+        }
         int attestedCredentialDataLength = AAGUID_LENGTH + L_LENGTH + credentialIdLength + credentialPublicKeyLength;
         return Arrays.copyOfRange(authenticatorData, ATTESTED_CREDENTIAL_DATA_INDEX, ATTESTED_CREDENTIAL_DATA_INDEX + attestedCredentialDataLength);
     }
@@ -188,8 +198,7 @@ public class AuthenticatorDataConverter {
      * @return the extracted signCount
      */
     public long extractSignCount(@NonNull byte[] authenticatorData) {
-        byte[] counterBytes = Arrays.copyOfRange(authenticatorData, COUNTER_INDEX, COUNTER_INDEX + COUNTER_LENGTH);
-        return UnsignedNumberUtil.getUnsignedInt(counterBytes);
+        return UnsignedNumberUtil.getUnsignedInt(ByteBuffer.wrap(authenticatorData, COUNTER_INDEX, COUNTER_LENGTH));
     }
 
 
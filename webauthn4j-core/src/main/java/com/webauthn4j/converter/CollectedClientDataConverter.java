@@ -33,6 +33,7 @@ public class CollectedClientDataConverter {
 
     //~ Instance fields
     // ================================================================================================
+    private final ObjectConverter objectConverter;
     private final JsonConverter jsonConverter;
 
     //~ Constructors
@@ -40,6 +41,7 @@ public class CollectedClientDataConverter {
 
     public CollectedClientDataConverter(@NonNull ObjectConverter objectConverter) {
         AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.objectConverter = objectConverter;
         this.jsonConverter = objectConverter.getJsonConverter();
     }
 
@@ -67,6 +69,12 @@ public class CollectedClientDataConverter {
      */
     public @Nullable CollectedClientData convert(@NonNull byte[] source) {
         AssertUtil.notNull(source, "source must not be null");
+        if (objectConverter.isCollectedClientDataParserEnabled()) {
+            CollectedClientData collectedClientData = CollectedClientDataParser.parse(source);
+            if (collectedClientData != null) {
+                return collectedClientData;
+            }
+        }
         String jsonString = new String(source, StandardCharsets.UTF_8);
         return jsonConverter.readValue(jsonString, CollectedClientData.class);
     }
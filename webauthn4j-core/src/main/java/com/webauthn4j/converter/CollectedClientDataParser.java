@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.TokenBinding;
+import com.webauthn4j.data.client.TokenBindingStatus;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Parser which reads {@link CollectedClientData} directly from the UTF-8 encoded JSON bytes.
+ * <p>
+ * Only {@code type}, {@code challenge}, {@code origin} and {@code tokenBinding} are materialized. Other members are
+ * validated and skipped in place without creating strings or trees. {@link #parse(byte[])} returns null when the
+ * source is not a plain JSON object of string members, so that the caller can fall back to Jackson, which reports
+ * errors exactly as before.
+ */
+final class CollectedClientDataParser {
+
+    private final JsonBytesReader reader;
+
+    private CollectedClientDataParser(@NonNull byte[] source) {
+        this.reader = new JsonBytesReader(source);
+    }
+
+    /**
+     * Parses a {@link CollectedClientData}
+     *
+     * @param source UTF-8 encoded JSON
+     * @return the parsed {@link CollectedClientData}, or null if the source must be parsed by Jackson
+     */
+    static @Nullable CollectedClientData parse(@NonNull byte[] source) {
+        try {
+            return new CollectedClientDataParser(source).readCollectedClientData();
+        } catch (DataConversionException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private @NonNull CollectedClientData readCollectedClientData() {
+        ClientDataType type = null;
+        Challenge challenge = null;
+        Origin origin = null;
+        TokenBinding tokenBinding = null;
+
+        reader.expect('{');
+        if (!reader.consumeIfNext('}')) {
+            do {
+                String name = reader.readString();
+                reader.expect(':');
+                switch (name) {
+                    case "type":
+                        type = ClientDataType.create(reader.readString());
+                        break;
+                    case "challenge":
+                        challenge = new DefaultChallenge(reader.readString());
+                        break;
+                    case "origin":
+                        origin = Origin.create(reader.readString());
+                        break;
+                    case "tokenBinding":
+                        tokenBinding = readTokenBinding();
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            } while (reader.consumeIfNext(','));
+            reader.expect('}');
+        }
+        reader.expectEnd();
+        return new CollectedClientData(type, challenge, origin, tokenBinding);
+    }
+
+    private @NonNull TokenBinding readTokenBinding() {
+        TokenBindingStatus status = null;
+        String id = null;
+        reader.expect('{');
+        if (!reader.consumeIfNext('}')) {
+            do {
+                String name = reader.readString();
+                reader.expect(':');
+                switch (name) {
+                    case "status":
+                        status = TokenBindingStatus.create(reader.readString());
+                        break;
+                    case "id":
+                        id = reader.readString();
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            } while (reader.consumeIfNext(','));
+            reader.expect('}');
+        }
+        return new TokenBinding(status, id);
+    }
+}
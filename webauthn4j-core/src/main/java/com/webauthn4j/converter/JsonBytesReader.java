@@ -0,0 +1,354 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Minimal pull reader over UTF-8 encoded JSON bytes, used by the converters which read a few well-known members
+ * without building a String or a tree for the whole document.
+ */
+class JsonBytesReader {
+
+    private static final int MAXIMUM_NESTING_DEPTH = 32;
+
+    private static final byte[] BASE64URL_DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(BASE64URL_DECODE_TABLE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL_DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final byte[] source;
+    private int position;
+
+    JsonBytesReader(@NonNull byte[] source) {
+        this.source = source;
+    }
+
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * Consumes the expected structural character, skipping leading whitespace
+     */
+    void expect(char expected) {
+        skipWhitespace();
+        if (next() != expected) {
+            throw error("'" + expected + "' is expected");
+        }
+    }
+
+    /**
+     * Consumes the structural character if it comes next, skipping leading whitespace
+     */
+    boolean consumeIfNext(char expected) {
+        skipWhitespace();
+        return consumeIfNextByte(expected);
+    }
+
+    /**
+     * Consumes a null literal if it comes next, skipping leading whitespace
+     */
+    boolean consumeIfNull() {
+        skipWhitespace();
+        if (position < source.length && source[position] == 'n') {
+            skipLiteral("null");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Verifies that nothing but whitespace is left
+     */
+    void expectEnd() {
+        skipWhitespace();
+        if (position != source.length) {
+            throw error("unexpected trailing data");
+        }
+    }
+
+    @NonNull String readString() {
+        expect('"');
+        int start = position;
+        while (true) {
+            int b = next();
+            if (b == '"') {
+                return new String(source, start, position - 1 - start, StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                position = start;
+                return readEscapedString();
+            }
+            if (b < 0x20) {
+                throw error("control character in string");
+            }
+        }
+    }
+
+    /**
+     * Reads a base64url string member value and decodes it straight into a byte array of the final size.
+     * Padding is accepted but not required.
+     */
+    @NonNull byte[] readBase64Url() {
+        expect('"');
+        int start = position;
+        while (peek() != '"') {
+            position++;
+        }
+        int end = position;
+        position++;
+        int padding = 0;
+        while (end > start && source[end - 1] == '=' && padding < 2) {
+            end--;
+            padding++;
+        }
+        int length = end - start;
+        if (length % 4 == 1 || (padding > 0 && (length + padding) % 4 != 0)) {
+            throw error("invalid base64url length");
+        }
+        byte[] decoded = new byte[length / 4 * 3 + Math.max(length % 4 - 1, 0)];
+        int bits = 0;
+        int bitCount = 0;
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            int b = source[i];
+            int value = b < 0 ? -1 : BASE64URL_DECODE_TABLE[b];
+            if (value < 0) {
+                throw error("invalid base64url character");
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                decoded[index++] = (byte) (bits >> bitCount);
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * Skips the next value
+     *
+     * @return the start offset of the skipped value
+     */
+    int skipValue() {
+        skipWhitespace();
+        int start = position;
+        skipValue(0);
+        return start;
+    }
+
+    private void skipValue(int depth) {
+        if (depth > MAXIMUM_NESTING_DEPTH) {
+            throw error("nesting too deep");
+        }
+        skipWhitespace();
+        switch (peek()) {
+            case '"':
+                skipString();
+                break;
+            case '{':
+                position++;
+                if (!consumeIfNext('}')) {
+                    do {
+                        skipWhitespace();
+                        skipString();
+                        expect(':');
+                        skipValue(depth + 1);
+                    } while (consumeIfNext(','));
+                    expect('}');
+                }
+                break;
+            case '[':
+                position++;
+                if (!consumeIfNext(']')) {
+                    do {
+                        skipValue(depth + 1);
+                    } while (consumeIfNext(','));
+                    expect(']');
+                }
+                break;
+            case 't':
+                skipLiteral("true");
+                break;
+            case 'f':
+                skipLiteral("false");
+                break;
+            case 'n':
+                skipLiteral("null");
+                break;
+            default:
+                skipNumber();
+                break;
+        }
+    }
+
+    private @NonNull String readEscapedString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        int runStart = position;
+        while (true) {
+            int b = next();
+            if (b == '"') {
+                stringBuilder.append(new String(source, runStart, position - 1 - runStart, StandardCharsets.UTF_8));
+                return stringBuilder.toString();
+            }
+            if (b < 0x20) {
+                throw error("control character in string");
+            }
+            if (b == '\\') {
+                stringBuilder.append(new String(source, runStart, position - 1 - runStart, StandardCharsets.UTF_8));
+                stringBuilder.append(readEscape());
+                runStart = position;
+            }
+        }
+    }
+
+    private char readEscape() {
+        int b = next();
+        switch (b) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) b;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(next(), 16);
+                    if (digit < 0) {
+                        throw error("invalid unicode escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw error("invalid escape");
+        }
+    }
+
+    private void skipString() {
+        if (next() != '"') {
+            throw error("string is expected");
+        }
+        while (true) {
+            int b = next();
+            if (b == '"') {
+                return;
+            }
+            if (b < 0x20) {
+                throw error("control character in string");
+            }
+            if (b == '\\') {
+                readEscape();
+            }
+        }
+    }
+
+    private void skipLiteral(@NonNull String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (next() != literal.charAt(i)) {
+                throw error("invalid literal");
+            }
+        }
+    }
+
+    /**
+     * Skips a number, following the JSON grammar: -?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?
+     */
+    private void skipNumber() {
+        consumeIfNextByte('-');
+        if (!consumeIfNextByte('0')) {
+            skipDigits();
+        }
+        if (consumeIfNextByte('.')) {
+            skipDigits();
+        }
+        if (consumeIfNextByte('e') || consumeIfNextByte('E')) {
+            if (!consumeIfNextByte('+')) {
+                consumeIfNextByte('-');
+            }
+            skipDigits();
+        }
+    }
+
+    private void skipDigits() {
+        int start = position;
+        while (position < source.length && source[position] >= '0' && source[position] <= '9') {
+            position++;
+        }
+        if (position == start) {
+            throw error("invalid number");
+        }
+    }
+
+    private boolean consumeIfNextByte(char expected) {
+        if (position < source.length && source[position] == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips whitespace, so that {@link #getPosition()} points to the next token
+     */
+    void skipWhitespace() {
+        while (position < source.length) {
+            byte b = source[position];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private int peek() {
+        if (position >= source.length) {
+            throw error("unexpected end of data");
+        }
+        return source[position] & 0xff;
+    }
+
+    private int next() {
+        int b = peek();
+        position++;
+        return b;
+    }
+
+    private @NonNull DataConversionException error(@NonNull String message) {
+        return new DataConversionException(String.format("Invalid JSON at position %d: %s", position, message));
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticatorTransport;
+import com.webauthn4j.data.RegistrationData;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.data.extension.client.ExtensionClientOutput;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Converter which reads the JSON serialization of a PublicKeyCredential, as posted by the browser, directly into
+ * {@link AuthenticationData} or {@link RegistrationData}.
+ * <p>
+ * The JSON bytes are read in a single pass. Base64url members such as {@code rawId}, {@code clientDataJSON},
+ * {@code authenticatorData}, {@code signature}, {@code userHandle} and {@code attestationObject} are decoded straight
+ * into their final byte arrays, without intermediate Strings. {@code clientExtensionResults} is handed to Jackson as a
+ * byte range. Unknown members are skipped. If both {@code id} and {@code rawId} are present, {@code id} must be the
+ * base64url encoding of {@code rawId}.
+ */
+public class PublicKeyCredentialConverter {
+
+    // ~ Instance fields
+    // ================================================================================================
+    private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter;
+    private final CollectedClientDataConverter collectedClientDataConverter;
+    private final AuthenticatorDataConverter authenticatorDataConverter;
+    private final AttestationObjectConverter attestationObjectConverter;
+    private final AuthenticatorTransportConverter authenticatorTransportConverter;
+
+    // ~ Constructors
+    // ================================================================================================
+
+    public PublicKeyCredentialConverter(@NonNull ObjectConverter objectConverter) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+        this.collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
+        this.authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
+        this.attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+        this.authenticatorTransportConverter = new AuthenticatorTransportConverter();
+    }
+
+    // ~ Methods
+    // ================================================================================================
+
+    /**
+     * Converts the JSON serialization of a PublicKeyCredential returned by navigator.credentials.get to {@link AuthenticationData}
+     *
+     * @param source UTF-8 encoded JSON
+     * @return the converted {@link AuthenticationData}
+     * @throws DataConversionException if the source is not well-formed
+     */
+    public @NonNull AuthenticationData convertToAuthenticationData(@NonNull byte[] source) {
+        AssertUtil.notNull(source, "source must not be null");
+        PublicKeyCredentialMembers members = read(source);
+
+        byte[] authenticatorDataBytes = members.authenticatorData;
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData =
+                authenticatorDataBytes == null ? null : authenticatorDataConverter.convert(authenticatorDataBytes);
+        AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions =
+                convertClientExtensionResults(source, members);
+
+        return new AuthenticationData(
+                members.getCredentialId(),
+                members.userHandle,
+                authenticatorData,
+                authenticatorDataBytes,
+                convertCollectedClientData(members.clientDataJSON),
+                members.clientDataJSON,
+                clientExtensions,
+                members.signature
+        );
+    }
+
+    /**
+     * Converts the JSON serialization of a PublicKeyCredential returned by navigator.credentials.create to {@link RegistrationData}
+     *
+     * @param source UTF-8 encoded JSON
+     * @return the converted {@link RegistrationData}
+     * @throws DataConversionException if the source is not well-formed
+     */
+    public @NonNull RegistrationData convertToRegistrationData(@NonNull byte[] source) {
+        AssertUtil.notNull(source, "source must not be null");
+        PublicKeyCredentialMembers members = read(source);
+
+        byte[] attestationObjectBytes = members.attestationObject;
+        AttestationObject attestationObject =
+                attestationObjectBytes == null ? null : attestationObjectConverter.convert(attestationObjectBytes);
+        AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions =
+                convertClientExtensionResults(source, members);
+        Set<AuthenticatorTransport> transports =
+                members.transports == null ? null : authenticatorTransportConverter.convertSet(members.transports);
+
+        return new RegistrationData(
+                attestationObject,
+                attestationObjectBytes,
+                convertCollectedClientData(members.clientDataJSON),
+                members.clientDataJSON,
+                clientExtensions,
+                transports
+        );
+    }
+
+    private @Nullable CollectedClientData convertCollectedClientData(@Nullable byte[] clientDataJSON) {
+        return clientDataJSON == null ? null : collectedClientDataConverter.convert(clientDataJSON);
+    }
+
+    private <T extends ExtensionClientOutput> @Nullable AuthenticationExtensionsClientOutputs<T> convertClientExtensionResults(
+            @NonNull byte[] source, @NonNull PublicKeyCredentialMembers members) {
+        if (members.clientExtensionResultsLength == 0) {
+            return null;
+        }
+        return authenticationExtensionsClientOutputsConverter.convert(source, members.clientExtensionResultsOffset, members.clientExtensionResultsLength);
+    }
+
+    private static @NonNull PublicKeyCredentialMembers read(@NonNull byte[] source) {
+        JsonBytesReader reader = new JsonBytesReader(source);
+        PublicKeyCredentialMembers members = new PublicKeyCredentialMembers();
+        reader.expect('{');
+        if (!reader.consumeIfNext('}')) {
+            do {
+                String name = reader.readString();
+                reader.expect(':');
+                switch (name) {
+                    case "id":
+                        reader.skipWhitespace();
+                        members.idOffset = reader.getPosition() + 1; // skip the opening quote
+                        members.id = reader.readBase64Url();
+                        members.idLength = reader.getPosition() - 1 - members.idOffset;
+                        break;
+                    case "rawId":
+                        members.rawId = reader.readBase64Url();
+                        break;
+                    case "response":
+                        readResponse(reader, members);
+                        break;
+                    case "clientExtensionResults":
+                        if (!reader.consumeIfNull()) {
+                            members.clientExtensionResultsOffset = reader.skipValue();
+                            members.clientExtensionResultsLength = reader.getPosition() - members.clientExtensionResultsOffset;
+                        }
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            } while (reader.consumeIfNext(','));
+            reader.expect('}');
+        }
+        reader.expectEnd();
+        validateId(source, members);
+        return members;
+    }
+
+    /**
+     * Verifies that {@code id} is the base64url encoding of {@code rawId} as the Web Authentication specification requires
+     */
+    private static void validateId(@NonNull byte[] source, @NonNull PublicKeyCredentialMembers members) {
+        if (members.id == null || members.rawId == null) {
+            return;
+        }
+        byte[] expected = Base64UrlUtil.encode(members.rawId);
+        boolean matches = expected.length == members.idLength;
+        for (int i = 0; matches && i < expected.length; i++) {
+            matches = expected[i] == source[members.idOffset + i];
+        }
+        if (!matches) {
+            throw new DataConversionException("id does not match the base64url encoding of rawId");
+        }
+    }
+
+    private static void readResponse(@NonNull JsonBytesReader reader, @NonNull PublicKeyCredentialMembers members) {
+        reader.expect('{');
+        if (reader.consumeIfNext('}')) {
+            return;
+        }
+        do {
+            String name = reader.readString();
+            reader.expect(':');
+            switch (name) {
+                case "clientDataJSON":
+                    members.clientDataJSON = reader.readBase64Url();
+                    break;
+                case "authenticatorData":
+                    members.authenticatorData = reader.readBase64Url();
+                    break;
+                case "signature":
+                    members.signature = reader.readBase64Url();
+                    break;
+                case "userHandle":
+                    members.userHandle = reader.consumeIfNull() ? null : reader.readBase64Url();
+                    break;
+                case "attestationObject":
+                    members.attestationObject = reader.readBase64Url();
+                    break;
+                case "transports":
+                    members.transports = readStringSet(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        } while (reader.consumeIfNext(','));
+        reader.expect('}');
+    }
+
+    private static @NonNull Set<String> readStringSet(@NonNull JsonBytesReader reader) {
+        Set<String> values = new HashSet<>();
+        reader.expect('[');
+        if (!reader.consumeIfNext(']')) {
+            do {
+                values.add(reader.readString());
+            } while (reader.consumeIfNext(','));
+            reader.expect(']');
+        }
+        return values;
+    }
+
+    /**
+     * Holder of the members read from the PublicKeyCredential JSON
+     */
+    private static class PublicKeyCredentialMembers {
+        private byte[] id;
+        private int idOffset;
+        private int idLength;
+        private byte[] rawId;
+        private byte[] clientDataJSON;
+        private byte[] authenticatorData;
+        private byte[] signature;
+        private byte[] userHandle;
+        private byte[] attestationObject;
+        private Set<String> transports;
+        private int clientExtensionResultsOffset;
+        private int clientExtensionResultsLength;
+
+        private @Nullable byte[] getCredentialId() {
+            return rawId != null ? rawId : id;
+        }
+    }
+}
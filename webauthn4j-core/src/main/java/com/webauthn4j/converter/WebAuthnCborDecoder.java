@@ -0,0 +1,395 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.*;
+import com.webauthn4j.data.attestation.statement.*;
+import com.webauthn4j.data.extension.CredentialProtectionPolicy;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.ExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lightweight CBOR decoder for the fixed WebAuthn structures: the attestation object map, the COSE key map and the
+ * authenticator extension map.
+ * <p>
+ * Only the subset of CBOR those structures use in practice is supported. Each decode method returns null, leaving the
+ * source position untouched, when it meets anything else (indefinite length strings, unknown COSE labels, unknown
+ * extensions, unknown attestation statement formats, malformed data), so that the caller can fall back to Jackson,
+ * which reports errors exactly as before.
+ */
+final class WebAuthnCborDecoder {
+
+    private static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+    private static final int MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+    private static final int MAJOR_TYPE_BYTE_STRING = 2;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+    private static final int MAJOR_TYPE_TAG = 6;
+
+    private static final int INDEFINITE_LENGTH = 31;
+    private static final int BREAK = 0xff;
+
+    private static final int MAXIMUM_NESTING_DEPTH = 16;
+
+    private static final int COSE_KEY_TYPE_EC2 = 2;
+    private static final int COSE_KEY_TYPE_RSA = 3;
+    private static final int COSE_KEY_MAXIMUM_PARAMETER = 8;
+
+    private static final UnsupportedCborException UNSUPPORTED = new UnsupportedCborException();
+
+    private static final Map<String, Class<? extends AttestationStatement>> ATTESTATION_STATEMENT_TYPES = new HashMap<>();
+
+    static {
+        ATTESTATION_STATEMENT_TYPES.put(FIDOU2FAttestationStatement.FORMAT, FIDOU2FAttestationStatement.class);
+        ATTESTATION_STATEMENT_TYPES.put(PackedAttestationStatement.FORMAT, PackedAttestationStatement.class);
+        ATTESTATION_STATEMENT_TYPES.put(AndroidKeyAttestationStatement.FORMAT, AndroidKeyAttestationStatement.class);
+        ATTESTATION_STATEMENT_TYPES.put(AndroidSafetyNetAttestationStatement.FORMAT, AndroidSafetyNetAttestationStatement.class);
+        ATTESTATION_STATEMENT_TYPES.put(TPMAttestationStatement.FORMAT, TPMAttestationStatement.class);
+        ATTESTATION_STATEMENT_TYPES.put(AppleAnonymousAttestationStatement.FORMAT, AppleAnonymousAttestationStatement.class);
+        ATTESTATION_STATEMENT_TYPES.put(NoneAttestationStatement.FORMAT, NoneAttestationStatement.class);
+    }
+
+    private WebAuthnCborDecoder() {
+    }
+
+    /**
+     * Decodes an attestation object. The attestation statement itself is delegated to Jackson as its layout depends
+     * on the format.
+     *
+     * @param source          the source byte array
+     * @param objectConverter the converter used for the attestation statement and the authenticator data
+     * @return the decoded attestation object, or null if the source must be decoded by Jackson
+     */
+    static @Nullable AttestationObject decodeAttestationObject(@NonNull byte[] source, @NonNull ObjectConverter objectConverter) {
+        ByteBuffer buffer = ByteBuffer.wrap(source);
+        String format = null;
+        byte[] authenticatorData = null;
+        int attestationStatementStart = -1;
+        int attestationStatementEnd = -1;
+        try {
+            long size = readMapHeader(buffer);
+            for (long i = 0; hasNext(buffer, size, i); i++) {
+                String key = readTextString(buffer);
+                switch (key) {
+                    case "fmt":
+                        format = readTextString(buffer);
+                        break;
+                    case "attStmt":
+                        attestationStatementStart = buffer.position();
+                        skipItem(buffer, 0);
+                        attestationStatementEnd = buffer.position();
+                        break;
+                    case "authData":
+                        authenticatorData = readByteString(buffer);
+                        break;
+                    default:
+                        skipItem(buffer, 0);
+                        break;
+                }
+            }
+        } catch (UnsupportedCborException | BufferUnderflowException e) {
+            return null;
+        }
+        if (buffer.hasRemaining() || format == null || authenticatorData == null || attestationStatementStart < 0) {
+            return null;
+        }
+        Class<? extends AttestationStatement> attestationStatementType = ATTESTATION_STATEMENT_TYPES.get(format);
+        if (attestationStatementType == null) {
+            return null;
+        }
+
+        CborConverter cborConverter = objectConverter.getCborConverter();
+        AttestationStatement attestationStatement = cborConverter.readValue(
+                new ByteArrayInputStream(source, attestationStatementStart, attestationStatementEnd - attestationStatementStart), attestationStatementType);
+        AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorDataObject = new AuthenticatorDataConverter(objectConverter).convert(authenticatorData);
+        return new AttestationObject(authenticatorDataObject, attestationStatement);
+    }
+
+    /**
+     * Decodes an EC2 or RSA COSE key and advances the buffer past it.
+     *
+     * @param buffer the source buffer
+     * @return the decoded COSE key, or null if the key must be decoded by Jackson
+     */
+    static @Nullable COSEKey decodeCOSEKey(@NonNull ByteBuffer buffer) {
+        int start = buffer.position();
+        try {
+            COSEKey coseKey = readCOSEKey(buffer);
+            if (coseKey == null) {
+                buffer.position(start);
+            }
+            return coseKey;
+        } catch (UnsupportedCborException | BufferUnderflowException | IllegalArgumentException e) {
+            buffer.position(start);
+            return null;
+        }
+    }
+
+    /**
+     * Decodes an authenticator extension map consisting of known extensions only, and advances the buffer past it.
+     *
+     * @param buffer the source buffer
+     * @param <T>    extension type
+     * @return the decoded extensions, or null if the extensions must be decoded by Jackson
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends ExtensionAuthenticatorOutput> @Nullable AuthenticationExtensionsAuthenticatorOutputs<T> decodeExtensions(@NonNull ByteBuffer buffer) {
+        int start = buffer.position();
+        try {
+            CredentialProtectionPolicy credProtect = null;
+            long size = readMapHeader(buffer);
+            for (long i = 0; hasNext(buffer, size, i); i++) {
+                String key = readTextString(buffer);
+                if (!"credProtect".equals(key)) {
+                    throw UNSUPPORTED;
+                }
+                credProtect = CredentialProtectionPolicy.create((byte) readInteger(buffer));
+            }
+            AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> extensions =
+                    new AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration().setCredProtect(credProtect).build();
+            return (AuthenticationExtensionsAuthenticatorOutputs<T>) (AuthenticationExtensionsAuthenticatorOutputs<?>) extensions;
+        } catch (UnsupportedCborException | BufferUnderflowException | IllegalArgumentException e) {
+            buffer.position(start);
+            return null;
+        }
+    }
+
+    /**
+     * Measures the encoded length of the CBOR data item starting at the offset.
+     *
+     * @param source the source byte array
+     * @param offset the offset of the data item
+     * @return the length of the data item, or -1 if the item must be measured by Jackson
+     */
+    static int getItemLength(@NonNull byte[] source, int offset) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(source, offset, source.length - offset);
+            skipItem(buffer, 0);
+            return buffer.position() - offset;
+        } catch (UnsupportedCborException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    private static @Nullable COSEKey readCOSEKey(@NonNull ByteBuffer buffer) {
+        long keyType = -1;
+        byte[] keyId = null;
+        COSEAlgorithmIdentifier algorithm = null;
+        Long curve = null;
+        byte[][] parameters = new byte[COSE_KEY_MAXIMUM_PARAMETER + 1][];
+
+        long size = readMapHeader(buffer);
+        for (long i = 0; hasNext(buffer, size, i); i++) {
+            long label = readInteger(buffer);
+            if (label == 1) {
+                keyType = readInteger(buffer);
+            }
+            else if (label == 2) {
+                keyId = readByteString(buffer);
+            }
+            else if (label == 3) {
+                algorithm = COSEAlgorithmIdentifier.create(readInteger(buffer));
+            }
+            else if (label == -1 && peekMajorType(buffer) != MAJOR_TYPE_BYTE_STRING) {
+                curve = readInteger(buffer);
+            }
+            else if (label < 0 && label >= -COSE_KEY_MAXIMUM_PARAMETER) {
+                parameters[(int) -label] = readByteString(buffer);
+            }
+            else {
+                return null;
+            }
+        }
+
+        if (keyType == COSE_KEY_TYPE_EC2) {
+            if (curve == null || curve < Integer.MIN_VALUE || curve > Integer.MAX_VALUE) {
+                return null;
+            }
+            for (int i = 5; i <= COSE_KEY_MAXIMUM_PARAMETER; i++) {
+                if (parameters[i] != null) {
+                    return null;
+                }
+            }
+            return new EC2COSEKey(keyId, algorithm, null, Curve.create(curve.intValue()), parameters[2], parameters[3], parameters[4]);
+        }
+        if (keyType == COSE_KEY_TYPE_RSA && curve == null) {
+            return new RSACOSEKey(keyId, algorithm, null,
+                    parameters[1], parameters[2], parameters[3], parameters[4], parameters[5], parameters[6], parameters[7], parameters[8]);
+        }
+        return null;
+    }
+
+    private static int peekMajorType(@NonNull ByteBuffer buffer) {
+        return (buffer.get(buffer.position()) & 0xff) >>> 5;
+    }
+
+    private static long readArgument(@NonNull ByteBuffer buffer, int initialByte) {
+        int additionalInformation = initialByte & 0x1f;
+        if (additionalInformation < 24) {
+            return additionalInformation;
+        }
+        switch (additionalInformation) {
+            case 24:
+                return buffer.get() & 0xffL;
+            case 25:
+                return buffer.getShort() & 0xffffL;
+            case 26:
+                return buffer.getInt() & 0xffffffffL;
+            case 27:
+                long value = buffer.getLong();
+                if (value < 0) {
+                    throw UNSUPPORTED;
+                }
+                return value;
+            default:
+                // reserved values and indefinite length items
+                throw UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Reads the header of a map
+     *
+     * @param buffer the source buffer
+     * @return the number of entries, or -1 for an indefinite length map
+     */
+    private static long readMapHeader(@NonNull ByteBuffer buffer) {
+        int initialByte = buffer.get() & 0xff;
+        if (initialByte >>> 5 != MAJOR_TYPE_MAP) {
+            throw UNSUPPORTED;
+        }
+        return readLength(buffer, initialByte);
+    }
+
+    private static long readLength(@NonNull ByteBuffer buffer, int initialByte) {
+        if ((initialByte & 0x1f) == INDEFINITE_LENGTH) {
+            return -1;
+        }
+        return readArgument(buffer, initialByte);
+    }
+
+    /**
+     * Returns whether a map or an array has another item, consuming the break code of an indefinite length one
+     */
+    private static boolean hasNext(@NonNull ByteBuffer buffer, long size, long index) {
+        if (size >= 0) {
+            return index < size;
+        }
+        if ((buffer.get(buffer.position()) & 0xff) == BREAK) {
+            buffer.get();
+            return false;
+        }
+        return true;
+    }
+
+    private static long readInteger(@NonNull ByteBuffer buffer) {
+        int initialByte = buffer.get() & 0xff;
+        switch (initialByte >>> 5) {
+            case MAJOR_TYPE_UNSIGNED_INTEGER:
+                return readArgument(buffer, initialByte);
+            case MAJOR_TYPE_NEGATIVE_INTEGER:
+                return -1 - readArgument(buffer, initialByte);
+            default:
+                throw UNSUPPORTED;
+        }
+    }
+
+    private static @NonNull byte[] readByteString(@NonNull ByteBuffer buffer) {
+        return readString(buffer, MAJOR_TYPE_BYTE_STRING);
+    }
+
+    private static @NonNull String readTextString(@NonNull ByteBuffer buffer) {
+        return new String(readString(buffer, MAJOR_TYPE_TEXT_STRING), StandardCharsets.UTF_8);
+    }
+
+    private static @NonNull byte[] readString(@NonNull ByteBuffer buffer, int majorType) {
+        int initialByte = buffer.get() & 0xff;
+        if (initialByte >>> 5 != majorType) {
+            throw UNSUPPORTED;
+        }
+        long length = readArgument(buffer, initialByte);
+        if (length > buffer.remaining()) {
+            throw UNSUPPORTED;
+        }
+        byte[] value = new byte[(int) length];
+        buffer.get(value);
+        return value;
+    }
+
+    private static void skipItem(@NonNull ByteBuffer buffer, int depth) {
+        if (depth > MAXIMUM_NESTING_DEPTH) {
+            throw UNSUPPORTED;
+        }
+        int initialByte = buffer.get() & 0xff;
+        int majorType = initialByte >>> 5;
+        switch (majorType) {
+            case MAJOR_TYPE_BYTE_STRING:
+            case MAJOR_TYPE_TEXT_STRING:
+                long length = readArgument(buffer, initialByte);
+                if (length > buffer.remaining()) {
+                    throw UNSUPPORTED;
+                }
+                buffer.position(buffer.position() + (int) length);
+                break;
+            case MAJOR_TYPE_ARRAY:
+                long arraySize = readLength(buffer, initialByte);
+                for (long i = 0; hasNext(buffer, arraySize, i); i++) {
+                    skipItem(buffer, depth + 1);
+                }
+                break;
+            case MAJOR_TYPE_MAP:
+                long mapSize = readLength(buffer, initialByte);
+                for (long i = 0; hasNext(buffer, mapSize, i); i++) {
+                    skipItem(buffer, depth + 1);
+                    skipItem(buffer, depth + 1);
+                }
+                break;
+            case MAJOR_TYPE_TAG:
+                readArgument(buffer, initialByte);
+                skipItem(buffer, depth + 1);
+                break;
+            default:
+                // integers and simple values carry no content beyond their argument
+                readArgument(buffer, initialByte);
+                break;
+        }
+    }
+
+    /**
+     * Signals that the data must be decoded by Jackson. Shared and stackless, as it is control flow rather than an error.
+     */
+    private static class UnsupportedCborException extends RuntimeException {
+
+        UnsupportedCborException() {
+            super(null, null, false, false);
+        }
+    }
+}
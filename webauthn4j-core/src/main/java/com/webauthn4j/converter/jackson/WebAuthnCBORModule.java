@@ -51,7 +51,7 @@ public class WebAuthnCBORModule extends SimpleModule {
         this.addDeserializer(AuthenticatorData.class, new AuthenticatorDataDeserializer(objectConverter));
         this.addDeserializer(TPMSAttest.class, new TPMSAttestDeserializer());
         this.addDeserializer(TPMTPublic.class, new TPMTPublicDeserializer());
-        this.addDeserializer(X509Certificate.class, new X509CertificateDeserializer());
+        this.addDeserializer(X509Certificate.class, new X509CertificateDeserializer(objectConverter.getX509CertificateCache()));
         this.addDeserializer(JWS.class, new JWSDeserializer(objectConverter));
 
         this.addSerializer(new AAGUIDSerializer());
@@ -47,7 +47,7 @@ public class WebAuthnJSONModule extends SimpleModule {
         this.addDeserializer(Challenge.class, new ChallengeDeserializer());
         this.addDeserializer(JWS.class, new JWSDeserializer(objectConverter));
         this.addDeserializer(JWSHeader.class, new JWSHeaderDeserializer());
-        this.addDeserializer(X509Certificate.class, new X509CertificateDeserializer());
+        this.addDeserializer(X509Certificate.class, new X509CertificateDeserializer(objectConverter.getX509CertificateCache()));
 
         this.addSerializer(new ChallengeSerializer());
         this.addSerializer(new JWSSerializer());
@@ -19,6 +19,7 @@ package com.webauthn4j.converter.jackson.deserializer;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.webauthn4j.converter.util.X509CertificateCache;
 import com.webauthn4j.util.CertificateUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -31,9 +32,15 @@ import java.security.cert.X509Certificate;
  */
 public class X509CertificateDeserializer extends StdDeserializer<X509Certificate> {
 
+    private final @Nullable X509CertificateCache x509CertificateCache;
 
-    public X509CertificateDeserializer() {
+    public X509CertificateDeserializer(@Nullable X509CertificateCache x509CertificateCache) {
         super(X509Certificate.class);
+        this.x509CertificateCache = x509CertificateCache;
+    }
+
+    public X509CertificateDeserializer() {
+        this(null);
     }
 
     /**
@@ -45,6 +52,9 @@ public class X509CertificateDeserializer extends StdDeserializer<X509Certificate
         if (value.length == 0) {
             return null;
         }
-        return CertificateUtil.generateX509Certificate(value);
+        if (x509CertificateCache == null) {
+            return CertificateUtil.generateX509Certificate(value);
+        }
+        return x509CertificateCache.get(value);
     }
 }
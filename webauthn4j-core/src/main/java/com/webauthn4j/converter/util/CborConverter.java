@@ -21,6 +21,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.webauthn4j.converter.exception.DataConversionException;
@@ -30,8 +32,12 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A utility class for CBOR serialization/deserialization
@@ -42,6 +48,10 @@ public class CborConverter implements Serializable {
 
     private final ObjectMapper cborMapper;
 
+    // ObjectReader and ObjectWriter are immutable and prefetch the root (de)serializer, so they are resolved once per type.
+    private transient ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private transient ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
     CborConverter(@NonNull ObjectMapper cborMapper) {
         AssertUtil.notNull(cborMapper, "cborMapper must not be null");
         AssertUtil.isTrue(cborMapper.getFactory() instanceof CBORFactory, "factory of cborMapper must be CBORFactory.");
@@ -51,7 +61,7 @@ public class CborConverter implements Serializable {
 
     public @Nullable <T> T readValue(@NonNull byte[] src, @NonNull Class<T> valueType) {
         try {
-            return cborMapper.readValue(src, valueType);
+            return getReader(valueType).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -61,7 +71,7 @@ public class CborConverter implements Serializable {
 
     public @Nullable <T> T readValue(@NonNull InputStream src, @NonNull Class<T> valueType) {
         try {
-            return cborMapper.readValue(src, valueType);
+            return getReader(valueType).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -71,7 +81,7 @@ public class CborConverter implements Serializable {
 
     public @Nullable <T> T readValue(@NonNull byte[] src, @NonNull TypeReference<T> valueTypeRef) {
         try {
-            return cborMapper.readValue(src, valueTypeRef);
+            return getReader(valueTypeRef.getType()).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -81,7 +91,7 @@ public class CborConverter implements Serializable {
 
     public @Nullable <T> T readValue(@NonNull InputStream src, @NonNull TypeReference<T> valueTypeRef) {
         try {
-            return cborMapper.readValue(src, valueTypeRef);
+            return getReader(valueTypeRef.getType()).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -101,10 +111,51 @@ public class CborConverter implements Serializable {
 
     public @NonNull byte[] writeValueAsBytes(@Nullable Object value) {
         try {
-            return cborMapper.writeValueAsBytes(value);
+            return getWriter(value).writeValueAsBytes(value);
         } catch (JsonProcessingException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Returns whether this converter has converted a value, that is, whether readers or writers are cached
+     */
+    boolean isUsed() {
+        return !readers.isEmpty() || !writers.isEmpty();
+    }
+
+    private @NonNull ObjectReader getReader(@NonNull Type type) {
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = cborMapper.readerFor(cborMapper.getTypeFactory().constructType(type));
+            ObjectReader existing = readers.putIfAbsent(type, reader);
+            if (existing != null) {
+                reader = existing;
+            }
+        }
+        return reader;
+    }
+
+    private @NonNull ObjectWriter getWriter(@Nullable Object value) {
+        if (value == null) {
+            return cborMapper.writer();
+        }
+        Class<?> type = value.getClass();
+        ObjectWriter writer = writers.get(type);
+        if (writer == null) {
+            writer = cborMapper.writerFor(type);
+            ObjectWriter existing = writers.putIfAbsent(type, writer);
+            if (existing != null) {
+                writer = existing;
+            }
+        }
+        return writer;
+    }
+
+    private void readObject(@NonNull ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        readers = new ConcurrentHashMap<>();
+        writers = new ConcurrentHashMap<>();
+    }
+
 }
@@ -20,6 +20,8 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.webauthn4j.converter.exception.DataConversionException;
@@ -29,8 +31,12 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A utility class for JSON serialization/deserialization
@@ -41,6 +47,10 @@ public class JsonConverter implements Serializable {
 
     private final ObjectMapper jsonMapper;
 
+    // ObjectReader and ObjectWriter are immutable and prefetch the root (de)serializer, so they are resolved once per type.
+    private transient ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private transient ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
     JsonConverter(@NonNull ObjectMapper jsonMapper) {
         AssertUtil.notNull(jsonMapper, "jsonMapper must not be null");
         AssertUtil.isTrue(!(jsonMapper.getFactory() instanceof CBORFactory), "factory of jsonMapper must be JsonFactory.");
@@ -50,7 +60,7 @@ public class JsonConverter implements Serializable {
 
     public <T> @Nullable T readValue(@NonNull String src, @NonNull Class<T> valueType) {
         try {
-            return jsonMapper.readValue(src, valueType);
+            return getReader(valueType).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -60,7 +70,7 @@ public class JsonConverter implements Serializable {
 
     public <T> @Nullable T readValue(@NonNull InputStream src, @NonNull Class<T> valueType) {
         try {
-            return jsonMapper.readValue(src, valueType);
+            return getReader(valueType).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -70,7 +80,7 @@ public class JsonConverter implements Serializable {
 
     public <T> @Nullable T readValue(@NonNull String src, @NonNull TypeReference<T> valueTypeRef) {
         try {
-            return jsonMapper.readValue(src, valueTypeRef);
+            return getReader(valueTypeRef.getType()).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -80,7 +90,7 @@ public class JsonConverter implements Serializable {
 
     public <T> @Nullable T readValue(@NonNull InputStream src, @NonNull TypeReference<T> valueTypeRef) {
         try {
-            return jsonMapper.readValue(src, valueTypeRef);
+            return getReader(valueTypeRef.getType()).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -90,7 +100,7 @@ public class JsonConverter implements Serializable {
 
     public @NonNull byte[] writeValueAsBytes(@Nullable Object value) {
         try {
-            return jsonMapper.writeValueAsBytes(value);
+            return getWriter(value).writeValueAsBytes(value);
         } catch (JsonProcessingException e) {
             throw new UncheckedIOException(e);
         }
@@ -98,10 +108,51 @@ public class JsonConverter implements Serializable {
 
     public @NonNull String writeValueAsString(@Nullable Object value) {
         try {
-            return jsonMapper.writeValueAsString(value);
+            return getWriter(value).writeValueAsString(value);
         } catch (JsonProcessingException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Returns whether this converter has converted a value, that is, whether readers or writers are cached
+     */
+    boolean isUsed() {
+        return !readers.isEmpty() || !writers.isEmpty();
+    }
+
+    private @NonNull ObjectReader getReader(@NonNull Type type) {
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = jsonMapper.readerFor(jsonMapper.getTypeFactory().constructType(type));
+            ObjectReader existing = readers.putIfAbsent(type, reader);
+            if (existing != null) {
+                reader = existing;
+            }
+        }
+        return reader;
+    }
+
+    private @NonNull ObjectWriter getWriter(@Nullable Object value) {
+        if (value == null) {
+            return jsonMapper.writer();
+        }
+        Class<?> type = value.getClass();
+        ObjectWriter writer = writers.get(type);
+        if (writer == null) {
+            writer = jsonMapper.writerFor(type);
+            ObjectWriter existing = writers.putIfAbsent(type, writer);
+            if (existing != null) {
+                writer = existing;
+            }
+        }
+        return writer;
+    }
+
+    private void readObject(@NonNull ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        readers = new ConcurrentHashMap<>();
+        writers = new ConcurrentHashMap<>();
+    }
+
 }
@@ -18,12 +18,14 @@ package com.webauthn4j.converter.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.webauthn4j.converter.jackson.WebAuthnCBORModule;
 import com.webauthn4j.converter.jackson.WebAuthnJSONModule;
 import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Serializable;
 
@@ -32,22 +34,50 @@ import java.io.Serializable;
  */
 public class ObjectConverter implements Serializable {
 
+    private static final String[] ACCESSOR_MODULE_CLASS_NAMES = {
+            "com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+            "com.fasterxml.jackson.module.afterburner.AfterburnerModule"
+    };
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
     private final JsonConverter jsonConverter;
     private final CborConverter cborConverter;
+    private final @Nullable X509CertificateCache x509CertificateCache;
+    private boolean webAuthnCborDecoderEnabled = false;
+    private boolean collectedClientDataParserEnabled = false;
 
-    public ObjectConverter(@NonNull ObjectMapper jsonMapper, @NonNull ObjectMapper cborMapper) {
+    /**
+     * Constructor
+     *
+     * @param jsonMapper           {@link ObjectMapper} for JSON
+     * @param cborMapper           {@link ObjectMapper} for CBOR
+     * @param x509CertificateCache cache shared by X.509 certificate deserialization, or null to parse every certificate
+     */
+    public ObjectConverter(@NonNull ObjectMapper jsonMapper, @NonNull ObjectMapper cborMapper, @Nullable X509CertificateCache x509CertificateCache) {
         AssertUtil.notNull(jsonMapper, "jsonMapper must not be null");
         AssertUtil.notNull(cborMapper, "cborMapper must not be null");
         AssertUtil.isTrue(!(jsonMapper.getFactory() instanceof CBORFactory), "factory of jsonMapper must be JsonFactory.");
         AssertUtil.isTrue(cborMapper.getFactory() instanceof CBORFactory, "factory of cborMapper must be CBORFactory.");
 
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = cborMapper;
         this.jsonConverter = new JsonConverter(jsonMapper);
         this.cborConverter = new CborConverter(cborMapper);
+        this.x509CertificateCache = x509CertificateCache;
 
         initializeJsonMapper(jsonMapper, this);
         initializeCborMapper(cborMapper, this);
     }
 
+    public ObjectConverter(@NonNull ObjectMapper jsonMapper, @NonNull ObjectMapper cborMapper) {
+        this(jsonMapper, cborMapper, null);
+    }
+
+    public ObjectConverter(@Nullable X509CertificateCache x509CertificateCache) {
+        this(new ObjectMapper(), new ObjectMapper(new CBORFactory()), x509CertificateCache);
+    }
+
     public ObjectConverter() {
         this(new ObjectMapper(), new ObjectMapper(new CBORFactory()));
     }
@@ -72,6 +102,43 @@ public class ObjectConverter implements Serializable {
         cborMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
+    /**
+     * Registers a bytecode generating property accessor module, Jackson Blackbird or Afterburner, to the JSON and CBOR
+     * {@link ObjectMapper}s if one of them is on the classpath. Neither is a dependency of webauthn4j.
+     * <p>
+     * This must be called right after construction, before this converter or its {@link ObjectMapper}s are used or
+     * shared with other threads. Registering a module is not thread-safe, and serializers and deserializers already
+     * cached inside the {@link ObjectMapper}s would not use the module. Use by this converter is detected, but use of
+     * {@link ObjectMapper}s passed to the constructor by other code is not.
+     *
+     * @return true if a module is registered
+     * @throws IllegalStateException if this converter has already converted a value
+     */
+    public boolean registerAccessorModuleIfAvailable() {
+        if (jsonConverter.isUsed() || cborConverter.isUsed()) {
+            throw new IllegalStateException("registerAccessorModuleIfAvailable must be called before the ObjectConverter is used");
+        }
+        for (String className : ACCESSOR_MODULE_CLASS_NAMES) {
+            Module jsonModule = createModule(className);
+            Module cborModule = createModule(className);
+            if (jsonModule != null && cborModule != null) {
+                jsonMapper.registerModule(jsonModule);
+                cborMapper.registerModule(cborModule);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static @Nullable Module createModule(@NonNull String className) {
+        try {
+            Class<?> moduleClass = Class.forName(className, true, ObjectConverter.class.getClassLoader());
+            return (Module) moduleClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return null;
+        }
+    }
+
     public @NonNull JsonConverter getJsonConverter() {
         return jsonConverter;
     }
@@ -80,4 +147,36 @@ public class ObjectConverter implements Serializable {
         return cborConverter;
     }
 
+    public @Nullable X509CertificateCache getX509CertificateCache() {
+        return x509CertificateCache;
+    }
+
+    /**
+     * Returns whether attestation objects, COSE keys and authenticator extensions are decoded by the built-in
+     * lightweight CBOR decoder. Data the decoder doesn't support, such as unknown extensions, is still decoded by Jackson.
+     *
+     * @return true if the lightweight CBOR decoder is enabled
+     */
+    public boolean isWebAuthnCborDecoderEnabled() {
+        return webAuthnCborDecoderEnabled;
+    }
+
+    public void setWebAuthnCborDecoderEnabled(boolean webAuthnCborDecoderEnabled) {
+        this.webAuthnCborDecoderEnabled = webAuthnCborDecoderEnabled;
+    }
+
+    /**
+     * Returns whether client data JSON is parsed by the built-in byte level parser. Client data the parser doesn't
+     * support is still parsed by Jackson.
+     *
+     * @return true if the byte level client data parser is enabled
+     */
+    public boolean isCollectedClientDataParserEnabled() {
+        return collectedClientDataParserEnabled;
+    }
+
+    public void setCollectedClientDataParserEnabled(boolean collectedClientDataParserEnabled) {
+        this.collectedClientDataParserEnabled = collectedClientDataParserEnabled;
+    }
+
 }
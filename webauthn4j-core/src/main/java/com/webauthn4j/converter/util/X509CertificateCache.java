@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter.util;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+import com.webauthn4j.util.BoundedConcurrentCache;
+import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.CryptoUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.Serializable;
+import java.security.cert.X509Certificate;
+
+/**
+ * Bounded cache of parsed {@link X509Certificate}s.
+ * <p>
+ * Entries are keyed by the SHA-256 hash of the DER encoding, so byte-identical certificates such as shared
+ * intermediates and batch attestation certificates are parsed once and the same instance is returned to every caller.
+ * Entries are evicted in approximately LRU order when the cache is full, as described in {@link BoundedConcurrentCache}.
+ */
+public class X509CertificateCache implements Serializable {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final BoundedConcurrentCache<String, X509Certificate> entries;
+
+    public X509CertificateCache(int maximumSize) {
+        this.entries = new BoundedConcurrentCache<>(maximumSize);
+    }
+
+    public X509CertificateCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Returns the certificate for the DER encoding, parsing it only if it is not cached yet
+     *
+     * @param encoded DER encoded certificate
+     * @return parsed certificate
+     */
+    public @NonNull X509Certificate get(@NonNull byte[] encoded) {
+        AssertUtil.notNull(encoded, "encoded must not be null");
+        String key = Base64UrlUtil.encodeToString(CryptoUtil.getSHA256().digest(encoded));
+        return entries.computeIfAbsent(key, k -> CertificateUtil.generateX509Certificate(encoded));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return entries.getMaximumSize();
+    }
+
+    public long getHitCount() {
+        return entries.getHitCount();
+    }
+
+    public long getMissCount() {
+        return entries.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+}
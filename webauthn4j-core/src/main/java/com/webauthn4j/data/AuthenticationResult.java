@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.exception.WebAuthnException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Result of an item of batch authentication validation, which holds either the validated {@link AuthenticationData}
+ * or the exception thrown during parsing or validation of the {@link AuthenticationRequest}
+ */
+public class AuthenticationResult {
+
+    private final AuthenticationRequest authenticationRequest;
+    private final AuthenticationData authenticationData;
+    private final RuntimeException exception;
+
+    private AuthenticationResult(@NonNull AuthenticationRequest authenticationRequest, @Nullable AuthenticationData authenticationData, @Nullable RuntimeException exception) {
+        AssertUtil.notNull(authenticationRequest, "authenticationRequest must not be null");
+        this.authenticationRequest = authenticationRequest;
+        this.authenticationData = authenticationData;
+        this.exception = exception;
+    }
+
+    public static @NonNull AuthenticationResult success(@NonNull AuthenticationRequest authenticationRequest, @NonNull AuthenticationData authenticationData) {
+        AssertUtil.notNull(authenticationData, "authenticationData must not be null");
+        return new AuthenticationResult(authenticationRequest, authenticationData, null);
+    }
+
+    public static @NonNull AuthenticationResult failure(@NonNull AuthenticationRequest authenticationRequest, @NonNull RuntimeException exception) {
+        AssertUtil.notNull(exception, "exception must not be null");
+        return new AuthenticationResult(authenticationRequest, null, exception);
+    }
+
+    public @NonNull AuthenticationRequest getAuthenticationRequest() {
+        return authenticationRequest;
+    }
+
+    /**
+     * Returns the validated {@link AuthenticationData}
+     *
+     * @return the validated {@link AuthenticationData}, or null if the validation failed
+     */
+    public @Nullable AuthenticationData getAuthenticationData() {
+        return authenticationData;
+    }
+
+    /**
+     * Returns the exception thrown during parsing or validation. It is usually a {@link WebAuthnException}.
+     *
+     * @return the exception, or null if the validation succeeded
+     */
+    public @Nullable RuntimeException getException() {
+        return exception;
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AuthenticationResult that = (AuthenticationResult) o;
+        return Objects.equals(authenticationRequest, that.authenticationRequest) &&
+                Objects.equals(authenticationData, that.authenticationData) &&
+                Objects.equals(exception, that.exception);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(authenticationRequest, authenticationData, exception);
+    }
+}
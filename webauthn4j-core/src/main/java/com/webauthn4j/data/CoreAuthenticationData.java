@@ -22,6 +22,7 @@ import com.webauthn4j.util.ArrayUtil;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -59,10 +60,28 @@ public class CoreAuthenticationData implements Serializable {
         return ArrayUtil.clone(authenticatorDataBytes);
     }
 
+    /**
+     * Returns a read-only view of the authenticatorData bytes without copying them.
+     *
+     * @return a read-only {@link ByteBuffer} of the authenticatorData bytes
+     */
+    public @Nullable ByteBuffer getAuthenticatorDataBuffer() {
+        return authenticatorDataBytes == null ? null : ByteBuffer.wrap(authenticatorDataBytes).asReadOnlyBuffer();
+    }
+
     public @Nullable byte[] getClientDataHash() {
         return ArrayUtil.clone(clientDataHash);
     }
 
+    /**
+     * Returns a read-only view of the clientDataHash without copying it.
+     *
+     * @return a read-only {@link ByteBuffer} of the clientDataHash
+     */
+    public @Nullable ByteBuffer getClientDataHashBuffer() {
+        return clientDataHash == null ? null : ByteBuffer.wrap(clientDataHash).asReadOnlyBuffer();
+    }
+
     public @Nullable byte[] getSignature() {
         return ArrayUtil.clone(signature);
     }
@@ -22,8 +22,10 @@ import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.data.attestation.statement.COSEKeyOperation;
 import com.webauthn4j.data.attestation.statement.COSEKeyType;
 import com.webauthn4j.util.ArrayUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.security.PublicKey;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -42,6 +44,10 @@ public abstract class AbstractCOSEKey implements COSEKey {
     @JsonProperty("5")
     private final byte[] baseIV;
 
+    // Materialized JCA public key is memoized as the same credential public key is verified repeatedly.
+    // It is transient as it can be re-materialized from the serialized key parameters.
+    private transient volatile PublicKey publicKey;
+
     @SuppressWarnings("SameParameterValue")
     @JsonCreator
     AbstractCOSEKey(
@@ -75,6 +81,26 @@ public abstract class AbstractCOSEKey implements COSEKey {
         return ArrayUtil.clone(baseIV);
     }
 
+    @Override
+    public @Nullable PublicKey getPublicKey() {
+        PublicKey value = publicKey;
+        if (value == null) {
+            if (!hasPublicKey()) {
+                return null;
+            }
+            value = createPublicKey();
+            publicKey = value;
+        }
+        return value;
+    }
+
+    /**
+     * Materializes JCA {@link PublicKey} from the key parameters. Called only when {@link #hasPublicKey()} is true.
+     *
+     * @return public key
+     */
+    abstract @NonNull PublicKey createPublicKey();
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) return true;
@@ -260,15 +260,10 @@ public class EC2COSEKey extends AbstractCOSEKey implements Serializable {
     }
 
     @Override
-    public @Nullable PublicKey getPublicKey() {
-
-        if (!hasPublicKey()) {
-            return null;
-        }
-
+    @NonNull PublicKey createPublicKey() {
         ECPoint ecPoint = new ECPoint(
-                new BigInteger(1, getX()),
-                new BigInteger(1, getY())
+                new BigInteger(1, x),
+                new BigInteger(1, y)
         );
         if (curve == null) {
             throw new IllegalStateException(CURVE_NULL_CHECK_MESSAGE);
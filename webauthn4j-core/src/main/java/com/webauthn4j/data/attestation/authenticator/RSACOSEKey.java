@@ -233,13 +233,10 @@ public class RSACOSEKey extends AbstractCOSEKey {
     }
 
     @Override
-    public PublicKey getPublicKey() {
-        if (!hasPublicKey()) {
-            return null;
-        }
+    @NonNull PublicKey createPublicKey() {
         RSAPublicKeySpec spec = new RSAPublicKeySpec(
-                new BigInteger(1, getN()),
-                new BigInteger(1, getE())
+                new BigInteger(1, n),
+                new BigInteger(1, e)
         );
         return RSAUtil.createPublicKey(spec);
     }
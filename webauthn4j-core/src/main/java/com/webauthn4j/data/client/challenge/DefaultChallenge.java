@@ -19,12 +19,11 @@ package com.webauthn4j.data.client.challenge;
 import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.Base64UrlUtil;
+import com.webauthn4j.util.SecureRandomUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.UUID;
 
 public class DefaultChallenge implements Challenge {
     private final byte[] value;
@@ -44,11 +43,11 @@ public class DefaultChallenge implements Challenge {
         this.value = Base64UrlUtil.decode(base64urlString);
     }
 
+    /**
+     * Creates a new instance with a random 16 bytes value
+     */
     public DefaultChallenge() {
-        UUID uuid = UUID.randomUUID();
-        long hi = uuid.getMostSignificantBits();
-        long lo = uuid.getLeastSignificantBits();
-        this.value = ByteBuffer.allocate(16).putLong(hi).putLong(lo).array();
+        this.value = SecureRandomUtil.nextBytes(16);
     }
 
     @Override
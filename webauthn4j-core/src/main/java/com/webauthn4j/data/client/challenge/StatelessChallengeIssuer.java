@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data.client.challenge;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.HKDFUtil;
+import com.webauthn4j.util.MACUtil;
+import com.webauthn4j.util.SecureRandomUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Issues challenges which can be verified without storing them on the server.
+ * <p>
+ * An issued challenge consists of 16 random bytes, the expiry in epoch seconds, and a HMAC-SHA256 truncated to
+ * 16 bytes over them and a caller-supplied context, keyed by a key derived from the server secret with HKDF.
+ * Any server sharing the same secret can verify the challenge for the same context. The context must bind the
+ * challenge to the ceremony type and to the session or user it is issued to, so that it is not accepted for another
+ * ceremony, session or user. To verify stateless challenges, set this issuer to the validators and pass the context
+ * with {@link com.webauthn4j.server.ServerProperty#withStatelessChallengeContext(byte[])}.
+ * <p>
+ * Unlike a stored challenge, a stateless challenge is not consumed on use and can be replayed in the same context
+ * until it expires, so the validity should be kept short.
+ */
+public class StatelessChallengeIssuer {
+
+    private static final int NONCE_LENGTH = 16;
+    private static final int EXPIRY_LENGTH = 8;
+    private static final int MAC_LENGTH = 16;
+    private static final int CHALLENGE_LENGTH = NONCE_LENGTH + EXPIRY_LENGTH + MAC_LENGTH;
+    private static final int MIN_SECRET_LENGTH = 16;
+    private static final Duration DEFAULT_VALIDITY = Duration.ofMinutes(5);
+    private static final byte[] KEY_INFO = "webauthn4j stateless challenge".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] key;
+    private final Duration validity;
+
+    /**
+     * Creates a new instance
+     *
+     * @param secret   server secret of at least 16 bytes, shared by the servers verifying the challenges
+     * @param validity validity of issued challenges
+     */
+    public StatelessChallengeIssuer(@NonNull byte[] secret, @NonNull Duration validity) {
+        AssertUtil.notNull(secret, "secret must not be null");
+        AssertUtil.notNull(validity, "validity must not be null");
+        AssertUtil.isTrue(secret.length >= MIN_SECRET_LENGTH, "secret must be at least " + MIN_SECRET_LENGTH + " bytes");
+        AssertUtil.isTrue(!validity.isNegative() && !validity.isZero(), "validity must be positive");
+        this.key = HKDFUtil.calculateHKDFSHA256(secret, new byte[0], KEY_INFO, 32);
+        this.validity = validity;
+    }
+
+    /**
+     * Creates a new instance whose challenges are valid for 5 minutes
+     *
+     * @param secret server secret of at least 16 bytes, shared by the servers verifying the challenges
+     */
+    public StatelessChallengeIssuer(@NonNull byte[] secret) {
+        this(secret, DEFAULT_VALIDITY);
+    }
+
+    /**
+     * Issues a challenge valid from now
+     *
+     * @param context context the challenge is bound to, such as the ceremony type and the session identifier
+     * @return challenge
+     */
+    public @NonNull Challenge issue(@NonNull byte[] context) {
+        return issue(context, Instant.now());
+    }
+
+    /**
+     * Issues a challenge valid from the specified time
+     *
+     * @param context  context the challenge is bound to, such as the ceremony type and the session identifier
+     * @param issuedAt issued time
+     * @return challenge
+     */
+    public @NonNull Challenge issue(@NonNull byte[] context, @NonNull Instant issuedAt) {
+        AssertUtil.notNull(context, "context must not be null");
+        AssertUtil.notNull(issuedAt, "issuedAt must not be null");
+        long expiry = issuedAt.plus(validity).getEpochSecond();
+        byte[] nonceAndExpiry = ByteBuffer.allocate(NONCE_LENGTH + EXPIRY_LENGTH)
+                .put(SecureRandomUtil.nextBytes(NONCE_LENGTH))
+                .putLong(expiry)
+                .array();
+        byte[] mac = calculateMac(nonceAndExpiry, context);
+        return new DefaultChallenge(ByteBuffer.allocate(CHALLENGE_LENGTH).put(nonceAndExpiry).put(mac).array());
+    }
+
+    /**
+     * Verifies that the challenge is issued with the same secret for the context and is not expired
+     *
+     * @param challenge challenge
+     * @param context   context passed to {@link #issue(byte[])}
+     * @return true if the challenge is valid
+     */
+    public boolean isValid(@NonNull Challenge challenge, @NonNull byte[] context) {
+        return isValid(challenge, context, Instant.now());
+    }
+
+    /**
+     * Verifies that the challenge is issued with the same secret for the context and is not expired at the specified time
+     *
+     * @param challenge challenge
+     * @param context   context passed to {@link #issue(byte[])}
+     * @param now       time to check the expiry
+     * @return true if the challenge is valid
+     */
+    public boolean isValid(@NonNull Challenge challenge, @NonNull byte[] context, @NonNull Instant now) {
+        AssertUtil.notNull(challenge, "challenge must not be null");
+        AssertUtil.notNull(context, "context must not be null");
+        AssertUtil.notNull(now, "now must not be null");
+        byte[] value = challenge.getValue();
+        if (value.length != CHALLENGE_LENGTH) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        byte[] nonceAndExpiry = new byte[NONCE_LENGTH + EXPIRY_LENGTH];
+        byte[] mac = new byte[MAC_LENGTH];
+        buffer.get(nonceAndExpiry).get(mac);
+        if (!MessageDigest.isEqual(calculateMac(nonceAndExpiry, context), mac)) {
+            return false;
+        }
+        long expiry = ByteBuffer.wrap(nonceAndExpiry, NONCE_LENGTH, EXPIRY_LENGTH).getLong();
+        return now.getEpochSecond() <= expiry;
+    }
+
+    private @NonNull byte[] calculateMac(@NonNull byte[] nonceAndExpiry, @NonNull byte[] context) {
+        byte[] message = ByteBuffer.allocate(nonceAndExpiry.length + context.length).put(nonceAndExpiry).put(context).array();
+        return MACUtil.calculateHmacSHA256(message, key, MAC_LENGTH);
+    }
+
+    public @NonNull Duration getValidity() {
+        return validity;
+    }
+}
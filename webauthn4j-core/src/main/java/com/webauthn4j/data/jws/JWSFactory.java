@@ -20,7 +20,7 @@ import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.Base64UrlUtil;
-import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.CryptoUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.io.Serializable;
@@ -57,7 +57,7 @@ public class JWSFactory {
         if(header.getAlg() == null){
             throw new IllegalArgumentException("alg must not be null");
         }
-        Signature signatureObj = SignatureUtil.createSignature(header.getAlg().getJcaName());
+        Signature signatureObj = CryptoUtil.getSignature(header.getAlg().getJcaName());
         try {
             signatureObj.initSign(privateKey);
             signatureObj.update(signedData.getBytes());
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.revocation;
+
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.security.PublicKey;
+import java.security.cert.*;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link PKIXCertPathChecker} that checks revocation status of certificates with {@link CRLStore}, without I/O.
+ * Only reverse checking (from the trust anchor to the target certificate) is supported.
+ */
+public class CRLRevocationChecker extends PKIXCertPathChecker {
+
+    private final CRLStore crlStore;
+    private final Set<TrustAnchor> trustAnchors;
+    private final Date date;
+    private final boolean unknownStatusAllowed;
+    private X509Certificate previousCertificate;
+
+    /**
+     * Constructor
+     *
+     * @param crlStore             CRL store
+     * @param trustAnchors         trust anchors the cert path is validated with, used to find the issuer of the first certificate
+     * @param date                 the time the cert path is validated at
+     * @param unknownStatusAllowed true to accept certificates whose revocation status is unknown
+     */
+    public CRLRevocationChecker(@NonNull CRLStore crlStore, @NonNull Set<TrustAnchor> trustAnchors, @NonNull Date date, boolean unknownStatusAllowed) {
+        AssertUtil.notNull(crlStore, "crlStore must not be null");
+        AssertUtil.notNull(trustAnchors, "trustAnchors must not be null");
+        AssertUtil.notNull(date, "date must not be null");
+        this.crlStore = crlStore;
+        this.trustAnchors = trustAnchors;
+        this.date = new Date(date.getTime());
+        this.unknownStatusAllowed = unknownStatusAllowed;
+    }
+
+    @Override
+    public void init(boolean forward) throws CertPathValidatorException {
+        if (forward) {
+            throw new CertPathValidatorException("forward checking is not supported");
+        }
+        previousCertificate = null;
+    }
+
+    @Override
+    public boolean isForwardCheckingSupported() {
+        return false;
+    }
+
+    @Override
+    public @Nullable Set<String> getSupportedExtensions() {
+        return null;
+    }
+
+    @Override
+    public void check(@NonNull Certificate certificate, @NonNull Collection<String> unresolvedCritExts) throws CertPathValidatorException {
+        X509Certificate x509Certificate = (X509Certificate) certificate;
+        PublicKey issuerPublicKey = previousCertificate == null ? findTrustAnchorPublicKey(x509Certificate) : previousCertificate.getPublicKey();
+        previousCertificate = x509Certificate;
+        RevocationStatus status = issuerPublicKey == null ? RevocationStatus.UNKNOWN : crlStore.getRevocationStatus(x509Certificate, issuerPublicKey, date);
+        if (status == RevocationStatus.REVOKED) {
+            throw new CertPathValidatorException("certificate is revoked: " + x509Certificate.getSubjectX500Principal(),
+                    null, null, -1, CertPathValidatorException.BasicReason.REVOKED);
+        }
+        if (status == RevocationStatus.UNKNOWN && !unknownStatusAllowed) {
+            throw new CertPathValidatorException("revocation status is unknown: " + x509Certificate.getSubjectX500Principal(),
+                    null, null, -1, CertPathValidatorException.BasicReason.UNDETERMINED_REVOCATION_STATUS);
+        }
+    }
+
+    /**
+     * Checks all certificates in the cert path in reverse order, as {@link CertPathValidator} does.
+     *
+     * @param certPath cert path whose first certificate is the target certificate
+     * @throws CertPathValidatorException if a certificate is revoked, or its revocation status is unknown and it is not allowed
+     */
+    public void check(@NonNull CertPath certPath) throws CertPathValidatorException {
+        AssertUtil.notNull(certPath, "certPath must not be null");
+        init(false);
+        List<? extends Certificate> certificates = certPath.getCertificates();
+        for (int i = certificates.size() - 1; i >= 0; i--) {
+            check(certificates.get(i), Collections.emptySet());
+        }
+    }
+
+    private @Nullable PublicKey findTrustAnchorPublicKey(@NonNull X509Certificate certificate) {
+        for (TrustAnchor trustAnchor : trustAnchors) {
+            X509Certificate trustedCert = trustAnchor.getTrustedCert();
+            if (trustedCert != null && trustedCert.getSubjectX500Principal().equals(certificate.getIssuerX500Principal())) {
+                return trustedCert.getPublicKey();
+            }
+            if (trustedCert == null && trustAnchor.getCA() != null && trustAnchor.getCA().equals(certificate.getIssuerX500Principal())) {
+                return trustAnchor.getCAPublicKey();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.revocation;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.security.cert.X509CRL;
+import java.util.Collection;
+
+/**
+ * Core interface that loads {@link X509CRL}s for {@link CRLStore}
+ */
+public interface CRLSource {
+
+    /**
+     * Loads {@link X509CRL}s
+     *
+     * @return {@link X509CRL}s
+     */
+    @NonNull Collection<X509CRL> load();
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.revocation;
+
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory store of {@link X509CRL}s indexed by issuer and serial number.
+ * <p>
+ * CRLs are loaded from {@link CRLSource} only by {@link #refresh()}, which can be run in the background with
+ * {@link #startRefreshing(ScheduledExecutorService, Duration)}. Revocation status lookups never do I/O, and report
+ * {@link RevocationStatus#UNKNOWN} until CRLs are loaded for the first time.
+ * <p>
+ * All CRLs of an issuer name are kept, so that CRLs signed by the previous and the new key of a CA are both available
+ * across a key rollover. A lookup uses the latest CRL signed by the issuer public key of the certificate being checked.
+ * CRL signatures are verified lazily, and the result is memoized per issuer key.
+ */
+public class CRLStore {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Logger logger = LoggerFactory.getLogger(CRLStore.class);
+    private final CRLSource crlSource;
+    private final AtomicReference<Map<X500Principal, List<IndexedCRL>>> index = new AtomicReference<>(Collections.emptyMap());
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final Object refreshingLock = new Object();
+    private ScheduledFuture<?> refreshingTask;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    public CRLStore(@NonNull CRLSource crlSource) {
+        AssertUtil.notNull(crlSource, "crlSource must not be null");
+        this.crlSource = crlSource;
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Determines the revocation status of the certificate
+     *
+     * @param certificate     certificate to check
+     * @param issuerPublicKey public key of the certificate issuer, used to verify the CRL signature
+     * @param date            the time the certificate is checked at
+     * @return revocation status
+     */
+    public @NonNull RevocationStatus getRevocationStatus(@NonNull X509Certificate certificate, @NonNull PublicKey issuerPublicKey, @NonNull Date date) {
+        AssertUtil.notNull(certificate, "certificate must not be null");
+        AssertUtil.notNull(issuerPublicKey, "issuerPublicKey must not be null");
+        AssertUtil.notNull(date, "date must not be null");
+
+        List<IndexedCRL> indexedCRLs = index.get().getOrDefault(certificate.getIssuerX500Principal(), Collections.emptyList());
+        for (IndexedCRL indexedCRL : indexedCRLs) {
+            // CRLs are sorted from the latest, so the first one signed by the issuer key is used
+            if (indexedCRL.isSignedBy(issuerPublicKey)) {
+                if (indexedCRL.isExpired(date)) {
+                    return RevocationStatus.UNKNOWN;
+                }
+                return indexedCRL.revokedSerialNumbers.contains(certificate.getSerialNumber()) ? RevocationStatus.REVOKED : RevocationStatus.GOOD;
+            }
+        }
+        return RevocationStatus.UNKNOWN;
+    }
+
+    /**
+     * Loads CRLs from {@link CRLSource} again, and replaces the index. If loading fails, the current index is kept.
+     */
+    public void refresh() {
+        loadLock.lock();
+        try {
+            index.set(createIndex(crlSource.load()));
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Starts refreshing CRLs periodically, beginning immediately. The executor is not shut down by this class.
+     *
+     * @param executor executor to load CRLs on
+     * @param interval refresh interval
+     */
+    public void startRefreshing(@NonNull ScheduledExecutorService executor, @NonNull Duration interval) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        AssertUtil.notNull(interval, "interval must not be null");
+        AssertUtil.isTrue(!interval.isNegative() && !interval.isZero(), "interval must be positive");
+        synchronized (refreshingLock) {
+            stopRefreshing();
+            long millis = interval.toMillis();
+            refreshingTask = executor.scheduleWithFixedDelay(this::refreshQuietly, 0, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops refreshing CRLs
+     */
+    public void stopRefreshing() {
+        synchronized (refreshingLock) {
+            if (refreshingTask != null) {
+                refreshingTask.cancel(false);
+                refreshingTask = null;
+            }
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // keep the current CRLs, and retry on the next refresh
+            logger.warn("Failed to refresh CRLs", e);
+        }
+    }
+
+    private static @NonNull Map<X500Principal, List<IndexedCRL>> createIndex(@NonNull Collection<X509CRL> crls) {
+        Map<X500Principal, List<IndexedCRL>> map = new HashMap<>();
+        for (X509CRL crl : crls) {
+            map.computeIfAbsent(crl.getIssuerX500Principal(), key -> new ArrayList<>()).add(new IndexedCRL(crl));
+        }
+        for (List<IndexedCRL> list : map.values()) {
+            list.sort(Comparator.comparing((IndexedCRL indexedCRL) -> indexedCRL.crl.getThisUpdate()).reversed());
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static class IndexedCRL {
+
+        private final X509CRL crl;
+        private final Set<BigInteger> revokedSerialNumbers;
+        private final Map<PublicKey, Boolean> signatureVerificationResults = new ConcurrentHashMap<>();
+
+        IndexedCRL(@NonNull X509CRL crl) {
+            this.crl = crl;
+            Set<BigInteger> set = new HashSet<>();
+            Set<? extends X509CRLEntry> entries = crl.getRevokedCertificates();
+            if (entries != null) {
+                for (X509CRLEntry entry : entries) {
+                    set.add(entry.getSerialNumber());
+                }
+            }
+            this.revokedSerialNumbers = Collections.unmodifiableSet(set);
+        }
+
+        boolean isExpired(@NonNull Date date) {
+            return crl.getNextUpdate() != null && crl.getNextUpdate().before(date);
+        }
+
+        boolean isSignedBy(@NonNull PublicKey publicKey) {
+            return signatureVerificationResults.computeIfAbsent(publicKey, key -> {
+                try {
+                    crl.verify(key);
+                    return true;
+                } catch (GeneralSecurityException | RuntimeException e) {
+                    return false;
+                }
+            });
+        }
+    }
+}
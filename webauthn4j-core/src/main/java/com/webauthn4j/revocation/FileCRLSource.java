@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.revocation;
+
+import com.webauthn4j.util.AssertUtil;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.CRL;
+import java.security.cert.CRLException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loads PEM or DER encoded {@link X509CRL}s from local files
+ */
+public class FileCRLSource implements CRLSource {
+
+    private final List<Path> crls;
+
+    public FileCRLSource(@NonNull List<Path> crls) {
+        AssertUtil.notNull(crls, "crls must not be null");
+        this.crls = crls;
+    }
+
+    @Override
+    public @NonNull Collection<X509CRL> load() {
+        List<X509CRL> list = new ArrayList<>();
+        try {
+            CertificateFactory certificateFactory = CertificateFactory.getInstance("X.509");
+            for (Path path : crls) {
+                try (InputStream inputStream = Files.newInputStream(path)) {
+                    for (CRL crl : certificateFactory.generateCRLs(inputStream)) {
+                        list.add((X509CRL) crl);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (CertificateException | CRLException e) {
+            throw new IllegalStateException("Failed to load CRL", e);
+        }
+        return list;
+    }
+
+    public @NonNull List<Path> getCRLs() {
+        return crls;
+    }
+}
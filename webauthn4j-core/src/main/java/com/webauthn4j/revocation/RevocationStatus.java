@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.revocation;
+
+/**
+ * Revocation status of a certificate determined by {@link CRLStore}
+ */
+public enum RevocationStatus {
+
+    /**
+     * The certificate is not listed in a valid CRL of its issuer
+     */
+    GOOD,
+
+    /**
+     * The certificate is listed in a valid CRL of its issuer
+     */
+    REVOKED,
+
+    /**
+     * No valid CRL of the issuer is available
+     */
+    UNKNOWN
+
+}
@@ -17,21 +17,41 @@
 package com.webauthn4j.server;
 
 import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CryptoUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Objects;
 
 public class CoreServerProperty implements Serializable {
 
     private final String rpId;
+    private final byte[] rpIdHash;
     private final Challenge challenge;
 
     public CoreServerProperty(@NonNull String rpId, @Nullable Challenge challenge) {
         AssertUtil.notNull(rpId, "rpId must not be null");
         this.rpId = rpId;
+        this.rpIdHash = CryptoUtil.getSHA256().digest(rpId.getBytes(StandardCharsets.UTF_8));
+        this.challenge = challenge;
+    }
+
+    /**
+     * Constructor to derive a {@link CoreServerProperty} from a template with a different {@link Challenge}.
+     * The rpIdHash precomputed by the template is reused.
+     *
+     * @param template  template {@link CoreServerProperty}
+     * @param challenge challenge
+     */
+    protected CoreServerProperty(@NonNull CoreServerProperty template, @Nullable Challenge challenge) {
+        AssertUtil.notNull(template, "template must not be null");
+        this.rpId = template.rpId;
+        this.rpIdHash = template.rpIdHash;
         this.challenge = challenge;
     }
 
@@ -44,6 +64,26 @@ public class CoreServerProperty implements Serializable {
         return rpId;
     }
 
+    /**
+     * Returns the SHA-256 hash of the rpId, which is precomputed on construction
+     *
+     * @return the rpIdHash
+     */
+    public @NonNull byte[] getRpIdHash() {
+        return ArrayUtil.clone(rpIdHash);
+    }
+
+    /**
+     * Returns whether the specified rpIdHash matches the hash of the rpId.
+     * Comparison is performed in constant time without copying the precomputed hash.
+     *
+     * @param rpIdHash rpIdHash to compare
+     * @return true if the rpIdHash matches
+     */
+    public boolean isRpIdHashMatched(@NonNull byte[] rpIdHash) {
+        return MessageDigest.isEqual(this.rpIdHash, rpIdHash);
+    }
+
     /**
      * Returns the {@link Challenge}
      *
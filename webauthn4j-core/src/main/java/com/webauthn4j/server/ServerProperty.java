@@ -18,6 +18,8 @@ package com.webauthn4j.server;
 
 import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.StatelessChallengeIssuer;
+import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -34,6 +36,7 @@ public class ServerProperty extends CoreServerProperty {
 
     private final Set<Origin> origins;
     private final byte[] tokenBindingId;
+    private final byte[] statelessChallengeContext;
 
     // ~ Constructor
     // ========================================================================================================
@@ -43,6 +46,7 @@ public class ServerProperty extends CoreServerProperty {
         AssertUtil.notNull(origin, "origin must not be null");
         this.origins = Collections.singleton(origin);
         this.tokenBindingId = tokenBindingId;
+        this.statelessChallengeContext = null;
     }
 
     public ServerProperty(@NonNull Collection<Origin> origins, @NonNull String rpId, @Nullable Challenge challenge, @Nullable byte[] tokenBindingId) {
@@ -50,11 +54,43 @@ public class ServerProperty extends CoreServerProperty {
         AssertUtil.notNull(origins, "origins must not be null");
         this.origins = Collections.unmodifiableSet(new HashSet<>(origins));
         this.tokenBindingId = tokenBindingId;
+        this.statelessChallengeContext = null;
+    }
+
+    private ServerProperty(@NonNull ServerProperty template, @Nullable Challenge challenge, @Nullable byte[] statelessChallengeContext) {
+        super(template, challenge);
+        this.origins = template.origins;
+        this.tokenBindingId = template.tokenBindingId;
+        this.statelessChallengeContext = statelessChallengeContext;
     }
 
     // ~ Methods
     // ========================================================================================================
 
+    /**
+     * Returns a new {@link ServerProperty} which has the same properties except the challenge.
+     * Since the precomputed rpIdHash is reused, a single template can be shared across requests.
+     *
+     * @param challenge challenge
+     * @return a new {@link ServerProperty}
+     */
+    public @NonNull ServerProperty withChallenge(@Nullable Challenge challenge) {
+        return new ServerProperty(this, challenge, null);
+    }
+
+    /**
+     * Returns a new {@link ServerProperty} which has the same properties except that, instead of a saved challenge,
+     * it expects a challenge issued by {@link StatelessChallengeIssuer} for the specified context.
+     * The context must be the one passed to {@link StatelessChallengeIssuer#issue(byte[])}.
+     *
+     * @param statelessChallengeContext context of the stateless challenge
+     * @return a new {@link ServerProperty}
+     */
+    public @NonNull ServerProperty withStatelessChallengeContext(@NonNull byte[] statelessChallengeContext) {
+        AssertUtil.notNull(statelessChallengeContext, "statelessChallengeContext must not be null");
+        return new ServerProperty(this, null, ArrayUtil.clone(statelessChallengeContext));
+    }
+
     public @NonNull Set<Origin> getOrigins() {
         return this.origins;
     }
@@ -68,6 +104,15 @@ public class ServerProperty extends CoreServerProperty {
         return tokenBindingId;
     }
 
+    /**
+     * Returns the context of the expected stateless challenge
+     *
+     * @return the context, or null if a saved challenge is expected
+     */
+    public @Nullable byte[] getStatelessChallengeContext() {
+        return ArrayUtil.clone(statelessChallengeContext);
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) return true;
@@ -76,13 +121,15 @@ public class ServerProperty extends CoreServerProperty {
         ServerProperty that = (ServerProperty) o;
 
         return Objects.equals(origins, that.origins) &&
-                Arrays.equals(tokenBindingId, that.tokenBindingId);
+                Arrays.equals(tokenBindingId, that.tokenBindingId) &&
+                Arrays.equals(statelessChallengeContext, that.statelessChallengeContext);
     }
 
     @Override
     public int hashCode() {
         int result = Objects.hash(super.hashCode(), origins);
         result = 31 * result + Arrays.hashCode(tokenBindingId);
+        result = 31 * result + Arrays.hashCode(statelessChallengeContext);
         return result;
     }
 }
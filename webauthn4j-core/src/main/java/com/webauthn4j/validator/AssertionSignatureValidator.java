@@ -21,6 +21,8 @@ import com.webauthn4j.data.CoreAuthenticationData;
 import com.webauthn4j.data.SignatureAlgorithm;
 import com.webauthn4j.data.attestation.authenticator.COSEKey;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CryptoUtil;
+import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.validator.exception.BadSignatureException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.slf4j.Logger;
@@ -35,6 +37,7 @@ import java.security.*;
 public class AssertionSignatureValidator {
 
     private final Logger logger = LoggerFactory.getLogger(AssertionSignatureValidator.class);
+    private final boolean signedDataOverridden = isSignedDataOverridden(getClass());
 
     // ~ Methods
     // ========================================================================================================
@@ -43,33 +46,64 @@ public class AssertionSignatureValidator {
         AssertUtil.notNull(authenticationData, "authenticationData must not be null");
         AssertUtil.notNull(coseKey, "coseKey must not be null");
 
-        byte[] signedData = getSignedData(authenticationData);
+        ByteBuffer[] signedData = signedDataOverridden ?
+                new ByteBuffer[]{ByteBuffer.wrap(getSignedData(authenticationData))} :
+                getSignedDataParts(authenticationData);
         byte[] signature = authenticationData.getSignature();
         if (!verifySignature(coseKey, signature, signedData)) {
             throw new BadSignatureException("Assertion signature is not valid.");
         }
     }
 
+    /**
+     * Returns the signed data
+     *
+     * @param authenticationData authenticationData
+     * @return the signed data
+     * @deprecated override {@link #getSignedDataParts(CoreAuthenticationData)} instead, which avoids copying the data.
+     * If this method is overridden, it is still used in place of {@link #getSignedDataParts(CoreAuthenticationData)}.
+     */
+    @Deprecated
     protected @NonNull byte[] getSignedData(@NonNull CoreAuthenticationData authenticationData) {
-        byte[] rawAuthenticatorData = authenticationData.getAuthenticatorDataBytes();
-        byte[] clientDataHash = authenticationData.getClientDataHash();
-        return ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
+        ByteBuffer rawAuthenticatorData = authenticationData.getAuthenticatorDataBuffer();
+        ByteBuffer clientDataHash = authenticationData.getClientDataHashBuffer();
+        return ByteBuffer.allocate(rawAuthenticatorData.remaining() + clientDataHash.remaining()).put(rawAuthenticatorData).put(clientDataHash).array();
     }
 
-    private boolean verifySignature(@NonNull COSEKey coseKey, @NonNull byte[] signature, @NonNull byte[] data) {
+    /**
+     * Returns the signed data as parts to be streamed into the verifier in order.
+     *
+     * @param authenticationData authenticationData
+     * @return the parts of the signed data
+     */
+    protected @NonNull ByteBuffer[] getSignedDataParts(@NonNull CoreAuthenticationData authenticationData) {
+        return new ByteBuffer[]{authenticationData.getAuthenticatorDataBuffer(), authenticationData.getClientDataHashBuffer()};
+    }
+
+    private static boolean isSignedDataOverridden(@NonNull Class<?> clazz) {
+        for (Class<?> current = clazz; current != AssertionSignatureValidator.class; current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod("getSignedData", CoreAuthenticationData.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // continue to the superclass
+            }
+        }
+        return false;
+    }
+
+    private boolean verifySignature(@NonNull COSEKey coseKey, @NonNull byte[] signature, @NonNull ByteBuffer[] data) {
         try {
             PublicKey publicKey = coseKey.getPublicKey();
             //noinspection ConstantConditions as null check is already done in caller
             SignatureAlgorithm signatureAlgorithm = coseKey.getAlgorithm().toSignatureAlgorithm();
             String jcaName = signatureAlgorithm.getJcaName();
-            Signature verifier = Signature.getInstance(jcaName);
-            verifier.initVerify(publicKey);
-            verifier.update(data);
-            return verifier.verify(signature);
+            Signature verifier = CryptoUtil.getSignature(jcaName);
+            return SignatureUtil.verify(verifier, publicKey, signature, data);
         } catch (IllegalArgumentException e) {
             logger.debug("COSE key alg must be signature algorithm.", e);
             return false;
-        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | RuntimeException e) {
+        } catch (SignatureException | InvalidKeyException | RuntimeException e) {
             logger.debug("Unexpected exception is thrown during signature verification.", e);
             return false;
         }
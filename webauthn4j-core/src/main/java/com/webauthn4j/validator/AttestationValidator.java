@@ -67,6 +67,10 @@ class AttestationValidator {
 
 
     public void validate(@NonNull CoreRegistrationObject registrationObject) {
+        validate(registrationObject, ValidationStepTracker.disabled());
+    }
+
+    void validate(@NonNull CoreRegistrationObject registrationObject, @NonNull ValidationStepTracker tracker) {
         AssertUtil.notNull(registrationObject, "registrationObject must not be null");
 
         AttestationObject attestationObject = registrationObject.getAttestationObject();
@@ -86,6 +90,7 @@ class AttestationValidator {
 
         validateAAGUID(attestationObject);
 
+        tracker.begin(ValidationStep.ATTESTATION_TRUSTWORTHINESS);
         //spec| If validation is successful, obtain a list of acceptable trust anchors (attestation root certificates or
         //spec| ECDAA-Issuer public keys) for that attestation type and attestation statement format fmt,
         //spec| from a trusted source or from policy.
@@ -22,6 +22,7 @@ import com.webauthn4j.data.AuthenticationParameters;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.client.ClientDataType;
 import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.challenge.StatelessChallengeIssuer;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
@@ -33,6 +34,7 @@ import com.webauthn4j.validator.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.validator.exception.UserNotPresentException;
 import com.webauthn4j.validator.exception.UserNotVerifiedException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -51,6 +53,7 @@ public class AuthenticationDataValidator {
 
     private CoreMaliciousCounterValueHandler maliciousCounterValueHandler = new DefaultCoreMaliciousCounterValueHandler();
     private OriginValidator originValidator = new OriginValidator();
+    private ValidationObserver validationObserver = new NullValidationObserver();
 
     public AuthenticationDataValidator(@NonNull List<CustomAuthenticationValidator> customAuthenticationValidators) {
         AssertUtil.notNull(customAuthenticationValidators, "customAuthenticationValidators must not be null");
@@ -61,9 +64,24 @@ public class AuthenticationDataValidator {
         this.customAuthenticationValidators = new ArrayList<>();
     }
 
-    @SuppressWarnings("ConstantConditions") // as null check is done by BeanAssertUtil#validate
     public void validate(@NonNull AuthenticationData authenticationData, @NonNull AuthenticationParameters authenticationParameters) {
+        Object event = ValidationEvents.AUTHENTICATION.begin();
+        ValidationStepTracker tracker = ValidationStepTracker.create(validationObserver);
+        try {
+            validate(authenticationData, authenticationParameters, tracker);
+            tracker.end();
+            ValidationEvents.commitAuthentication(event, authenticationParameters, null);
+        } catch (RuntimeException e) {
+            tracker.fail(e);
+            ValidationEvents.commitAuthentication(event, authenticationParameters, e);
+            throw e;
+        }
+    }
 
+    @SuppressWarnings("ConstantConditions") // as null check is done by BeanAssertUtil#validate
+    private void validate(@NonNull AuthenticationData authenticationData, @NonNull AuthenticationParameters authenticationParameters, @NonNull ValidationStepTracker tracker) {
+
+        tracker.begin(ValidationStep.DATA_STRUCTURE);
         BeanAssertUtil.validate(authenticationData);
         AssertUtil.notNull(authenticationParameters, "authenticationParameters must not be null");
 
@@ -119,31 +137,37 @@ public class AuthenticationDataValidator {
                 serverProperty, authenticator
         );
 
+        tracker.begin(ValidationStep.CLIENT_DATA_TYPE);
         //spec| Step7
         //spec| Verify that the value of C.type is the string webauthn.get.
         if (!Objects.equals(collectedClientData.getType(), ClientDataType.GET)) {
             throw new InconsistentClientDataTypeException("ClientData.type must be 'get' on authentication, but it isn't.");
         }
 
+        tracker.begin(ValidationStep.CHALLENGE);
         //spec| Step8
         //spec| Verify that the value of C.challenge matches the challenge that was sent to the authenticator in
         //spec| the PublicKeyCredentialRequestOptions passed to the get() call.
         challengeValidator.validate(collectedClientData, serverProperty);
 
+        tracker.begin(ValidationStep.ORIGIN);
         //spec| Step9
         //spec| Verify that the value of C.origin matches the Relying Party's origin.
         originValidator.validate(collectedClientData, serverProperty);
 
+        tracker.begin(ValidationStep.TOKEN_BINDING);
         //spec| Step10
         //spec| Verify that the value of C.tokenBinding.status matches the state of Token Binding for the TLS connection over
         //spec| which the attestation was obtained. If Token Binding was used on that TLS connection,
         //spec| also verify that C.tokenBinding.id matches the base64url encoding of the Token Binding ID for the connection.
         tokenBindingValidator.validate(collectedClientData.getTokenBinding(), serverProperty.getTokenBindingId());
 
+        tracker.begin(ValidationStep.RP_ID_HASH);
         //spec| Step11
         //spec| Verify that the rpIdHash in aData is the SHA-256 hash of the RP ID expected by the Relying Party.
         rpIdHashValidator.validate(authenticatorData.getRpIdHash(), serverProperty);
 
+        tracker.begin(ValidationStep.FLAGS);
         //spec| Step12
         //spec| Verify that the User Present bit of the flags in authData is set.
         if (authenticationParameters.isUserPresenceRequired() && !authenticatorData.isFlagUP()) {
@@ -156,6 +180,7 @@ public class AuthenticationDataValidator {
             throw new UserNotVerifiedException("Validator is configured to check user verified, but UV flag in authenticatorData is not set.");
         }
 
+        tracker.begin(ValidationStep.EXTENSIONS);
         //spec| Step14
         //spec| Verify that the values of the client extension outputs in clientExtensionResults and the authenticator
         //spec| extension outputs in the extensions in authData are as expected, considering the client extension input
@@ -167,10 +192,12 @@ public class AuthenticationDataValidator {
         clientExtensionValidator.validate(clientExtensions);
         authenticatorExtensionValidator.validate(authenticationExtensionsAuthenticatorOutputs);
 
+        tracker.begin(ValidationStep.SIGNATURE);
         //spec| Using the credential public key, validate that sig is a valid signature over
         //spec| the binary concatenation of the authenticatorData and the hash of the collectedClientData.
         assertionSignatureValidator.validate(authenticationData, authenticator.getAttestedCredentialData().getCOSEKey());
 
+        tracker.begin(ValidationStep.SIGNATURE_COUNTER);
         //spec| Step17
         //spec| If the signature counter value adata.signCount is nonzero or the value stored in conjunction with
         //spec| credential’s id attribute is nonzero, then run the following sub-step:
@@ -192,6 +219,7 @@ public class AuthenticationDataValidator {
             }
         }
 
+        tracker.begin(ValidationStep.CUSTOM_VALIDATORS);
         for (CustomAuthenticationValidator customAuthenticationValidator : customAuthenticationValidators) {
             customAuthenticationValidator.validate(authenticationObject);
         }
@@ -225,4 +253,28 @@ public class AuthenticationDataValidator {
         AssertUtil.notNull(originValidator, "originValidator must not be null");
         this.originValidator = originValidator;
     }
+
+    public @NonNull ValidationObserver getValidationObserver() {
+        return validationObserver;
+    }
+
+    public void setValidationObserver(@NonNull ValidationObserver validationObserver) {
+        AssertUtil.notNull(validationObserver, "validationObserver must not be null");
+        this.validationObserver = validationObserver;
+    }
+
+    public @Nullable StatelessChallengeIssuer getStatelessChallengeIssuer() {
+        return challengeValidator.getStatelessChallengeIssuer();
+    }
+
+    /**
+     * Sets the issuer to verify stateless challenges. It is used only for {@link ServerProperty}s created with
+     * {@link ServerProperty#withStatelessChallengeContext(byte[])}, which verify the collected challenge by its MAC,
+     * context and expiry instead of comparing it with a saved challenge.
+     *
+     * @param statelessChallengeIssuer issuer of stateless challenges, or null if stateless challenges are not used
+     */
+    public void setStatelessChallengeIssuer(@Nullable StatelessChallengeIssuer statelessChallengeIssuer) {
+        challengeValidator.setStatelessChallengeIssuer(statelessChallengeIssuer);
+    }
 }
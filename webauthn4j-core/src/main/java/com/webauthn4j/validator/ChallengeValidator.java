@@ -18,11 +18,13 @@ package com.webauthn4j.validator;
 
 import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.StatelessChallengeIssuer;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.exception.BadChallengeException;
 import com.webauthn4j.validator.exception.MissingChallengeException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
 
@@ -34,6 +36,7 @@ class ChallengeValidator {
     //~ Instance fields
     // ================================================================================================
 
+    private @Nullable StatelessChallengeIssuer statelessChallengeIssuer;
 
     // ~ Methods
     // ========================================================================================================
@@ -44,6 +47,12 @@ class ChallengeValidator {
         Challenge savedChallenge = serverProperty.getChallenge();
         Challenge collectedChallenge = collectedClientData.getChallenge();
 
+        byte[] statelessChallengeContext = serverProperty.getStatelessChallengeContext();
+        if (statelessChallengeContext != null) {
+            // The server expects a stateless challenge, which is verified by its MAC and expiry instead of a saved one.
+            validateStatelessChallenge(collectedChallenge, statelessChallengeContext);
+            return;
+        }
         if (savedChallenge == null) {
             throw new MissingChallengeException("The server doesn't have a challenge. The client must request the server to issue the challenge before WebAuthn operations.");
         }
@@ -53,6 +62,16 @@ class ChallengeValidator {
         validate(savedChallenge, collectedChallenge);
     }
 
+    private void validateStatelessChallenge(@Nullable Challenge collectedChallenge, @NonNull byte[] statelessChallengeContext) {
+        StatelessChallengeIssuer issuer = statelessChallengeIssuer;
+        if (issuer == null) {
+            throw new IllegalStateException("serverProperty expects a stateless challenge, but statelessChallengeIssuer is not set");
+        }
+        if (collectedChallenge == null || !issuer.isValid(collectedChallenge, statelessChallengeContext)) {
+            throw new BadChallengeException("The challenge is not issued by this server for the context or has expired");
+        }
+    }
+
     public void validate(@NonNull Challenge expected, @NonNull Challenge actual) {
         AssertUtil.notNull(expected, "expected must not be null");
         AssertUtil.notNull(actual, "actual must not be null");
@@ -63,4 +82,12 @@ class ChallengeValidator {
             throw new BadChallengeException("The actual challenge does not match the expected challenge");
         }
     }
+
+    public @Nullable StatelessChallengeIssuer getStatelessChallengeIssuer() {
+        return statelessChallengeIssuer;
+    }
+
+    public void setStatelessChallengeIssuer(@Nullable StatelessChallengeIssuer statelessChallengeIssuer) {
+        this.statelessChallengeIssuer = statelessChallengeIssuer;
+    }
 }
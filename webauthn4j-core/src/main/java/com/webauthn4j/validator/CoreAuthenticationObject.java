@@ -9,6 +9,7 @@ import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -64,10 +65,28 @@ public class CoreAuthenticationObject {
         return ArrayUtil.clone(authenticatorDataBytes);
     }
 
+    /**
+     * Returns a read-only view of the authenticatorData bytes without copying them.
+     *
+     * @return a read-only {@link ByteBuffer} of the authenticatorData bytes
+     */
+    public @NonNull ByteBuffer getAuthenticatorDataBuffer() {
+        return ByteBuffer.wrap(authenticatorDataBytes).asReadOnlyBuffer();
+    }
+
     public @NonNull byte[] getClientDataHash() {
         return ArrayUtil.clone(clientDataHash);
     }
 
+    /**
+     * Returns a read-only view of the clientDataHash without copying it.
+     *
+     * @return a read-only {@link ByteBuffer} of the clientDataHash
+     */
+    public @NonNull ByteBuffer getClientDataHashBuffer() {
+        return ByteBuffer.wrap(clientDataHash).asReadOnlyBuffer();
+    }
+
     public @NonNull CoreServerProperty getServerProperty() {
         return this.serverProperty;
     }
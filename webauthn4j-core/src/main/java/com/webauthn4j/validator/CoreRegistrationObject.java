@@ -26,6 +26,7 @@ import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Objects;
@@ -39,6 +40,7 @@ public class CoreRegistrationObject {
     private final byte[] clientDataHash;
     private final CoreServerProperty serverProperty;
     private final Instant timestamp;
+    private volatile byte[] authenticatorDataBytes;
 
     public CoreRegistrationObject(
             @NonNull AttestationObject attestationObject,
@@ -82,13 +84,40 @@ public class CoreRegistrationObject {
     }
 
     public @NonNull byte[] getAuthenticatorDataBytes() {
-        return extractAuthenticatorData(attestationObjectBytes);
+        return ArrayUtil.clone(getAuthenticatorDataBytesInternal());
+    }
+
+    /**
+     * Returns a read-only view of the authenticatorData bytes without copying them.
+     *
+     * @return a read-only {@link ByteBuffer} of the authenticatorData bytes
+     */
+    public @NonNull ByteBuffer getAuthenticatorDataBuffer() {
+        return ByteBuffer.wrap(getAuthenticatorDataBytesInternal()).asReadOnlyBuffer();
+    }
+
+    private @NonNull byte[] getAuthenticatorDataBytesInternal() {
+        byte[] bytes = authenticatorDataBytes;
+        if (bytes == null) {
+            bytes = extractAuthenticatorData(attestationObjectBytes);
+            authenticatorDataBytes = bytes;
+        }
+        return bytes;
     }
 
     public @NonNull byte[] getClientDataHash() {
         return clientDataHash;
     }
 
+    /**
+     * Returns a read-only view of the clientDataHash without copying it.
+     *
+     * @return a read-only {@link ByteBuffer} of the clientDataHash
+     */
+    public @NonNull ByteBuffer getClientDataHashBuffer() {
+        return ByteBuffer.wrap(clientDataHash).asReadOnlyBuffer();
+    }
+
     public @NonNull CoreServerProperty getServerProperty() {
         return serverProperty;
     }
@@ -24,6 +24,7 @@ import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.client.ClientDataType;
 import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.challenge.StatelessChallengeIssuer;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
 import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
@@ -38,6 +39,7 @@ import com.webauthn4j.validator.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.validator.exception.UserNotPresentException;
 import com.webauthn4j.validator.exception.UserNotVerifiedException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -60,6 +62,7 @@ public class RegistrationDataValidator {
     private final AttestationValidator attestationValidator;
     
     private OriginValidator originValidator = new OriginValidator();
+    private ValidationObserver validationObserver = new NullValidationObserver();
 
     public RegistrationDataValidator(
             @NonNull List<AttestationStatementValidator> attestationStatementValidators,
@@ -79,9 +82,24 @@ public class RegistrationDataValidator {
                 selfAttestationTrustworthinessValidator);
     }
 
-    @SuppressWarnings("ConstantConditions") // as null check is done by BeanAssertUtil#validate
     public void validate(@NonNull RegistrationData registrationData, @NonNull RegistrationParameters registrationParameters) {
+        Object event = ValidationEvents.REGISTRATION.begin();
+        ValidationStepTracker tracker = ValidationStepTracker.create(validationObserver);
+        try {
+            validate(registrationData, registrationParameters, tracker);
+            tracker.end();
+            ValidationEvents.commitRegistration(event, registrationData, null);
+        } catch (RuntimeException e) {
+            tracker.fail(e);
+            ValidationEvents.commitRegistration(event, registrationData, e);
+            throw e;
+        }
+    }
 
+    @SuppressWarnings("ConstantConditions") // as null check is done by BeanAssertUtil#validate
+    private void validate(@NonNull RegistrationData registrationData, @NonNull RegistrationParameters registrationParameters, @NonNull ValidationStepTracker tracker) {
+
+        tracker.begin(ValidationStep.DATA_STRUCTURE);
         BeanAssertUtil.validate(registrationData);
         AssertUtil.notNull(registrationParameters, "registrationParameters must not be null");
 
@@ -109,20 +127,24 @@ public class RegistrationDataValidator {
 
         AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData = attestationObject.getAuthenticatorData();
 
+        tracker.begin(ValidationStep.CLIENT_DATA_TYPE);
         //spec| Step3
         //spec| Verify that the value of C.type is webauthn.create.
         if (!Objects.equals(collectedClientData.getType(), ClientDataType.CREATE)) {
             throw new InconsistentClientDataTypeException("ClientData.type must be 'create' on registration, but it isn't.");
         }
 
+        tracker.begin(ValidationStep.CHALLENGE);
         //spec| Step4
         //spec| Verify that the value of C.challenge matches the challenge that was sent to the authenticator in the create() call.
         challengeValidator.validate(collectedClientData, serverProperty);
 
+        tracker.begin(ValidationStep.ORIGIN);
         //spec| Step5
         //spec| Verify that the value of C.origin matches the Relying Party's origin.
         originValidator.validate(collectedClientData, serverProperty);
 
+        tracker.begin(ValidationStep.TOKEN_BINDING);
         //spec| Step6
         //spec| Verify that the value of C.tokenBinding.status matches the state of Token Binding for the TLS connection over
         //spec| which the assertion was obtained. If Token Binding was used on that TLS connection, also verify that
@@ -136,14 +158,17 @@ public class RegistrationDataValidator {
         //spec| Perform CBOR decoding on the attestationObject field of the AuthenticatorAttestationResponse structure to
         //spec| obtain the attestation statement format fmt, the authenticator data authData, and the attestation statement attStmt.
 
+        tracker.begin(ValidationStep.RP_ID_HASH);
         //spec| Step9
         //spec| Verify that the RP ID hash in authData is indeed the SHA-256 hash of the RP ID expected by the RP.
         rpIdHashValidator.validate(authenticatorData.getRpIdHash(), serverProperty);
 
 
+        tracker.begin(ValidationStep.FLAGS);
         //spec| Step10, 11
         validateUVUPFlags(authenticatorData, registrationParameters.isUserVerificationRequired(), registrationParameters.isUserPresenceRequired());
 
+        tracker.begin(ValidationStep.EXTENSIONS);
         //spec| Step12
         //spec| Verify that the values of the client extension outputs in clientExtensionResults and the authenticator
         //spec| extension outputs in the extensions in authData are as expected, considering the client extension input
@@ -155,8 +180,9 @@ public class RegistrationDataValidator {
         clientExtensionValidator.validate(clientExtensions);
         authenticatorExtensionValidator.validate(authenticationExtensionsAuthenticatorOutputs);
 
+        tracker.begin(ValidationStep.ATTESTATION_STATEMENT);
         //spec| Step13-16,19
-        attestationValidator.validate(registrationObject);
+        attestationValidator.validate(registrationObject, tracker);
 
         //spec| Step17
         //spec| Check that the credentialId is not yet registered to any other user. If registration is requested for
@@ -173,6 +199,7 @@ public class RegistrationDataValidator {
 
         //      (This step is out of WebAuthn4J scope. It's caller's responsibility.)
 
+        tracker.begin(ValidationStep.CUSTOM_VALIDATORS);
         // validate with custom logic
         for (CustomRegistrationValidator customRegistrationValidator : customRegistrationValidators) {
             customRegistrationValidator.validate(registrationObject);
@@ -208,4 +235,28 @@ public class RegistrationDataValidator {
         AssertUtil.notNull(originValidator, "originValidator must not be null");
         this.originValidator = originValidator;
     }
+
+    public @NonNull ValidationObserver getValidationObserver() {
+        return validationObserver;
+    }
+
+    public void setValidationObserver(@NonNull ValidationObserver validationObserver) {
+        AssertUtil.notNull(validationObserver, "validationObserver must not be null");
+        this.validationObserver = validationObserver;
+    }
+
+    public @Nullable StatelessChallengeIssuer getStatelessChallengeIssuer() {
+        return challengeValidator.getStatelessChallengeIssuer();
+    }
+
+    /**
+     * Sets the issuer to verify stateless challenges. It is used only for {@link ServerProperty}s created with
+     * {@link ServerProperty#withStatelessChallengeContext(byte[])}, which verify the collected challenge by its MAC,
+     * context and expiry instead of comparing it with a saved challenge.
+     *
+     * @param statelessChallengeIssuer issuer of stateless challenges, or null if stateless challenges are not used
+     */
+    public void setStatelessChallengeIssuer(@Nullable StatelessChallengeIssuer statelessChallengeIssuer) {
+        challengeValidator.setStatelessChallengeIssuer(statelessChallengeIssuer);
+    }
 }
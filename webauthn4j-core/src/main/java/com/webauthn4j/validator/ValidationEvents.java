@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator;
+
+import com.webauthn4j.authenticator.CoreAuthenticator;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.RegistrationData;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.statement.AttestationStatement;
+import com.webauthn4j.util.FlightRecorderEventType;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * JDK Flight Recorder events of registration and authentication validation
+ */
+final class ValidationEvents {
+
+    static final FlightRecorderEventType REGISTRATION = FlightRecorderEventType.create(
+            "com.webauthn4j.RegistrationValidation", "WebAuthn Registration Validation",
+            FlightRecorderEventType.Field.of("format", String.class, "Attestation Statement Format"),
+            FlightRecorderEventType.Field.of("aaguid", String.class, "AAGUID"),
+            FlightRecorderEventType.Field.of("outcome", String.class, "Outcome")
+    );
+
+    static final FlightRecorderEventType AUTHENTICATION = FlightRecorderEventType.create(
+            "com.webauthn4j.AuthenticationValidation", "WebAuthn Authentication Validation",
+            FlightRecorderEventType.Field.of("format", String.class, "Attestation Statement Format"),
+            FlightRecorderEventType.Field.of("aaguid", String.class, "AAGUID"),
+            FlightRecorderEventType.Field.of("outcome", String.class, "Outcome")
+    );
+
+    private static final String SUCCESS = "success";
+
+    private ValidationEvents() {
+    }
+
+    static void commitRegistration(@Nullable Object event, @Nullable RegistrationData registrationData, @Nullable RuntimeException exception) {
+        if (event == null) {
+            return;
+        }
+        AttestationObject attestationObject = registrationData == null ? null : registrationData.getAttestationObject();
+        AttestationStatement attestationStatement = attestationObject == null ? null : attestationObject.getAttestationStatement();
+        String format = attestationStatement == null ? null : attestationStatement.getFormat();
+        AuthenticatorData<?> authenticatorData = attestationObject == null ? null : attestationObject.getAuthenticatorData();
+        AttestedCredentialData attestedCredentialData = authenticatorData == null ? null : authenticatorData.getAttestedCredentialData();
+        REGISTRATION.commit(event, format, getAaguid(attestedCredentialData), getOutcome(exception));
+    }
+
+    static void commitAuthentication(@Nullable Object event, @Nullable AuthenticationParameters authenticationParameters, @Nullable RuntimeException exception) {
+        if (event == null) {
+            return;
+        }
+        CoreAuthenticator authenticator = authenticationParameters == null ? null : authenticationParameters.getAuthenticator();
+        AttestationStatement attestationStatement = authenticator == null ? null : authenticator.getAttestationStatement();
+        String format = attestationStatement == null ? null : attestationStatement.getFormat();
+        AttestedCredentialData attestedCredentialData = authenticator == null ? null : authenticator.getAttestedCredentialData();
+        AUTHENTICATION.commit(event, format, getAaguid(attestedCredentialData), getOutcome(exception));
+    }
+
+    private static @Nullable String getAaguid(@Nullable AttestedCredentialData attestedCredentialData) {
+        AAGUID aaguid = attestedCredentialData == null ? null : attestedCredentialData.getAaguid();
+        return aaguid == null ? null : aaguid.toString();
+    }
+
+    private static @NonNull String getOutcome(@Nullable RuntimeException exception) {
+        return exception == null ? SUCCESS : exception.getClass().getName();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Observer interface notified with the elapsed time and the outcome of each parsing and validation step,
+ * to export per step metrics.
+ * Implementations are called on the validating thread, and must be thread-safe and fast.
+ */
+public interface ValidationObserver {
+
+    /**
+     * Called when a step completes
+     *
+     * @param step         the completed step
+     * @param elapsedNanos elapsed time of the step in nanoseconds
+     * @param exception    the exception the step failed with, or null if the step passed
+     */
+    void stepCompleted(@NonNull ValidationStep step, long elapsedNanos, @Nullable RuntimeException exception);
+
+    /**
+     * Returns whether the observer is notified. If false, steps are neither timed nor reported.
+     *
+     * @return true if the observer is notified
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator;
+
+/**
+ * Steps of parsing and validation reported to {@link ValidationObserver}
+ */
+public enum ValidationStep {
+
+    /**
+     * Parsing of the request into {@link com.webauthn4j.data.RegistrationData} or {@link com.webauthn4j.data.AuthenticationData}
+     */
+    PARSE,
+    /**
+     * Verification of the structure of the parsed data
+     */
+    DATA_STRUCTURE,
+    /**
+     * Verification of C.type
+     */
+    CLIENT_DATA_TYPE,
+    /**
+     * Verification of C.challenge
+     */
+    CHALLENGE,
+    /**
+     * Verification of C.origin
+     */
+    ORIGIN,
+    /**
+     * Verification of C.tokenBinding
+     */
+    TOKEN_BINDING,
+    /**
+     * Verification of the rpIdHash in authData
+     */
+    RP_ID_HASH,
+    /**
+     * Verification of the User Present and User Verified flags
+     */
+    FLAGS,
+    /**
+     * Verification of the client and authenticator extension outputs
+     */
+    EXTENSIONS,
+    /**
+     * Verification of the assertion signature
+     */
+    SIGNATURE,
+    /**
+     * Verification of the signature counter
+     */
+    SIGNATURE_COUNTER,
+    /**
+     * Verification of the attestation statement, including the AAGUID
+     */
+    ATTESTATION_STATEMENT,
+    /**
+     * Verification of the attestation trustworthiness, such as the attestation certificate path
+     */
+    ATTESTATION_TRUSTWORTHINESS,
+    /**
+     * Custom validators
+     */
+    CUSTOM_VALIDATORS
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Tracks the current validation step and reports it to a {@link ValidationObserver}.
+ * A shared stateless instance is used for disabled observers, so that disabled observation allocates nothing.
+ */
+class ValidationStepTracker {
+
+    private static final ValidationStepTracker DISABLED = new ValidationStepTracker(new NullValidationObserver()) {
+        @Override
+        void begin(@NonNull ValidationStep step) {
+            // nop
+        }
+
+        @Override
+        void end() {
+            // nop
+        }
+
+        @Override
+        void fail(@NonNull RuntimeException exception) {
+            // nop
+        }
+    };
+
+    private final ValidationObserver validationObserver;
+    private @Nullable ValidationStep currentStep;
+    private long startNanos;
+
+    private ValidationStepTracker(@NonNull ValidationObserver validationObserver) {
+        this.validationObserver = validationObserver;
+    }
+
+    static @NonNull ValidationStepTracker create(@NonNull ValidationObserver validationObserver) {
+        return validationObserver.isEnabled() ? new ValidationStepTracker(validationObserver) : DISABLED;
+    }
+
+    static @NonNull ValidationStepTracker disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Completes the current step as passed, and begins the next step
+     */
+    void begin(@NonNull ValidationStep step) {
+        long now = System.nanoTime();
+        if (currentStep != null) {
+            validationObserver.stepCompleted(currentStep, now - startNanos, null);
+        }
+        currentStep = step;
+        startNanos = now;
+    }
+
+    /**
+     * Completes the current step as passed
+     */
+    void end() {
+        if (currentStep != null) {
+            validationObserver.stepCompleted(currentStep, System.nanoTime() - startNanos, null);
+            currentStep = null;
+        }
+    }
+
+    /**
+     * Completes the current step as failed
+     */
+    void fail(@NonNull RuntimeException exception) {
+        if (currentStep != null) {
+            validationObserver.stepCompleted(currentStep, System.nanoTime() - startNanos, exception);
+            currentStep = null;
+        }
+    }
+}
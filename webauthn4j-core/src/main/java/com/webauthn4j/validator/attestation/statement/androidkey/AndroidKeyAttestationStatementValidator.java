@@ -22,6 +22,7 @@ import com.webauthn4j.data.attestation.statement.AttestationCertificatePath;
 import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CryptoUtil;
 import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.validator.CoreRegistrationObject;
 import com.webauthn4j.validator.attestation.statement.AbstractStatementValidator;
@@ -30,7 +31,6 @@ import com.webauthn4j.validator.exception.BadSignatureException;
 import com.webauthn4j.validator.exception.PublicKeyMismatchException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.PublicKey;
 import java.security.Signature;
@@ -101,7 +101,6 @@ public class AndroidKeyAttestationStatementValidator extends AbstractStatementVa
     private void validateSignature(@NonNull CoreRegistrationObject registrationObject) {
         AndroidKeyAttestationStatement attestationStatement = (AndroidKeyAttestationStatement) registrationObject.getAttestationObject().getAttestationStatement();
 
-        byte[] signedData = getSignedData(registrationObject);
         //noinspection ConstantConditions as null check is already done in caller
         byte[] signature = attestationStatement.getSig();
         PublicKey publicKey = getPublicKey(attestationStatement);
@@ -110,10 +109,8 @@ public class AndroidKeyAttestationStatementValidator extends AbstractStatementVa
             String jcaName;
             //noinspection ConstantConditions as null check is already done in caller
             jcaName = getJcaName(attestationStatement.getAlg());
-            Signature verifier = SignatureUtil.createSignature(jcaName);
-            verifier.initVerify(publicKey);
-            verifier.update(signedData);
-            if (verifier.verify(signature)) {
+            Signature verifier = CryptoUtil.getSignature(jcaName);
+            if (SignatureUtil.verify(verifier, publicKey, signature, registrationObject.getAuthenticatorDataBuffer(), registrationObject.getClientDataHashBuffer())) {
                 return;
             }
             throw new BadSignatureException("`sig` in attestation statement is not valid signature over the concatenation of authenticatorData and clientDataHash.");
@@ -122,12 +119,6 @@ public class AndroidKeyAttestationStatementValidator extends AbstractStatementVa
         }
     }
 
-    private @NonNull byte[] getSignedData(@NonNull CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
-    }
-
     private @NonNull PublicKey getPublicKey(@NonNull AndroidKeyAttestationStatement attestationStatement) {
         AttestationCertificatePath x5c = attestationStatement.getX5c();
         //noinspection ConstantConditions as null check is already done in caller
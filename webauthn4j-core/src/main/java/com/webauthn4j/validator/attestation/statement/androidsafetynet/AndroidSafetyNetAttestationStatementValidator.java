@@ -23,6 +23,7 @@ import com.webauthn4j.data.attestation.statement.Response;
 import com.webauthn4j.data.jws.JWS;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.Base64Util;
+import com.webauthn4j.util.CryptoUtil;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.validator.CoreRegistrationObject;
 import com.webauthn4j.validator.attestation.statement.AbstractStatementValidator;
@@ -77,8 +78,7 @@ public class AndroidSafetyNetAttestationStatementValidator extends AbstractState
         }
         Response response = attestationStatement.getResponse().getPayload();
         String nonce = response.getNonce();
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        validateNonce(nonce, authenticatorData, registrationObject.getClientDataHash());
+        validateNonce(nonce, registrationObject.getAuthenticatorDataBuffer(), registrationObject.getClientDataHashBuffer());
 
         /// Let attestationCert be the attestation certificate.
         /// Verify that attestationCert is issued to the hostname "attest.android.com" (see SafetyNet online documentation).
@@ -161,13 +161,11 @@ public class AndroidSafetyNetAttestationStatementValidator extends AbstractState
         }
     }
 
-    private void validateNonce(@Nullable String nonce, @NonNull byte[] authenticatorData, @NonNull byte[] clientDataHash) {
+    private void validateNonce(@Nullable String nonce, @NonNull ByteBuffer authenticatorData, @NonNull ByteBuffer clientDataHash) {
         if (nonce == null) {
             throw new BadAttestationStatementException("Nonce in the Android safetynet response is null.");
         }
-        ByteBuffer buffer = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length);
-        byte[] data = buffer.put(authenticatorData).put(clientDataHash).array();
-        byte[] hash = MessageDigestUtil.createSHA256().digest(data);
+        byte[] hash = MessageDigestUtil.digest(CryptoUtil.getSHA256(), authenticatorData, clientDataHash);
         if (!Arrays.equals(hash, Base64Util.decode(nonce))) {
             throw new BadAttestationStatementException("Nonce in the Android safetynet response doesn't match.");
         }
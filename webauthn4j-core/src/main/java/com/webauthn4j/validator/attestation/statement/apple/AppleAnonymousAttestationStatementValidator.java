@@ -19,6 +19,7 @@ package com.webauthn4j.validator.attestation.statement.apple;
 import com.webauthn4j.data.attestation.statement.AppleAnonymousAttestationStatement;
 import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CryptoUtil;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.validator.CoreRegistrationObject;
 import com.webauthn4j.validator.attestation.statement.AbstractStatementValidator;
@@ -94,10 +95,7 @@ public class AppleAnonymousAttestationStatementValidator extends AbstractStateme
     }
 
     private @NonNull byte[] getNonce(@NonNull CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        byte[] nonceToHash = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
-        return MessageDigestUtil.createSHA256().digest(nonceToHash);
+        return MessageDigestUtil.digest(CryptoUtil.getSHA256(), registrationObject.getAuthenticatorDataBuffer(), registrationObject.getClientDataHashBuffer());
     }
 
     private void validatePublicKey(@NonNull CoreRegistrationObject registrationObject, @NonNull AppleAnonymousAttestationStatement attestationStatement) {
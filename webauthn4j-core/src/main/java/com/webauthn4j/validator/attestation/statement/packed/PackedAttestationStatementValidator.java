@@ -23,6 +23,7 @@ import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.data.attestation.statement.PackedAttestationStatement;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CryptoUtil;
 import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.util.UUIDUtil;
 import com.webauthn4j.validator.CoreRegistrationObject;
@@ -62,7 +63,7 @@ public class PackedAttestationStatementValidator extends AbstractStatementValida
         validateAttestationStatementNotNull(attestationStatement);
         byte[] sig = attestationStatement.getSig();
         COSEAlgorithmIdentifier alg = attestationStatement.getAlg();
-        byte[] attrToBeSigned = getAttToBeSigned(registrationObject);
+        ByteBuffer[] attrToBeSigned = getAttToBeSigned(registrationObject);
         // If x5c is present,
         if (attestationStatement.getX5c() != null) {
             //noinspection ConstantConditions as null check is already done in validateAttestationStatementNotNull
@@ -89,7 +90,7 @@ public class PackedAttestationStatementValidator extends AbstractStatementValida
     }
 
     @SuppressWarnings("SameReturnValue")
-    private @NonNull AttestationType validateX5c(@NonNull CoreRegistrationObject registrationObject, @NonNull PackedAttestationStatement attestationStatement, @NonNull byte[] sig, @NonNull COSEAlgorithmIdentifier alg, @NonNull byte[] attrToBeSigned) {
+    private @NonNull AttestationType validateX5c(@NonNull CoreRegistrationObject registrationObject, @NonNull PackedAttestationStatement attestationStatement, @NonNull byte[] sig, @NonNull COSEAlgorithmIdentifier alg, @NonNull ByteBuffer[] attrToBeSigned) {
         if (attestationStatement.getX5c() == null || attestationStatement.getX5c().isEmpty()) {
             throw new BadAttestationStatementException("No attestation certificate is found in packed attestation statement.");
         }
@@ -133,7 +134,7 @@ public class PackedAttestationStatementValidator extends AbstractStatementValida
     }
 
     @SuppressWarnings("SameReturnValue")
-    private @NonNull AttestationType validateSelfAttestation(@NonNull CoreRegistrationObject registrationObject, @NonNull byte[] sig, @NonNull COSEAlgorithmIdentifier alg, @NonNull byte[] attrToBeSigned) {
+    private @NonNull AttestationType validateSelfAttestation(@NonNull CoreRegistrationObject registrationObject, @NonNull byte[] sig, @NonNull COSEAlgorithmIdentifier alg, @NonNull ByteBuffer[] attrToBeSigned) {
         //noinspection ConstantConditions as null check is already done in caller
         COSEKey coseKey = registrationObject.getAttestationObject().getAuthenticatorData().getAttestedCredentialData().getCOSEKey();
         // Validate that alg matches the algorithm of the coseKey in authenticatorData.
@@ -152,23 +153,18 @@ public class PackedAttestationStatementValidator extends AbstractStatementValida
     }
 
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    private boolean verifySignature(@NonNull PublicKey publicKey, @NonNull COSEAlgorithmIdentifier algorithmIdentifier, @NonNull byte[] signature, @NonNull byte[] data) {
+    private boolean verifySignature(@NonNull PublicKey publicKey, @NonNull COSEAlgorithmIdentifier algorithmIdentifier, @NonNull byte[] signature, @NonNull ByteBuffer[] data) {
         try {
             String jcaName = getJcaName(algorithmIdentifier);
-            Signature verifier = SignatureUtil.createSignature(jcaName);
-            verifier.initVerify(publicKey);
-            verifier.update(data);
-
-            return verifier.verify(signature);
+            Signature verifier = CryptoUtil.getSignature(jcaName);
+            return SignatureUtil.verify(verifier, publicKey, signature, data);
         } catch (SignatureException | InvalidKeyException | RuntimeException e) {
             return false;
         }
     }
 
-    private @NonNull byte[] getAttToBeSigned(@NonNull CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
+    private @NonNull ByteBuffer[] getAttToBeSigned(@NonNull CoreRegistrationObject registrationObject) {
+        return new ByteBuffer[]{registrationObject.getAuthenticatorDataBuffer(), registrationObject.getClientDataHashBuffer()};
     }
 
 }
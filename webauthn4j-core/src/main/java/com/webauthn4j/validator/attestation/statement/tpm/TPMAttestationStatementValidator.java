@@ -22,8 +22,8 @@ import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.attestation.statement.*;
 import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CryptoUtil;
 import com.webauthn4j.util.MessageDigestUtil;
-import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.util.UnsignedNumberUtil;
 import com.webauthn4j.validator.CoreRegistrationObject;
 import com.webauthn4j.validator.attestation.statement.AbstractStatementValidator;
@@ -98,7 +98,7 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
         validatePublicKeyEquality(pubArea, authenticatorData);
 
         /// Concatenate authenticatorData and clientDataHash to form attToBeSigned.
-        byte[] attToBeSigned = getAttToBeSigned(registrationObject);
+        ByteBuffer[] attToBeSigned = getAttToBeSigned(registrationObject);
 
         /// Validate that certInfo is valid:
 
@@ -117,7 +117,7 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
         COSEAlgorithmIdentifier alg = attestationStatement.getAlg();
         //noinspection ConstantConditions as null check is already done in validateTPMAttestationStatementNull
         MessageDigest messageDigest = getMessageDigest(alg);
-        byte[] hash = messageDigest.digest(attToBeSigned);
+        byte[] hash = MessageDigestUtil.digest(messageDigest, attToBeSigned);
         if (!Arrays.equals(certInfo.getExtraData(), hash)) {
             throw new BadAttestationStatementException("extraData must be equals to the hash of attToBeSigned");
         }
@@ -130,7 +130,7 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
         String algJcaName;
         algJcaName = getAlgJcaName(hashAlg);
 
-        byte[] pubAreaDigest = MessageDigestUtil.createMessageDigest(algJcaName).digest(pubArea.getBytes());
+        byte[] pubAreaDigest = CryptoUtil.getMessageDigest(algJcaName).digest(pubArea.getBytes());
         if (!Arrays.equals(pubAreaDigest, certifyInfo.getName().getDigest())) {
             throw new BadAttestationStatementException("hash of `attested` doesn't match with name field of certifyInfo");
         }
@@ -183,7 +183,7 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
     private MessageDigest getMessageDigest(COSEAlgorithmIdentifier alg) {
         try {
             SignatureAlgorithm signatureAlgorithm = alg.toSignatureAlgorithm();
-            return signatureAlgorithm.getMessageDigestAlgorithm().createMessageDigestObject();
+            return CryptoUtil.getMessageDigest(signatureAlgorithm.getMessageDigestAlgorithm().getJcaName());
         } catch (IllegalArgumentException e) {
             throw new BadAttestationStatementException("alg is not signature algorithm", e);
         }
@@ -196,7 +196,7 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
         /// Verify the sig is a valid signature over certInfo using the attestation public key in aikCert with the algorithm specified in alg.
         //noinspection ConstantConditions as null check is already done in validateTPMAttestationStatementNull
         String jcaName = getJcaName(attestationStatement.getAlg());
-        Signature certInfoSignature = SignatureUtil.createSignature(jcaName);
+        Signature certInfoSignature = CryptoUtil.getSignature(jcaName);
         try {
             certInfoSignature.initVerify(aikCert.getPublicKey());
             certInfoSignature.update(certInfo.getBytes());
@@ -357,10 +357,8 @@ public class TPMAttestationStatementValidator extends AbstractStatementValidator
         }
     }
 
-    private byte[] getAttToBeSigned(CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
+    private ByteBuffer[] getAttToBeSigned(CoreRegistrationObject registrationObject) {
+        return new ByteBuffer[]{registrationObject.getAuthenticatorDataBuffer(), registrationObject.getClientDataHashBuffer()};
     }
 
 
@@ -18,21 +18,37 @@ package com.webauthn4j.validator.attestation.trustworthiness.certpath;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.data.attestation.statement.CertificateBaseAttestationStatement;
+import com.webauthn4j.revocation.CRLRevocationChecker;
+import com.webauthn4j.revocation.CRLStore;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.FlightRecorderEventType;
 import com.webauthn4j.validator.exception.CertificateException;
 import com.webauthn4j.validator.exception.TrustAnchorNotFoundException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Set;
 
 public abstract class CertPathTrustworthinessValidatorBase implements CertPathTrustworthinessValidator {
 
+    private static final FlightRecorderEventType CERT_PATH_VALIDATION_EVENT = FlightRecorderEventType.create(
+            "com.webauthn4j.CertPathValidation", "WebAuthn Attestation Cert Path Validation",
+            FlightRecorderEventType.Field.of("chainLength", int.class, "Chain Length"),
+            FlightRecorderEventType.Field.of("anchorsTried", int.class, "Trust Anchors Tried"),
+            FlightRecorderEventType.Field.of("cacheHit", boolean.class, "Cache Hit"),
+            FlightRecorderEventType.Field.of("outcome", String.class, "Outcome")
+    );
+
     private boolean fullChainProhibited = false;
+    private CertPathValidationCache certPathValidationCache;
+    private CRLStore crlStore;
+    private boolean unknownRevocationStatusAllowed = true;
 
     public void validate(@NonNull AAGUID aaguid, @NonNull CertificateBaseAttestationStatement attestationStatement, @NonNull Instant timestamp) {
         AssertUtil.notNull(aaguid, "aaguid must not be null");
@@ -42,14 +58,41 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
         //noinspection ConstantConditions as null check is already done in caller
         CertPath certPath = attestationStatement.getX5c().createCertPath();
 
-        Set<TrustAnchor> trustAnchors = resolveTrustAnchors(aaguid);
+        Object event = CERT_PATH_VALIDATION_EVENT.begin();
+        Set<TrustAnchor> trustAnchors = null;
+        try {
+            trustAnchors = resolveTrustAnchors(aaguid);
+            boolean cacheHit = validate(certPath, trustAnchors, aaguid, timestamp);
+            commitEvent(event, certPath, trustAnchors, cacheHit, null);
+        } catch (RuntimeException e) {
+            commitEvent(event, certPath, trustAnchors, false, e);
+            throw e;
+        }
+    }
 
+    /**
+     * Validates the cert path
+     *
+     * @return true if the validation result is taken from {@link CertPathValidationCache}
+     */
+    private boolean validate(@NonNull CertPath certPath, @NonNull Set<TrustAnchor> trustAnchors, @NonNull AAGUID aaguid, @NonNull Instant timestamp) {
         if (trustAnchors.isEmpty()) {
             throw new TrustAnchorNotFoundException("TrustAnchors are not found for AAGUID: " + aaguid.toString());
         }
 
+        CertPathValidationCache cache = certPathValidationCache;
+        String cacheKey = cache == null ? null : CertPathValidationCache.createKey(certPath);
+        if (cache != null && cacheKey != null) {
+            TrustAnchor cachedTrustAnchor = cache.get(cacheKey, certPath, trustAnchors, timestamp);
+            if (cachedTrustAnchor != null) {
+                validateFullChainProhibition(certPath, cachedTrustAnchor);
+                validateRevocationStatus(certPath, cachedTrustAnchor, timestamp);
+                return true;
+            }
+        }
+
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
+        PKIXParameters certPathParameters = createPKIXParameters(trustAnchors);
         certPathParameters.setPolicyQualifiersRejected(false); // As policy qualifiers are checked manually in attestation statement validator, it is turned off
 
         certPathParameters.setRevocationEnabled(false);
@@ -63,13 +106,58 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
         } catch (CertPathValidatorException e) {
             throw new com.webauthn4j.validator.exception.CertificateException("invalid cert path", e);
         }
-        if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
+        validateFullChainProhibition(certPath, result.getTrustAnchor());
+        validateRevocationStatus(certPath, result.getTrustAnchor(), timestamp);
+        if (cache != null && cacheKey != null) {
+            cache.put(cacheKey, certPath, result.getTrustAnchor());
+        }
+        return false;
+    }
+
+    private static void commitEvent(@Nullable Object event, @NonNull CertPath certPath, @Nullable Set<TrustAnchor> trustAnchors, boolean cacheHit, @Nullable RuntimeException exception) {
+        if (event == null) {
+            return;
+        }
+        String outcome = exception == null ? "success" : exception.getClass().getName();
+        CERT_PATH_VALIDATION_EVENT.commit(event, certPath.getCertificates().size(), trustAnchors == null ? 0 : trustAnchors.size(), cacheHit, outcome);
+    }
+
+    private void validateFullChainProhibition(@NonNull CertPath certPath, @NonNull TrustAnchor trustAnchor) {
+        if (fullChainProhibited && certPath.getCertificates().contains(trustAnchor.getTrustedCert())) {
             throw new CertificateException("`certpath` must not contain full chain.");
         }
     }
 
+    /**
+     * Checks revocation status with {@link CRLStore} instead of the default PKIX revocation checking, which may
+     * fetch CRLs or OCSP responses over the network. This is also applied to cached cert path validation results.
+     */
+    private void validateRevocationStatus(@NonNull CertPath certPath, @NonNull TrustAnchor trustAnchor, @NonNull Instant timestamp) {
+        CRLStore store = crlStore;
+        if (store == null) {
+            return;
+        }
+        CRLRevocationChecker revocationChecker = new CRLRevocationChecker(store, Collections.singleton(trustAnchor), Date.from(timestamp), unknownRevocationStatusAllowed);
+        try {
+            revocationChecker.check(certPath);
+        } catch (CertPathValidatorException e) {
+            throw new CertificateException("invalid cert path", e);
+        }
+    }
+
     protected abstract @NonNull Set<TrustAnchor> resolveTrustAnchors(@NonNull AAGUID aaguid);
 
+    /**
+     * Creates {@link PKIXParameters} for the {@link TrustAnchor} {@link Set} returned by {@link #resolveTrustAnchors(AAGUID)}.
+     * Subclasses may override this to reuse precomputed parameters. The returned instance is modified by the caller.
+     *
+     * @param trustAnchors {@link TrustAnchor} {@link Set}
+     * @return {@link PKIXParameters}
+     */
+    protected @NonNull PKIXParameters createPKIXParameters(@NonNull Set<TrustAnchor> trustAnchors) {
+        return CertificateUtil.createPKIXParameters(trustAnchors);
+    }
+
 
     public boolean isFullChainProhibited() {
         return fullChainProhibited;
@@ -79,4 +167,45 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
         this.fullChainProhibited = fullChainProhibited;
     }
 
+    public @Nullable CRLStore getCRLStore() {
+        return crlStore;
+    }
+
+    /**
+     * Sets the {@link CRLStore} to check revocation status of attestation certificates with.
+     * Revocation status is not checked by default.
+     *
+     * @param crlStore CRL store, or null to disable revocation checking
+     */
+    public void setCRLStore(@Nullable CRLStore crlStore) {
+        this.crlStore = crlStore;
+    }
+
+    public boolean isUnknownRevocationStatusAllowed() {
+        return unknownRevocationStatusAllowed;
+    }
+
+    /**
+     * Sets whether certificates are accepted when no valid CRL of their issuer is available in {@link CRLStore},
+     * including while {@link CRLStore} has not loaded CRLs yet
+     *
+     * @param unknownRevocationStatusAllowed true to accept certificates whose revocation status is unknown
+     */
+    public void setUnknownRevocationStatusAllowed(boolean unknownRevocationStatusAllowed) {
+        this.unknownRevocationStatusAllowed = unknownRevocationStatusAllowed;
+    }
+
+    public @Nullable CertPathValidationCache getCertPathValidationCache() {
+        return certPathValidationCache;
+    }
+
+    /**
+     * Sets the cache of successful cert path validations. Validation results are not cached by default.
+     *
+     * @param certPathValidationCache cache, or null to disable caching
+     */
+    public void setCertPathValidationCache(@Nullable CertPathValidationCache certPathValidationCache) {
+        this.certPathValidationCache = certPathValidationCache;
+    }
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+import com.webauthn4j.util.BoundedConcurrentCache;
+import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.CryptoUtil;
+import com.webauthn4j.validator.exception.CertificateException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.cert.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of successful cert path validations.
+ * <p>
+ * Entries are keyed by the SHA-256 fingerprints of the certificates in the path except the target (leaf) certificate,
+ * so attestation certificates issued per device by the same intermediates share an entry. Paths without issuing
+ * certificates are not cached, as nothing but the leaf would identify them. On a hit, the leaf alone is validated by
+ * PKIX with its issuer in the path as the trust anchor, which applies the same signature, validity, critical extension
+ * and algorithm constraint ({@code jdk.certpath.disabledAlgorithms}) checks as the full validation does for the leaf.
+ * Otherwise the cached result is not used.
+ * <p>
+ * A cached result is only used while the trust anchor that validated the path is still in the resolved trust anchor
+ * set and the timestamp is within the validity window of all issuing certificates in the path. Paths constrained by
+ * name constraints or policy constraints are not cached. Entries are evicted in approximately LRU order when the
+ * cache is full, as described in {@link BoundedConcurrentCache}, and expire after the configured time to live.
+ */
+public class CertPathValidationCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+
+    private static final String NAME_CONSTRAINTS_OID = "2.5.29.30";
+    private static final String POLICY_CONSTRAINTS_OID = "2.5.29.36";
+
+    private final BoundedConcurrentCache<String, CachedResult> entries;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public CertPathValidationCache(int maximumSize, @NonNull Duration timeToLive) {
+        AssertUtil.notNull(timeToLive, "timeToLive must not be null");
+        this.entries = new BoundedConcurrentCache<>(maximumSize, timeToLive);
+    }
+
+    public CertPathValidationCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates the key from the issuing certificates of the cert path, excluding the target certificate
+     *
+     * @param certPath cert path
+     * @return key, or null if the cert path has no issuing certificate and is not cached
+     */
+    static @Nullable String createKey(@NonNull CertPath certPath) {
+        List<? extends Certificate> certificates = certPath.getCertificates();
+        if (certificates.size() < 2) {
+            return null;
+        }
+        MessageDigest messageDigest = CryptoUtil.getSHA256();
+        for (Certificate certificate : certificates.subList(1, certificates.size())) {
+            try {
+                byte[] encoded = certificate.getEncoded();
+                messageDigest.update(ByteBuffer.allocate(4).putInt(encoded.length).array());
+                messageDigest.update(encoded);
+            } catch (CertificateEncodingException e) {
+                throw new CertificateException("invalid certificate", e);
+            }
+        }
+        return Base64UrlUtil.encodeToString(messageDigest.digest());
+    }
+
+    /**
+     * Looks up the trust anchor that validated the issuing certificates of the cert path identified by the key,
+     * and verifies the target certificate against the cached issuer
+     *
+     * @param key          key created by {@link #createKey(CertPath)}
+     * @param certPath     cert path to validate
+     * @param trustAnchors trust anchors currently trusted for the cert path
+     * @param timestamp    the time the cert path is validated at
+     * @return the trust anchor, or null if there is no usable cached result
+     */
+    @Nullable TrustAnchor get(@NonNull String key, @NonNull CertPath certPath, @NonNull Set<TrustAnchor> trustAnchors, @NonNull Instant timestamp) {
+        CachedResult cachedResult = entries.get(key);
+        if (cachedResult == null || !trustAnchors.contains(cachedResult.trustAnchor) || timestamp.isBefore(cachedResult.notBefore) || timestamp.isAfter(cachedResult.notAfter)
+                || !isLeafValid(certPath, cachedResult.leafValidationParameters, timestamp)) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return cachedResult.trustAnchor;
+    }
+
+    void put(@NonNull String key, @NonNull CertPath certPath, @NonNull TrustAnchor trustAnchor) {
+        List<? extends Certificate> certificates = certPath.getCertificates();
+        if (certificates.size() < 2 || trustAnchor.getNameConstraints() != null) {
+            return;
+        }
+        Instant notBefore = Instant.MIN;
+        Instant notAfter = Instant.MAX;
+        for (Certificate certificate : certificates.subList(1, certificates.size())) {
+            X509Certificate x509Certificate = (X509Certificate) certificate;
+            if (x509Certificate.getExtensionValue(NAME_CONSTRAINTS_OID) != null || x509Certificate.getExtensionValue(POLICY_CONSTRAINTS_OID) != null) {
+                return;
+            }
+            Instant certificateNotBefore = x509Certificate.getNotBefore().toInstant();
+            Instant certificateNotAfter = x509Certificate.getNotAfter().toInstant();
+            notBefore = certificateNotBefore.isAfter(notBefore) ? certificateNotBefore : notBefore;
+            notAfter = certificateNotAfter.isBefore(notAfter) ? certificateNotAfter : notAfter;
+        }
+        PKIXParameters leafValidationParameters = CertificateUtil.createPKIXParameters(
+                Collections.singleton(new TrustAnchor((X509Certificate) certificates.get(1), null)));
+        leafValidationParameters.setPolicyQualifiersRejected(false); // same as the full validation
+        leafValidationParameters.setRevocationEnabled(false);
+        entries.put(key, new CachedResult(trustAnchor, leafValidationParameters, notBefore, notAfter));
+    }
+
+    /**
+     * Validates the target certificate, which is not covered by the cache key, with its issuer in the cert path as
+     * the trust anchor
+     */
+    private static boolean isLeafValid(@NonNull CertPath certPath, @NonNull PKIXParameters leafValidationParameters, @NonNull Instant timestamp) {
+        PKIXParameters parameters = (PKIXParameters) leafValidationParameters.clone();
+        parameters.setDate(Date.from(timestamp));
+        try {
+            CertPath leafCertPath = CertificateUtil.generateCertPath(Collections.singletonList(certPath.getCertificates().get(0)));
+            CertificateUtil.createCertPathValidator().validate(leafCertPath, parameters);
+            return true;
+        } catch (GeneralSecurityException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return entries.getMaximumSize();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+
+    private static class CachedResult {
+
+        private final TrustAnchor trustAnchor;
+        private final PKIXParameters leafValidationParameters;
+        private final Instant notBefore;
+        private final Instant notAfter;
+
+        CachedResult(TrustAnchor trustAnchor, PKIXParameters leafValidationParameters, Instant notBefore, Instant notAfter) {
+            this.trustAnchor = trustAnchor;
+            this.leafValidationParameters = leafValidationParameters;
+            this.notBefore = notBefore;
+            this.notAfter = notAfter;
+        }
+    }
+}
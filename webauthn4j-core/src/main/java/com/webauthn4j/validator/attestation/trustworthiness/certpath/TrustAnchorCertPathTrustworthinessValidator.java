@@ -22,6 +22,7 @@ import com.webauthn4j.data.attestation.statement.AttestationStatement;
 import com.webauthn4j.util.AssertUtil;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.security.cert.PKIXParameters;
 import java.security.cert.TrustAnchor;
 import java.util.Set;
 
@@ -42,4 +43,9 @@ public class TrustAnchorCertPathTrustworthinessValidator extends CertPathTrustwo
         AssertUtil.notNull(aaguid, "aaguid must not be null");
         return trustAnchorsResolver.resolve(aaguid);
     }
+
+    @Override
+    protected @NonNull PKIXParameters createPKIXParameters(@NonNull Set<TrustAnchor> trustAnchors) {
+        return trustAnchorsResolver.createPKIXParameters(trustAnchors);
+    }
 }
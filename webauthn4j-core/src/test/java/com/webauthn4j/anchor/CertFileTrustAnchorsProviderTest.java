@@ -18,16 +18,25 @@ package com.webauthn4j.anchor;
 
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.test.TestAttestationUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,6 +44,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class CertFileTrustAnchorsProviderTest {
 
     private CertFileTrustAnchorsProvider target;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
 
     @Test
     void provide_test() throws Exception {
@@ -56,6 +71,55 @@ class CertFileTrustAnchorsProviderTest {
         );
     }
 
+    @Test
+    void reloadIfModified_test(@TempDir Path tempDir) throws Exception {
+        Path certificate = tempDir.resolve("test.crt");
+        writeCertificate(certificate, TestAttestationUtil.load2tierTestRootCACertificate(), 1000);
+        target = new CertFileTrustAnchorsProvider(Collections.singletonList(certificate));
+        target.startReloading(executor, Duration.ofHours(1));
+
+        Map<AAGUID, Set<TrustAnchor>> first = target.provide();
+        assertThat(target.reloadIfModified()).isFalse();
+        assertThat(target.provide()).isSameAs(first);
+
+        writeCertificate(certificate, TestAttestationUtil.load3tierTestRootCACertificate(), 2000);
+        assertThat(target.reloadIfModified()).isTrue();
+        assertThat(target.provide().get(AAGUID.NULL).iterator().next().getTrustedCert()).isEqualTo(TestAttestationUtil.load3tierTestRootCACertificate());
+    }
+
+    @Test
+    void reloadIfModified_keeps_current_trust_anchors_on_failure_test(@TempDir Path tempDir) throws Exception {
+        Path certificate = tempDir.resolve("test.crt");
+        writeCertificate(certificate, TestAttestationUtil.load2tierTestRootCACertificate(), 1000);
+        target = new CertFileTrustAnchorsProvider(Collections.singletonList(certificate));
+        target.startReloading(executor, Duration.ofHours(1));
+        Map<AAGUID, Set<TrustAnchor>> first = target.provide();
+
+        Files.write(certificate, new byte[]{0x00, 0x01});
+        Files.setLastModifiedTime(certificate, FileTime.fromMillis(2000));
+
+        assertThrows(RuntimeException.class, () -> target.reloadIfModified());
+        assertThat(target.provide()).isSameAs(first);
+    }
+
+    @Test
+    void startReloading_test(@TempDir Path tempDir) throws Exception {
+        Path certificate = tempDir.resolve("test.crt");
+        writeCertificate(certificate, TestAttestationUtil.load2tierTestRootCACertificate(), 1000);
+        target = new CertFileTrustAnchorsProvider(Collections.singletonList(certificate));
+        target.provide();
+        target.startReloading(executor, Duration.ofMillis(10));
+
+        writeCertificate(certificate, TestAttestationUtil.load3tierTestRootCACertificate(), 2000);
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!target.provide().get(AAGUID.NULL).iterator().next().getTrustedCert().equals(TestAttestationUtil.load3tierTestRootCACertificate())) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        target.stopReloading();
+    }
+
     @Test
     void getter_setter_test() throws Exception {
         target = new CertFileTrustAnchorsProvider();
@@ -64,4 +128,9 @@ class CertFileTrustAnchorsProviderTest {
         assertThat(target.getCertificates()).isEqualTo(paths);
     }
 
-}
\ No newline at end of file
+    private static void writeCertificate(Path path, X509Certificate certificate, long lastModified) throws Exception {
+        Files.write(path, certificate.getEncoded());
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified));
+    }
+
+}
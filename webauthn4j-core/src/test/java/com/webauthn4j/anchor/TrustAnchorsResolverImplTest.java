@@ -17,12 +17,20 @@
 package com.webauthn4j.anchor;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.test.TestAttestationUtil;
 import org.junit.jupiter.api.Test;
 
+import java.security.cert.PKIXParameters;
 import java.security.cert.TrustAnchor;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class TrustAnchorsResolverImplTest {
 
@@ -34,4 +42,65 @@ class TrustAnchorsResolverImplTest {
         Set<TrustAnchor> trustAnchorsB = target.resolve(AAGUID.ZERO);
         assertThat(trustAnchorsA).isEqualTo(trustAnchorsB);
     }
+
+    @Test
+    void resolve_merges_common_trust_anchors_test() {
+        TrustAnchor common = new TrustAnchor(TestAttestationUtil.load2tierTestRootCACertificate(), null);
+        TrustAnchor specific = new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null);
+        Map<AAGUID, Set<TrustAnchor>> map = new HashMap<>();
+        map.put(AAGUID.NULL, Collections.singleton(common));
+        map.put(AAGUID.ZERO, Collections.singleton(specific));
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(() -> map);
+
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactlyInAnyOrder(common, specific);
+        assertThat(target.resolve(new AAGUID("49e25c43-a6d1-49f0-bcfa-23e23a7c0e52"))).containsExactly(common);
+        assertThat(target.resolve(AAGUID.ZERO)).isSameAs(target.resolve(AAGUID.ZERO));
+    }
+
+    @Test
+    void resolve_rebuilds_index_when_provider_data_changes_test() {
+        TrustAnchor first = new TrustAnchor(TestAttestationUtil.load2tierTestRootCACertificate(), null);
+        TrustAnchor second = new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null);
+        TrustAnchorsProvider trustAnchorsProvider = mock(TrustAnchorsProvider.class);
+        when(trustAnchorsProvider.provide()).thenReturn(Collections.singletonMap(AAGUID.ZERO, Collections.singleton(first)));
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(trustAnchorsProvider);
+
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactly(first);
+        when(trustAnchorsProvider.provide()).thenReturn(Collections.singletonMap(AAGUID.ZERO, Collections.singleton(second)));
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactly(second);
+    }
+
+    @Test
+    void resolve_reflects_provider_data_modified_in_place_test() {
+        TrustAnchor first = new TrustAnchor(TestAttestationUtil.load2tierTestRootCACertificate(), null);
+        TrustAnchor second = new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null);
+        Map<AAGUID, Set<TrustAnchor>> map = new HashMap<>();
+        Set<TrustAnchor> common = new HashSet<>();
+        common.add(first);
+        map.put(AAGUID.NULL, common);
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(() -> map);
+
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactly(first);
+        map.put(AAGUID.ZERO, Collections.singleton(second));
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactlyInAnyOrder(first, second);
+        common.remove(first);
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactly(second);
+    }
+
+    @Test
+    void createPKIXParameters_test() {
+        TrustAnchor trustAnchor = new TrustAnchor(TestAttestationUtil.load2tierTestRootCACertificate(), null);
+        Map<AAGUID, Set<TrustAnchor>> map = Collections.singletonMap(AAGUID.ZERO, Collections.singleton(trustAnchor));
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(() -> map);
+        Set<TrustAnchor> trustAnchors = target.resolve(AAGUID.ZERO);
+
+        PKIXParameters parametersA = target.createPKIXParameters(trustAnchors);
+        PKIXParameters parametersB = target.createPKIXParameters(trustAnchors);
+        parametersA.setRevocationEnabled(false);
+
+        assertThat(parametersA).isNotSameAs(parametersB);
+        assertThat(parametersA.getTrustAnchors()).containsExactly(trustAnchor);
+        assertThat(parametersB.isRevocationEnabled()).isTrue();
+        assertThat(target.createPKIXParameters(Collections.singleton(trustAnchor)).getTrustAnchors()).containsExactly(trustAnchor);
+    }
 }
@@ -21,6 +21,8 @@ import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
 import com.webauthn4j.util.Base64UrlUtil;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class AttestedCredentialDataConverterTest {
@@ -42,6 +44,20 @@ class AttestedCredentialDataConverterTest {
 
     }
 
+    @Test
+    void convert_from_non_array_backed_ByteBuffer_test() {
+        //Given
+        //noinspection SpellCheckingInspection
+        byte[] input = Base64UrlUtil.decode("VQ5LVKpHQJ-alRq3bBMBMQAgcSLOLIaiEIVRz-EklkZ21K71OGcRvvgro1kLdT4pvCClAQIDJiABIVggLDjE-Yci-q4NHPYpTPLJCVkWFkxuL6Zz9jKUvWjnmM8iWCAZAjkRJgA59HxAzqq5NBKjKGNkRPzToDfI6gJR7YBYkQ");
+        ByteBuffer byteBuffer = ByteBuffer.wrap(input).asReadOnlyBuffer();
+
+        //When
+        AttestedCredentialData attestedCredentialData = target.convert(byteBuffer);
+
+        assertThat(attestedCredentialData).isEqualTo(target.convert(input));
+        assertThat(byteBuffer.hasRemaining()).isFalse();
+    }
+
     @Test
     void extractCredentialId_test() {
         //Given
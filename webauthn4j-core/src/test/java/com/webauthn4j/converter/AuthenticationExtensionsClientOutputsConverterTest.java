@@ -18,8 +18,13 @@ package com.webauthn4j.converter;
 
 
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.data.extension.client.ExtensionClientOutput;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class AuthenticationExtensionsClientOutputsConverterTest {
@@ -34,6 +39,15 @@ class AuthenticationExtensionsClientOutputsConverterTest {
         assertThatThrownBy(() -> target.convert(null)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void convert_byte_range_test() {
+        byte[] source = "[{\"credProps\":{\"rk\":true}}]".getBytes(StandardCharsets.UTF_8);
+
+        AuthenticationExtensionsClientOutputs<ExtensionClientOutput> clientOutputs = target.convert(source, 1, source.length - 2);
+
+        assertThat(clientOutputs.getCredProps().getRk()).isTrue();
+    }
+
     @Test
     void convertToString_null_test() {
         //noinspection ConstantConditions
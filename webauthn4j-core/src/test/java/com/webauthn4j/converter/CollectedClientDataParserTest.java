@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.TokenBinding;
+import com.webauthn4j.data.client.TokenBindingStatus;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("ConstantConditions")
+class CollectedClientDataParserTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    @Test
+    void parse_test() {
+        //noinspection SpellCheckingInspection
+        String clientDataJson = "{\"type\":\"webauthn.get\",\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"http://localhost:8080\",\"crossOrigin\":false,\"tokenBinding\":{\"status\":\"present\",\"id\":\"aWQ\"}}";
+
+        CollectedClientData result = CollectedClientDataParser.parse(clientDataJson.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(result).isEqualTo(new CollectedClientData(ClientDataType.GET, new DefaultChallenge("tk31UH1ETGGTPj33OhOMzw"), new Origin("http://localhost:8080"), new TokenBinding(TokenBindingStatus.PRESENT, "aWQ")));
+    }
+
+    @Test
+    void parse_with_unknown_members_and_whitespace_test() {
+        String clientDataJson = "{\n" +
+                "  \"type\" : \"webauthn.create\",\n" +
+                "  \"unknown\": {\"array\": [1, -2.5e+3, 0.1, true, false, null, \"a\\\"b\", {}], \"empty\": []},\n" +
+                "  \"challenge\": \"AAABcXKin1fLrZx0o4RL64fs-RUVSxCu\",\n" +
+                "  \"origin\": \"android:apk-key-hash:pNiP5iKyQ8JwgGOaKA1zGPUPJIS00H1xKCQcfIoGLck\"\n" +
+                "}\n";
+        byte[] source = clientDataJson.getBytes(StandardCharsets.UTF_8);
+
+        CollectedClientData result = CollectedClientDataParser.parse(source);
+
+        assertThat(result).isEqualTo(new CollectedClientDataConverter(objectConverter).convert(source));
+        assertThat(result.getTokenBinding()).isNull();
+    }
+
+    @Test
+    void parse_with_escaped_string_test() {
+        String clientDataJson = "{\"type\":\"webauthn.get\",\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"https:\\/\\/example\\u002ecom\"}";
+
+        CollectedClientData result = CollectedClientDataParser.parse(clientDataJson.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(result.getOrigin()).isEqualTo(new Origin("https://example.com"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "null",
+            "{\"type\":null}",
+            "{\"type\":\"webauthn.unknown\"}",
+            "{\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",}",
+            "{\"unknown\":01}",
+            "{\"unknown\":tru}",
+            "{\"type\":\"webauthn.get\"} {}"
+    })
+    void parse_unsupported_input_test(String clientDataJson) {
+        assertThat(CollectedClientDataParser.parse(clientDataJson.getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    void convert_with_collectedClientDataParser_enabled_test() {
+        objectConverter.setCollectedClientDataParserEnabled(true);
+        CollectedClientDataConverter target = new CollectedClientDataConverter(objectConverter);
+        //noinspection SpellCheckingInspection
+        String clientDataJson = "{\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"http://localhost:8080\",\"tokenBinding\":{\"status\":\"not-supported\"},\"type\":\"webauthn.get\"}";
+        byte[] source = clientDataJson.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(target.convert(source)).isEqualTo(new CollectedClientDataConverter(new ObjectConverter()).convert(source));
+    }
+
+    @Test
+    void convert_invalid_input_with_collectedClientDataParser_enabled_test() {
+        objectConverter.setCollectedClientDataParserEnabled(true);
+        CollectedClientDataConverter target = new CollectedClientDataConverter(objectConverter);
+        byte[] source = "{\"type\":\"webauthn.unknown\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(DataConversionException.class, () -> target.convert(source));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticatorTransport;
+import com.webauthn4j.data.RegistrationData;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SuppressWarnings("ConstantConditions")
+class PublicKeyCredentialConverterTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    private final PublicKeyCredentialConverter target = new PublicKeyCredentialConverter(objectConverter);
+
+    @Test
+    void convertToAuthenticationData_test() {
+        byte[] credentialId = new byte[]{0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xab, (byte) 0xcd, (byte) 0xef};
+        byte[] userHandle = new byte[]{0x55, 0x66};
+        byte[] signature = new byte[]{0x0a, 0x0b, 0x0c, 0x0d, 0x0e};
+        byte[] clientDataJSON = TestDataUtil.createClientDataJSON(ClientDataType.GET);
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = TestDataUtil.createAuthenticatorData();
+        byte[] authenticatorDataBytes = new AuthenticatorDataConverter(objectConverter).convert(authenticatorData);
+
+        String json = "{\"id\":\"" + Base64UrlUtil.encodeToString(credentialId) + "\"," +
+                "\"rawId\":\"" + Base64UrlUtil.encodeToString(credentialId) + "\"," +
+                "\"type\":\"public-key\"," +
+                "\"response\":{" +
+                "\"clientDataJSON\":\"" + Base64UrlUtil.encodeToString(clientDataJSON) + "\"," +
+                "\"authenticatorData\":\"" + Base64UrlUtil.encodeToString(authenticatorDataBytes) + "\"," +
+                "\"signature\":\"" + Base64UrlUtil.encodeToString(signature) + "\"," +
+                "\"userHandle\":\"" + Base64UrlUtil.encodeToString(userHandle) + "\"}," +
+                "\"clientExtensionResults\":{\"appid\":true}," +
+                "\"authenticatorAttachment\":\"platform\"}";
+
+        AuthenticationData authenticationData = target.convertToAuthenticationData(json.getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertThat(authenticationData.getCredentialId()).isEqualTo(credentialId),
+                () -> assertThat(authenticationData.getUserHandle()).isEqualTo(userHandle),
+                () -> assertThat(authenticationData.getSignature()).isEqualTo(signature),
+                () -> assertThat(authenticationData.getCollectedClientDataBytes()).isEqualTo(clientDataJSON),
+                () -> assertThat(authenticationData.getCollectedClientData().getType()).isEqualTo(ClientDataType.GET),
+                () -> assertThat(authenticationData.getAuthenticatorDataBytes()).isEqualTo(authenticatorDataBytes),
+                () -> assertThat(authenticationData.getAuthenticatorData()).isEqualTo(authenticatorData),
+                () -> assertThat(authenticationData.getClientExtensions().getAppid()).isTrue()
+        );
+    }
+
+    @Test
+    void convertToAuthenticationData_with_null_userHandle_and_without_rawId_test() {
+        byte[] credentialId = new byte[]{0x01, 0x02, 0x03};
+        String json = "{ \"id\" : \"" + Base64UrlUtil.encodeToString(credentialId) + "\",\n" +
+                " \"response\" : { \"userHandle\" : null }, \"clientExtensionResults\" : null }";
+
+        AuthenticationData authenticationData = target.convertToAuthenticationData(json.getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertThat(authenticationData.getCredentialId()).isEqualTo(credentialId),
+                () -> assertThat(authenticationData.getUserHandle()).isNull(),
+                () -> assertThat(authenticationData.getCollectedClientData()).isNull(),
+                () -> assertThat(authenticationData.getClientExtensions()).isNull()
+        );
+    }
+
+    @Test
+    void convertToRegistrationData_test() {
+        byte[] clientDataJSON = TestDataUtil.createClientDataJSON(ClientDataType.CREATE);
+        AttestationObject attestationObject = TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement();
+        byte[] attestationObjectBytes = new AttestationObjectConverter(objectConverter).convertToBytes(attestationObject);
+
+        String json = "{\"id\":\"AAEC\",\"rawId\":\"AAEC\",\"type\":\"public-key\"," +
+                "\"response\":{" +
+                "\"clientDataJSON\":\"" + Base64UrlUtil.encodeToString(clientDataJSON) + "\"," +
+                "\"attestationObject\":\"" + Base64UrlUtil.encodeToString(attestationObjectBytes) + "\"," +
+                "\"transports\":[\"usb\",\"internal\"]}," +
+                "\"clientExtensionResults\":{\"credProps\":{\"rk\":true}}}";
+
+        RegistrationData registrationData = target.convertToRegistrationData(json.getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertThat(registrationData.getAttestationObjectBytes()).isEqualTo(attestationObjectBytes),
+                () -> assertThat(registrationData.getAttestationObject()).isEqualTo(attestationObject),
+                () -> assertThat(registrationData.getCollectedClientDataBytes()).isEqualTo(clientDataJSON),
+                () -> assertThat(registrationData.getCollectedClientData().getType()).isEqualTo(ClientDataType.CREATE),
+                () -> assertThat(registrationData.getTransports()).containsExactlyInAnyOrder(AuthenticatorTransport.USB, AuthenticatorTransport.INTERNAL),
+                () -> assertThat(registrationData.getClientExtensions().getCredProps().getRk()).isTrue()
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"AQ", "AQI", "AQID", "AQIDBA", "AQ==", "AQI=", "_-8"})
+    void base64url_decoding_matches_Base64UrlUtil_test(String value) {
+        String json = "{\"rawId\":\"" + value + "\"}";
+        AuthenticationData authenticationData = target.convertToAuthenticationData(json.getBytes(StandardCharsets.UTF_8));
+        assertThat(authenticationData.getCredentialId()).isEqualTo(Base64UrlUtil.decode(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "{",
+            "[]",
+            "{\"rawId\":\"A\"}",
+            "{\"rawId\":\"AQ=\"}",
+            "{\"rawId\":\"AQ===\"}",
+            "{\"rawId\":\"AQ+/\"}",
+            "{\"rawId\":1}",
+            "{\"response\":{\"transports\":[1]}}",
+            "{\"rawId\":\"AQ\"} {}"
+    })
+    void convert_malformed_test(String json) {
+        assertThatThrownBy(() -> target.convertToRegistrationData(json.getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(DataConversionException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"id\":\"AAED\",\"rawId\":\"AAEC\"}",
+            "{\"rawId\":\"AAEC\",\"id\":\"AAEC=\"}",
+            "{\"id\":\"AAE\",\"rawId\":\"AAEC\"}"
+    })
+    void convert_with_id_not_matching_rawId_test(String json) {
+        assertThatThrownBy(() -> target.convertToRegistrationData(json.getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void convert_with_id_matching_rawId_test() {
+        String json = "{ \"id\" : \"AAEC\", \"rawId\" : \"AAEC\" }";
+
+        assertThat(target.convertToAuthenticationData(json.getBytes(StandardCharsets.UTF_8)).getCredentialId()).isEqualTo(new byte[]{0x00, 0x01, 0x02});
+    }
+
+    @Test
+    void convert_null_test() {
+        assertThatThrownBy(() -> target.convertToAuthenticationData(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> target.convertToRegistrationData(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -18,6 +18,7 @@ package com.webauthn4j.converter.jackson.deserializer;
 
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.converter.util.X509CertificateCache;
 import com.webauthn4j.test.TestAttestationUtil;
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +58,21 @@ class X509CertificateDeserializerTest {
         X509CertificateDeserializerTestData result = cborConverter.readValue(input, X509CertificateDeserializerTestData.class);
         assertThat(result.getCertificate()).isNull();
     }
+
+    @Test
+    void deserialize_with_cache_test() throws CertificateEncodingException {
+        X509CertificateCache x509CertificateCache = new X509CertificateCache();
+        ObjectConverter objectConverter = new ObjectConverter(x509CertificateCache);
+        CborConverter cborConverter = objectConverter.getCborConverter();
+
+        Map<String, byte[]> source = new HashMap<>();
+        source.put("certificate", TestAttestationUtil.load2tierTestAuthenticatorAttestationCertificate().getEncoded());
+        byte[] input = cborConverter.writeValueAsBytes(source);
+
+        X509CertificateDeserializerTestData first = cborConverter.readValue(input, X509CertificateDeserializerTestData.class);
+        X509CertificateDeserializerTestData second = cborConverter.readValue(input, X509CertificateDeserializerTestData.class);
+        assertThat(second.getCertificate()).isSameAs(first.getCertificate());
+        assertThat(x509CertificateCache.getMissCount()).isEqualTo(1);
+        assertThat(x509CertificateCache.getHitCount()).isEqualTo(1);
+    }
 }
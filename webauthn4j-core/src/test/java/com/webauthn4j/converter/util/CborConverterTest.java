@@ -30,4 +30,15 @@ class CborConverterTest {
         assertThat(bytes).isNotNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    void writeValueAsBytes_and_readValue_repeatedly_test() {
+        for (int i = 0; i < 3; i++) {
+            ConverterTestDto converterTestDto = new ConverterTestDto();
+            converterTestDto.setValue("dummy" + i);
+            byte[] bytes = cborConverter.writeValueAsBytes(converterTestDto);
+            ConverterTestDto dto = cborConverter.readValue(bytes, ConverterTestDto.class);
+            assertThat(dto.getValue()).isEqualTo("dummy" + i);
+        }
+    }
+
+}
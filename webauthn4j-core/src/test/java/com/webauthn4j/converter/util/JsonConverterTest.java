@@ -104,4 +104,14 @@ class JsonConverterTest {
                 jsonConverter.writeValueAsBytes(converterTestInvalidDto)
         );
     }
+
+    @Test
+    void readValue_with_TypeReference_repeatedly_test() {
+        for (int i = 0; i < 3; i++) {
+            ConverterTestDto dto = jsonConverter.readValue("{\"value\":\"dummy" + i + "\"}", new TypeReference<ConverterTestDto>() {
+            });
+            assertThat(dto.getValue()).isEqualTo("dummy" + i);
+        }
+    }
+
 }
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ObjectConverterTest {
 
@@ -33,4 +34,24 @@ class ObjectConverterTest {
         assertThat(objectConverter.getCborConverter()).isNotNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    void registerAccessorModuleIfAvailable_without_module_on_classpath_test() {
+        ObjectConverter objectConverter = new ObjectConverter();
+        ConverterTestDto converterTestDto = new ConverterTestDto();
+        converterTestDto.setValue("dummy");
+
+        assertThat(objectConverter.registerAccessorModuleIfAvailable()).isFalse();
+        assertThat(objectConverter.getJsonConverter().writeValueAsString(converterTestDto)).isEqualTo("{\"value\":\"dummy\"}");
+    }
+
+    @Test
+    void registerAccessorModuleIfAvailable_after_use_test() {
+        ObjectConverter objectConverter = new ObjectConverter();
+        ConverterTestDto converterTestDto = new ConverterTestDto();
+        converterTestDto.setValue("dummy");
+        objectConverter.getJsonConverter().writeValueAsString(converterTestDto);
+
+        assertThrows(IllegalStateException.class, objectConverter::registerAccessorModuleIfAvailable);
+    }
+
+}
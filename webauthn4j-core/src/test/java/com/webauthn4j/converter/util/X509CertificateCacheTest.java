@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter.util;
+
+import com.webauthn4j.test.TestAttestationUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class X509CertificateCacheTest {
+
+    @Test
+    void get_returns_shared_instance_test() throws CertificateEncodingException {
+        X509CertificateCache target = new X509CertificateCache();
+        X509Certificate certificate = TestAttestationUtil.load3tierTestIntermediateCACertificate();
+
+        X509Certificate first = target.get(certificate.getEncoded());
+        X509Certificate second = target.get(certificate.getEncoded());
+
+        assertThat(first).isEqualTo(certificate);
+        assertThat(second).isSameAs(first);
+        assertThat(target.getHitCount()).isEqualTo(1);
+        assertThat(target.getMissCount()).isEqualTo(1);
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_evicts_least_recently_used_entry_test() throws CertificateEncodingException {
+        X509CertificateCache target = new X509CertificateCache(2);
+        byte[] rootCA = TestAttestationUtil.load3tierTestRootCACertificate().getEncoded();
+        byte[] intermediateCA = TestAttestationUtil.load3tierTestIntermediateCACertificate().getEncoded();
+        byte[] authenticator = TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate().getEncoded();
+
+        X509Certificate cachedRootCA = target.get(rootCA);
+        target.get(intermediateCA);
+        target.get(rootCA);
+        target.get(authenticator);
+
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.getEvictionCount()).isEqualTo(1);
+        assertThat(target.get(rootCA)).isSameAs(cachedRootCA);
+    }
+
+    @Test
+    void get_with_invalid_certificate_test() {
+        X509CertificateCache target = new X509CertificateCache();
+        byte[] invalid = new byte[]{0x01, 0x02, 0x03};
+        assertThrows(IllegalArgumentException.class, () -> target.get(invalid));
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void clear_test() throws CertificateEncodingException {
+        X509CertificateCache target = new X509CertificateCache();
+        target.get(TestAttestationUtil.load3tierTestRootCACertificate().getEncoded());
+        target.clear();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void constructor_with_invalid_maximumSize_test() {
+        assertThrows(IllegalArgumentException.class, () -> new X509CertificateCache(0));
+    }
+}
@@ -23,6 +23,8 @@ import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -62,6 +64,35 @@ class AuthenticationDataTest {
         assertThat(instance.getSignature()).isEqualTo(signature);
     }
 
+    @Test
+    void buffer_getter_test() {
+        byte[] authenticatorDataBytes = new byte[]{0x01, 0x02, 0x03};
+        byte[] collectedClientDataBytes = new byte[128];
+
+        AuthenticationData instance = new AuthenticationData(
+                new byte[32],
+                null,
+                null,
+                authenticatorDataBytes,
+                null,
+                collectedClientDataBytes,
+                null,
+                new byte[32]
+        );
+
+        ByteBuffer authenticatorDataBuffer = instance.getAuthenticatorDataBuffer();
+        byte[] authenticatorDataBufferBytes = new byte[authenticatorDataBuffer.remaining()];
+        authenticatorDataBuffer.get(authenticatorDataBufferBytes);
+        ByteBuffer clientDataHashBuffer = instance.getClientDataHashBuffer();
+        byte[] clientDataHashBufferBytes = new byte[clientDataHashBuffer.remaining()];
+        clientDataHashBuffer.get(clientDataHashBufferBytes);
+
+        assertThat(authenticatorDataBufferBytes).isEqualTo(authenticatorDataBytes);
+        assertThat(clientDataHashBufferBytes).isEqualTo(instance.getClientDataHash());
+        assertThat(instance.getAuthenticatorDataBuffer().isReadOnly()).isTrue();
+        assertThat(instance.getClientDataHashBuffer().isReadOnly()).isTrue();
+    }
+
     @Test
     void equals_hashCode_test() {
 
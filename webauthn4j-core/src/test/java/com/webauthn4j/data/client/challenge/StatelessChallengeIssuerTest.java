@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data.client.challenge;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StatelessChallengeIssuerTest {
+
+    private final byte[] secret = new byte[]{0x00, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x0a, 0x0b, 0x0c, 0x0d, 0x0e, 0x0f};
+    private final byte[] context = "webauthn.get:session-1".getBytes(StandardCharsets.UTF_8);
+    private final StatelessChallengeIssuer target = new StatelessChallengeIssuer(secret, Duration.ofMinutes(5));
+
+    @Test
+    void issue_and_isValid_test() {
+        Challenge challenge = target.issue(context);
+
+        assertThat(challenge.getValue()).hasSize(40);
+        assertThat(target.isValid(challenge, context)).isTrue();
+        assertThat(target.isValid(new DefaultChallenge(challenge.getValue()), context)).isTrue();
+    }
+
+    @Test
+    void issue_returns_different_challenges_test() {
+        assertThat(target.issue(context)).isNotEqualTo(target.issue(context));
+    }
+
+    @Test
+    void isValid_with_other_issuer_sharing_secret_test() {
+        StatelessChallengeIssuer other = new StatelessChallengeIssuer(secret.clone());
+
+        assertThat(other.isValid(target.issue(context), context)).isTrue();
+    }
+
+    @Test
+    void isValid_with_other_secret_test() {
+        byte[] otherSecret = secret.clone();
+        otherSecret[0] = 0x7f;
+        StatelessChallengeIssuer other = new StatelessChallengeIssuer(otherSecret);
+
+        assertThat(other.isValid(target.issue(context), context)).isFalse();
+    }
+
+    @Test
+    void isValid_with_other_context_test() {
+        Challenge challenge = target.issue(context);
+
+        assertThat(target.isValid(challenge, "webauthn.create:session-1".getBytes(StandardCharsets.UTF_8))).isFalse();
+        assertThat(target.isValid(challenge, "webauthn.get:session-2".getBytes(StandardCharsets.UTF_8))).isFalse();
+    }
+
+    @Test
+    void isValid_with_expired_challenge_test() {
+        Instant issuedAt = Instant.parse("2020-01-01T00:00:00Z");
+        Challenge challenge = target.issue(context, issuedAt);
+
+        assertThat(target.isValid(challenge, context, issuedAt.plus(Duration.ofMinutes(5)))).isTrue();
+        assertThat(target.isValid(challenge, context, issuedAt.plus(Duration.ofMinutes(5)).plusSeconds(1))).isFalse();
+    }
+
+    @Test
+    void isValid_with_tampered_challenge_test() {
+        byte[] value = target.issue(context).getValue();
+        // extend the expiry
+        value[16] = 0x7f;
+
+        assertThat(target.isValid(new DefaultChallenge(value), context)).isFalse();
+    }
+
+    @Test
+    void isValid_with_default_challenge_test() {
+        assertThat(target.isValid(new DefaultChallenge(), context)).isFalse();
+    }
+
+    @Test
+    void constructor_with_short_secret_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StatelessChallengeIssuer(new byte[15])
+        );
+    }
+
+    @Test
+    void constructor_with_zero_validity_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StatelessChallengeIssuer(secret, Duration.ZERO)
+        );
+    }
+}
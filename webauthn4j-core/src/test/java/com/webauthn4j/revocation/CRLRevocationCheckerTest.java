@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.revocation;
+
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.*;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CRLRevocationCheckerTest {
+
+    private final X509Certificate authenticatorCertificate = TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate();
+    private final CertPath certPath = CertificateUtil.generateCertPath(Arrays.asList(authenticatorCertificate, TestAttestationUtil.load3tierTestIntermediateCACertificate()));
+    private final Set<TrustAnchor> trustAnchors = Collections.singleton(new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null));
+
+    @Test
+    void check_test() throws Exception {
+        CRLStore crlStore = new CRLStore(() -> Collections.singletonList(TestAttestationUtil.create3tierTestIntermediateCACRL()));
+        crlStore.refresh();
+        CRLRevocationChecker target = new CRLRevocationChecker(crlStore, trustAnchors, new Date(), true);
+
+        target.check(certPath);
+    }
+
+    @Test
+    void check_with_revoked_certificate_test() throws Exception {
+        CRLStore crlStore = new CRLStore(() -> Collections.singletonList(TestAttestationUtil.create3tierTestIntermediateCACRL(authenticatorCertificate.getSerialNumber())));
+        crlStore.refresh();
+        CRLRevocationChecker target = new CRLRevocationChecker(crlStore, trustAnchors, new Date(), true);
+
+        CertPathValidatorException exception = assertThrows(CertPathValidatorException.class, () -> target.check(certPath));
+        assertThat(exception.getReason()).isEqualTo(CertPathValidatorException.BasicReason.REVOKED);
+    }
+
+    @Test
+    void check_with_unknown_status_test() throws Exception {
+        CRLStore crlStore = new CRLStore(() -> Collections.singletonList(TestAttestationUtil.create3tierTestIntermediateCACRL()));
+        crlStore.refresh();
+        CRLRevocationChecker target = new CRLRevocationChecker(crlStore, trustAnchors, new Date(), false);
+
+        // the root CA CRL is not loaded, so the status of the intermediate CA certificate is unknown
+        CertPathValidatorException exception = assertThrows(CertPathValidatorException.class, () -> target.check(certPath));
+        assertThat(exception.getReason()).isEqualTo(CertPathValidatorException.BasicReason.UNDETERMINED_REVOCATION_STATUS);
+    }
+
+    @Test
+    void check_as_PKIXCertPathChecker_test() throws Exception {
+        CRLStore crlStore = new CRLStore(() -> Collections.singletonList(TestAttestationUtil.create3tierTestIntermediateCACRL(authenticatorCertificate.getSerialNumber())));
+        crlStore.refresh();
+        PKIXParameters parameters = CertificateUtil.createPKIXParameters(trustAnchors);
+        parameters.setRevocationEnabled(false);
+        parameters.addCertPathChecker(new CRLRevocationChecker(crlStore, trustAnchors, new Date(), true));
+
+        CertPathValidatorException exception = assertThrows(CertPathValidatorException.class,
+                () -> CertificateUtil.createCertPathValidator().validate(certPath, parameters));
+        assertThat(exception.getReason()).isEqualTo(CertPathValidatorException.BasicReason.REVOKED);
+    }
+
+    @Test
+    void isForwardCheckingSupported_test() {
+        CRLRevocationChecker target = new CRLRevocationChecker(new CRLStore(Collections::emptyList), trustAnchors, new Date(), true);
+        assertThat(target.isForwardCheckingSupported()).isFalse();
+        assertThat(target.getSupportedExtensions()).isNull();
+    }
+}
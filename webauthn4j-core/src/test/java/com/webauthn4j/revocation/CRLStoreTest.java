@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.revocation;
+
+import com.webauthn4j.test.TestAttestationUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CRLStoreTest {
+
+    private final X509Certificate authenticatorCertificate = TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate();
+    private final X509Certificate intermediateCertificate = TestAttestationUtil.load3tierTestIntermediateCACertificate();
+    private final Date now = new Date();
+
+    @Test
+    void getRevocationStatus_with_crl_file_test(@TempDir Path tempDir) throws Exception {
+        Path crl = tempDir.resolve("3tier-test-intermediate-CA.crl");
+        try (InputStream inputStream = ClassLoader.getSystemResourceAsStream("attestation/3tier/crl/3tier-test-intermediate-CA.crl")) {
+            Files.copy(inputStream, crl);
+        }
+        CRLStore target = new CRLStore(new FileCRLSource(Collections.singletonList(crl)));
+        target.refresh();
+
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), now)).isEqualTo(RevocationStatus.GOOD);
+    }
+
+    @Test
+    void getRevocationStatus_with_revoked_certificate_test(@TempDir Path tempDir) throws Exception {
+        Path crl = tempDir.resolve("intermediate.crl");
+        Files.write(crl, TestAttestationUtil.create3tierTestIntermediateCACRL(authenticatorCertificate.getSerialNumber()).getEncoded());
+        CRLStore target = new CRLStore(new FileCRLSource(Collections.singletonList(crl)));
+        target.refresh();
+
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), now)).isEqualTo(RevocationStatus.REVOKED);
+    }
+
+    @Test
+    void getRevocationStatus_without_crl_test() {
+        CRLStore target = new CRLStore(Collections::emptyList);
+        target.refresh();
+
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), now)).isEqualTo(RevocationStatus.UNKNOWN);
+    }
+
+    @Test
+    void getRevocationStatus_with_crl_signed_by_other_key_test() {
+        X509CRL crl = TestAttestationUtil.create3tierTestIntermediateCACRL(authenticatorCertificate.getSerialNumber());
+        CRLStore target = new CRLStore(() -> Collections.singletonList(crl));
+        target.refresh();
+
+        assertThat(target.getRevocationStatus(authenticatorCertificate, TestAttestationUtil.load3tierTestRootCAPublicKey(), now)).isEqualTo(RevocationStatus.UNKNOWN);
+    }
+
+    @Test
+    void getRevocationStatus_with_expired_crl_test() {
+        X509CRL crl = TestAttestationUtil.create3tierTestIntermediateCACRL(authenticatorCertificate.getSerialNumber());
+        CRLStore target = new CRLStore(() -> Collections.singletonList(crl));
+        target.refresh();
+
+        Date afterNextUpdate = Date.from(crl.getNextUpdate().toInstant().plusSeconds(1));
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), afterNextUpdate)).isEqualTo(RevocationStatus.UNKNOWN);
+    }
+
+    @Test
+    void getRevocationStatus_uses_latest_crl_test() throws Exception {
+        X509CRL older = TestAttestationUtil.create3tierTestIntermediateCACRL(Instant.now().minus(2, ChronoUnit.DAYS), authenticatorCertificate.getSerialNumber());
+        X509CRL newer = TestAttestationUtil.create3tierTestIntermediateCACRL(Instant.now().minus(1, ChronoUnit.DAYS));
+        CRLStore target = new CRLStore(() -> Arrays.asList(newer, older));
+        target.refresh();
+
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), now)).isEqualTo(RevocationStatus.GOOD);
+    }
+
+    @Test
+    void getRevocationStatus_before_refresh_test() {
+        AtomicInteger loadCount = new AtomicInteger();
+        CRLStore target = new CRLStore(() -> {
+            loadCount.incrementAndGet();
+            return Collections.singletonList(TestAttestationUtil.create3tierTestIntermediateCACRL(authenticatorCertificate.getSerialNumber()));
+        });
+
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), now)).isEqualTo(RevocationStatus.UNKNOWN);
+        assertThat(loadCount).hasValue(0);
+    }
+
+    @Test
+    void getRevocationStatus_after_key_rollover_test() {
+        // the intermediate CA rolled its key over, and the latest CRL is signed by the new key
+        X509CRL previousKeyCRL = TestAttestationUtil.create3tierTestIntermediateCACRL(Instant.now().minus(2, ChronoUnit.DAYS), authenticatorCertificate.getSerialNumber());
+        X509CRL newKeyCRL = TestAttestationUtil.create3tierTestIntermediateCACRL(Instant.now().minus(1, ChronoUnit.DAYS), TestAttestationUtil.load3tierTestRootCAPrivateKey());
+        CRLStore target = new CRLStore(() -> Arrays.asList(newKeyCRL, previousKeyCRL));
+        target.refresh();
+
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), now)).isEqualTo(RevocationStatus.REVOKED);
+        assertThat(target.getRevocationStatus(authenticatorCertificate, TestAttestationUtil.load3tierTestRootCAPublicKey(), now)).isEqualTo(RevocationStatus.GOOD);
+    }
+
+    @Test
+    void refresh_test() throws Exception {
+        AtomicReference<Collection<X509CRL>> crls = new AtomicReference<>(Collections.singletonList(TestAttestationUtil.create3tierTestIntermediateCACRL()));
+        CRLStore target = new CRLStore(crls::get);
+        target.refresh();
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), now)).isEqualTo(RevocationStatus.GOOD);
+
+        crls.set(Collections.singletonList(TestAttestationUtil.create3tierTestIntermediateCACRL(authenticatorCertificate.getSerialNumber())));
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), now)).isEqualTo(RevocationStatus.GOOD);
+        target.refresh();
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), now)).isEqualTo(RevocationStatus.REVOKED);
+    }
+
+    @Test
+    void refresh_keeps_current_crls_on_failure_test() {
+        X509CRL crl = TestAttestationUtil.create3tierTestIntermediateCACRL(authenticatorCertificate.getSerialNumber());
+        AtomicReference<Collection<X509CRL>> crls = new AtomicReference<>(Collections.singletonList(crl));
+        CRLStore target = new CRLStore(() -> {
+            Collection<X509CRL> current = crls.get();
+            if (current == null) {
+                throw new IllegalStateException("dummy failure");
+            }
+            return current;
+        });
+        target.refresh();
+
+        crls.set(null);
+        assertThrows(IllegalStateException.class, target::refresh);
+        assertThat(target.getRevocationStatus(authenticatorCertificate, intermediateCertificate.getPublicKey(), now)).isEqualTo(RevocationStatus.REVOKED);
+    }
+}
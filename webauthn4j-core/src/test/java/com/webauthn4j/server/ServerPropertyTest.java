@@ -20,6 +20,7 @@ import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.data.client.challenge.DefaultChallenge;
 import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
@@ -49,6 +50,44 @@ class ServerPropertyTest {
         );
     }
 
+    @Test
+    void getRpIdHash_test() {
+        ServerProperty serverProperty = new ServerProperty(webApp1Origin, rpId, null, null);
+        byte[] expected = MessageDigestUtil.createSHA256().digest(rpId.getBytes(StandardCharsets.UTF_8));
+        assertAll(
+                () -> assertThat(serverProperty.getRpIdHash()).isEqualTo(expected),
+                () -> assertThat(serverProperty.isRpIdHashMatched(expected)).isTrue(),
+                () -> assertThat(serverProperty.isRpIdHashMatched(new byte[32])).isFalse()
+        );
+    }
+
+    @Test
+    void withChallenge_test() {
+        final byte[] tokenBindingBytes = "random-token-binding1".getBytes(StandardCharsets.UTF_8);
+        final Challenge challenge = new DefaultChallenge();
+        final ServerProperty template = new ServerProperty(Arrays.asList(webApp1Origin, apk1Origin), rpId, null, tokenBindingBytes);
+        final ServerProperty serverProperty = template.withChallenge(challenge);
+        assertAll(
+                () -> assertThat(serverProperty).isEqualTo(new ServerProperty(Arrays.asList(webApp1Origin, apk1Origin), rpId, challenge, tokenBindingBytes)),
+                () -> assertThat(serverProperty.getRpIdHash()).isEqualTo(template.getRpIdHash()),
+                () -> assertThat(template.getChallenge()).isNull()
+        );
+    }
+
+    @Test
+    void withStatelessChallengeContext_test() {
+        final byte[] context = "webauthn.create:session-1".getBytes(StandardCharsets.UTF_8);
+        final ServerProperty template = new ServerProperty(Arrays.asList(webApp1Origin, apk1Origin), rpId, new DefaultChallenge(), null);
+        final ServerProperty serverProperty = template.withStatelessChallengeContext(context);
+        assertAll(
+                () -> assertThat(serverProperty.getChallenge()).isNull(),
+                () -> assertThat(serverProperty.getStatelessChallengeContext()).isEqualTo(context),
+                () -> assertThat(serverProperty.withChallenge(new DefaultChallenge()).getStatelessChallengeContext()).isNull(),
+                () -> assertThat(serverProperty).isNotEqualTo(template.withChallenge(null)),
+                () -> assertThat(template.getStatelessChallengeContext()).isNull()
+        );
+    }
+
     @Test
     void equals_hashCode_test() {
         Challenge challenge = new DefaultChallenge();
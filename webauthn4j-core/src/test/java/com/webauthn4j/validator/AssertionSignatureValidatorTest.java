@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator;
+
+import com.webauthn4j.data.CoreAuthenticationData;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.validator.exception.BadSignatureException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AssertionSignatureValidatorTest {
+
+    private final KeyPair keyPair = ECUtil.createKeyPair();
+    private final COSEKey coseKey = EC2COSEKey.create(keyPair, COSEAlgorithmIdentifier.ES256);
+    private final byte[] authenticatorDataBytes = new byte[]{0x01, 0x02, 0x03};
+    private final byte[] clientDataHash = new byte[]{0x04, 0x05, 0x06};
+
+    @Test
+    void validate_test() {
+        byte[] signedData = ByteBuffer.allocate(6).put(authenticatorDataBytes).put(clientDataHash).array();
+        CoreAuthenticationData authenticationData = createAuthenticationData(TestDataUtil.calculateSignature(keyPair.getPrivate(), signedData));
+
+        new AssertionSignatureValidator().validate(authenticationData, coseKey);
+    }
+
+    @Test
+    void validate_with_bad_signature_test() {
+        CoreAuthenticationData authenticationData = createAuthenticationData(TestDataUtil.calculateSignature(keyPair.getPrivate(), authenticatorDataBytes));
+        AssertionSignatureValidator target = new AssertionSignatureValidator();
+
+        assertThrows(BadSignatureException.class,
+                () -> target.validate(authenticationData, coseKey)
+        );
+    }
+
+    @Test
+    void validate_with_overridden_getSignedData_test() {
+        CoreAuthenticationData authenticationData = createAuthenticationData(TestDataUtil.calculateSignature(keyPair.getPrivate(), authenticatorDataBytes));
+        AssertionSignatureValidator target = new AssertionSignatureValidator() {
+            @SuppressWarnings("deprecation")
+            @Override
+            protected @NonNull byte[] getSignedData(@NonNull CoreAuthenticationData authenticationData) {
+                return authenticatorDataBytes;
+            }
+        };
+
+        target.validate(authenticationData, coseKey);
+    }
+
+    private CoreAuthenticationData createAuthenticationData(byte[] signature) {
+        return new CoreAuthenticationData(new byte[32], null, authenticatorDataBytes, clientDataHash, signature);
+    }
+}
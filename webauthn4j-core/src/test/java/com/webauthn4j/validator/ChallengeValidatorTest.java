@@ -21,11 +21,14 @@ import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.client.challenge.StatelessChallengeIssuer;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.validator.exception.BadChallengeException;
 import com.webauthn4j.validator.exception.MissingChallengeException;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
@@ -37,6 +40,7 @@ class ChallengeValidatorTest {
 
     private final Origin origin = Origin.create("https://example.com");
     private final String rpId = "example.com";
+    private final byte[] statelessChallengeContext = "webauthn.create:session-1".getBytes(StandardCharsets.UTF_8);
 
     private final ChallengeValidator target = new ChallengeValidator();
 
@@ -82,4 +86,91 @@ class ChallengeValidatorTest {
                 () -> target.validate(collectedClientData, serverProperty)
         );
     }
+
+    @Test
+    void validate_test_with_stateless_challenge() {
+        StatelessChallengeIssuer statelessChallengeIssuer = new StatelessChallengeIssuer(new byte[32]);
+        ChallengeValidator challengeValidator = new ChallengeValidator();
+        challengeValidator.setStatelessChallengeIssuer(statelessChallengeIssuer);
+
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.CREATE, statelessChallengeIssuer.issue(statelessChallengeContext), null, null);
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, null, null).withStatelessChallengeContext(statelessChallengeContext);
+
+        //When
+        challengeValidator.validate(collectedClientData, serverProperty);
+    }
+
+    @Test
+    void validate_test_with_invalid_stateless_challenge() {
+        StatelessChallengeIssuer statelessChallengeIssuer = new StatelessChallengeIssuer(new byte[32]);
+        ChallengeValidator challengeValidator = new ChallengeValidator();
+        challengeValidator.setStatelessChallengeIssuer(statelessChallengeIssuer);
+
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.CREATE, new DefaultChallenge(), null, null);
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, null, null).withStatelessChallengeContext(statelessChallengeContext);
+
+        //When
+        assertThrows(BadChallengeException.class,
+                () -> challengeValidator.validate(collectedClientData, serverProperty)
+        );
+    }
+
+    @Test
+    void validate_test_with_stateless_challenge_of_other_context() {
+        StatelessChallengeIssuer statelessChallengeIssuer = new StatelessChallengeIssuer(new byte[32]);
+        ChallengeValidator challengeValidator = new ChallengeValidator();
+        challengeValidator.setStatelessChallengeIssuer(statelessChallengeIssuer);
+
+        byte[] otherContext = "webauthn.get:session-1".getBytes(StandardCharsets.UTF_8);
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.CREATE, statelessChallengeIssuer.issue(otherContext), null, null);
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, null, null).withStatelessChallengeContext(statelessChallengeContext);
+
+        //When
+        assertThrows(BadChallengeException.class,
+                () -> challengeValidator.validate(collectedClientData, serverProperty)
+        );
+    }
+
+    @Test
+    void validate_test_with_stateless_challenge_issuer_and_saved_challenge() {
+        StatelessChallengeIssuer statelessChallengeIssuer = new StatelessChallengeIssuer(new byte[32]);
+        ChallengeValidator challengeValidator = new ChallengeValidator();
+        challengeValidator.setStatelessChallengeIssuer(statelessChallengeIssuer);
+
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.CREATE, statelessChallengeIssuer.issue(statelessChallengeContext), null, null);
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, new DefaultChallenge(), null);
+
+        //When
+        assertThrows(BadChallengeException.class,
+                () -> challengeValidator.validate(collectedClientData, serverProperty)
+        );
+    }
+
+    @Test
+    void validate_test_with_stateless_challenge_issuer_and_without_challenge() {
+        StatelessChallengeIssuer statelessChallengeIssuer = new StatelessChallengeIssuer(new byte[32]);
+        ChallengeValidator challengeValidator = new ChallengeValidator();
+        challengeValidator.setStatelessChallengeIssuer(statelessChallengeIssuer);
+
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.CREATE, statelessChallengeIssuer.issue(statelessChallengeContext), null, null);
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, null, null);
+
+        //When
+        assertThrows(MissingChallengeException.class,
+                () -> challengeValidator.validate(collectedClientData, serverProperty)
+        );
+    }
+
+    @Test
+    void validate_test_with_stateless_challenge_context_and_without_issuer() {
+        StatelessChallengeIssuer statelessChallengeIssuer = new StatelessChallengeIssuer(new byte[32]);
+
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.CREATE, statelessChallengeIssuer.issue(statelessChallengeContext), null, null);
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, null, null).withStatelessChallengeContext(statelessChallengeContext);
+
+        //When
+        assertThrows(IllegalStateException.class,
+                () -> target.validate(collectedClientData, serverProperty)
+        );
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.test.AttestationCertificateBuilder;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.ECUtil;
+import org.junit.jupiter.api.Test;
+
+import javax.security.auth.x500.X500Principal;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.CertPath;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CertPathValidationCacheTest {
+
+    private final X509Certificate twoTierCertificate = TestAttestationUtil.load2tierTestAuthenticatorAttestationCertificate();
+    private final X509Certificate threeTierCertificate = TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate();
+    private final TrustAnchor trustAnchor = new TrustAnchor(TestAttestationUtil.load2tierTestRootCACertificate(), null);
+    private final Set<TrustAnchor> trustAnchors = Collections.singleton(trustAnchor);
+    private final X509Certificate intermediateCertificate = TestAttestationUtil.load3tierTestIntermediateCACertificate();
+    private final TrustAnchor threeTierTrustAnchor = new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null);
+    private final Set<TrustAnchor> threeTierTrustAnchors = Collections.singleton(threeTierTrustAnchor);
+
+    @Test
+    void get_and_put_test() {
+        CertPathValidationCache target = new CertPathValidationCache();
+        CertPath certPath = createCertPath(threeTierCertificate, intermediateCertificate);
+        String key = CertPathValidationCache.createKey(certPath);
+
+        assertThat(target.get(key, certPath, threeTierTrustAnchors, Instant.now())).isNull();
+        target.put(key, certPath, threeTierTrustAnchor);
+        assertThat(target.get(key, certPath, threeTierTrustAnchors, Instant.now())).isSameAs(threeTierTrustAnchor);
+
+        assertThat(target.getHitCount()).isEqualTo(1);
+        assertThat(target.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_outside_validity_window_test() {
+        CertPathValidationCache target = new CertPathValidationCache();
+        CertPath certPath = createCertPath(threeTierCertificate, intermediateCertificate);
+        String key = CertPathValidationCache.createKey(certPath);
+        target.put(key, certPath, threeTierTrustAnchor);
+
+        assertThat(target.get(key, certPath, threeTierTrustAnchors, intermediateCertificate.getNotBefore().toInstant().minusSeconds(1))).isNull();
+        assertThat(target.get(key, certPath, threeTierTrustAnchors, intermediateCertificate.getNotAfter().toInstant().plusSeconds(1))).isNull();
+    }
+
+    @Test
+    void get_with_other_trust_anchors_test() {
+        CertPathValidationCache target = new CertPathValidationCache();
+        CertPath certPath = createCertPath(threeTierCertificate, intermediateCertificate);
+        String key = CertPathValidationCache.createKey(certPath);
+        target.put(key, certPath, threeTierTrustAnchor);
+
+        assertThat(target.get(key, certPath, trustAnchors, Instant.now())).isNull();
+    }
+
+    @Test
+    void lru_eviction_test() {
+        CertPathValidationCache target = new CertPathValidationCache(1, Duration.ofHours(1));
+        CertPath first = createCertPath(twoTierCertificate, TestAttestationUtil.load2tierTestRootCACertificate());
+        CertPath second = createCertPath(threeTierCertificate, intermediateCertificate);
+        String firstKey = CertPathValidationCache.createKey(first);
+        String secondKey = CertPathValidationCache.createKey(second);
+
+        target.put(firstKey, first, trustAnchor);
+        target.put(secondKey, second, threeTierTrustAnchor);
+
+        assertThat(target.size()).isEqualTo(1);
+        assertThat(target.getEvictionCount()).isEqualTo(1);
+        assertThat(target.get(firstKey, first, trustAnchors, Instant.now())).isNull();
+        assertThat(target.get(secondKey, second, threeTierTrustAnchors, Instant.now())).isSameAs(threeTierTrustAnchor);
+    }
+
+    @Test
+    void expiration_test() throws InterruptedException {
+        CertPathValidationCache target = new CertPathValidationCache(10, Duration.ofMillis(1));
+        CertPath certPath = createCertPath(threeTierCertificate, intermediateCertificate);
+        String key = CertPathValidationCache.createKey(certPath);
+        target.put(key, certPath, threeTierTrustAnchor);
+
+        Thread.sleep(10);
+
+        assertThat(target.get(key, certPath, threeTierTrustAnchors, Instant.now())).isNull();
+        assertThat(target.size()).isZero();
+        assertThat(target.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void createKey_test() {
+        X509Certificate otherLeaf = createLeafCertificate(intermediateCertificate, TestAttestationUtil.load3tierTestIntermediateCAPrivateKey());
+
+        assertThat(CertPathValidationCache.createKey(createCertPath(threeTierCertificate, intermediateCertificate)))
+                .isEqualTo(CertPathValidationCache.createKey(createCertPath(otherLeaf, intermediateCertificate)))
+                .isNotEqualTo(CertPathValidationCache.createKey(createCertPath(twoTierCertificate, TestAttestationUtil.load2tierTestRootCACertificate())));
+        // leaf-only cert paths are not cached
+        assertThat(CertPathValidationCache.createKey(createCertPath(twoTierCertificate))).isNull();
+    }
+
+    @Test
+    void get_with_other_leaf_issued_by_same_intermediate_test() {
+        CertPathValidationCache target = new CertPathValidationCache();
+        CertPath certPath = createCertPath(threeTierCertificate, intermediateCertificate);
+        target.put(CertPathValidationCache.createKey(certPath), certPath, threeTierTrustAnchor);
+
+        X509Certificate otherLeaf = createLeafCertificate(intermediateCertificate, TestAttestationUtil.load3tierTestIntermediateCAPrivateKey());
+        CertPath otherCertPath = createCertPath(otherLeaf, intermediateCertificate);
+
+        assertThat(target.get(CertPathValidationCache.createKey(otherCertPath), otherCertPath, threeTierTrustAnchors, Instant.now())).isSameAs(threeTierTrustAnchor);
+    }
+
+    @Test
+    void get_with_leaf_not_signed_by_cached_issuer_test() {
+        CertPathValidationCache target = new CertPathValidationCache();
+        CertPath certPath = createCertPath(threeTierCertificate, intermediateCertificate);
+        target.put(CertPathValidationCache.createKey(certPath), certPath, threeTierTrustAnchor);
+
+        // issued under the intermediate's name, but signed by another key
+        X509Certificate forgedLeaf = createLeafCertificate(intermediateCertificate, TestAttestationUtil.load3tierTestAuthenticatorAttestationPrivateKey());
+        CertPath forgedCertPath = createCertPath(forgedLeaf, intermediateCertificate);
+
+        assertThat(target.get(CertPathValidationCache.createKey(forgedCertPath), forgedCertPath, threeTierTrustAnchors, Instant.now())).isNull();
+        assertThat(target.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_with_leaf_violating_algorithm_constraints_test() throws Exception {
+        CertPathValidationCache target = new CertPathValidationCache();
+        CertPath certPath = createCertPath(threeTierCertificate, intermediateCertificate);
+        target.put(CertPathValidationCache.createKey(certPath), certPath, threeTierTrustAnchor);
+
+        // RSA keys smaller than 1024 bits are rejected by jdk.certpath.disabledAlgorithms
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(512);
+        X509Certificate weakLeaf = createLeafCertificate(intermediateCertificate, TestAttestationUtil.load3tierTestIntermediateCAPrivateKey(), keyPairGenerator.generateKeyPair().getPublic());
+        CertPath weakCertPath = createCertPath(weakLeaf, intermediateCertificate);
+
+        assertThat(target.get(CertPathValidationCache.createKey(weakCertPath), weakCertPath, threeTierTrustAnchors, Instant.now())).isNull();
+    }
+
+    @Test
+    void put_leaf_only_cert_path_test() {
+        CertPathValidationCache target = new CertPathValidationCache();
+        target.put("key", createCertPath(twoTierCertificate), trustAnchor);
+
+        assertThat(target.size()).isZero();
+    }
+
+    private static X509Certificate createLeafCertificate(X509Certificate issuerCertificate, PrivateKey issuerPrivateKey) {
+        return createLeafCertificate(issuerCertificate, issuerPrivateKey, ECUtil.createKeyPair().getPublic());
+    }
+
+    private static X509Certificate createLeafCertificate(X509Certificate issuerCertificate, PrivateKey issuerPrivateKey, PublicKey publicKey) {
+        AttestationCertificateBuilder builder = new AttestationCertificateBuilder(issuerCertificate, new X500Principal("CN=other leaf"), publicKey);
+        return builder.build(issuerPrivateKey);
+    }
+
+    private static CertPath createCertPath(X509Certificate... certificates) {
+        return CertificateUtil.generateCertPath(Arrays.asList(certificates));
+    }
+}
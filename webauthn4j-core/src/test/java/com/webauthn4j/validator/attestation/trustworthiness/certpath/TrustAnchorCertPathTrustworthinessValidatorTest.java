@@ -20,6 +20,7 @@ import com.webauthn4j.anchor.TrustAnchorsResolver;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.data.attestation.statement.AttestationCertificatePath;
 import com.webauthn4j.data.attestation.statement.CertificateBaseAttestationStatement;
+import com.webauthn4j.revocation.CRLStore;
 import com.webauthn4j.test.TestAttestationStatementUtil;
 import com.webauthn4j.test.TestAttestationUtil;
 import com.webauthn4j.util.CertificateUtil;
@@ -28,18 +29,21 @@ import com.webauthn4j.validator.exception.TrustAnchorNotFoundException;
 import org.junit.jupiter.api.Test;
 
 import java.security.cert.TrustAnchor;
+import java.security.cert.X509CRL;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 class TrustAnchorCertPathTrustworthinessValidatorTest {
 
-    private final TrustAnchorsResolver trustAnchorsResolver = mock(TrustAnchorsResolver.class);
+    private final TrustAnchorsResolver trustAnchorsResolver = mock(TrustAnchorsResolver.class, CALLS_REAL_METHODS);
     private final TrustAnchorCertPathTrustworthinessValidator target = new TrustAnchorCertPathTrustworthinessValidator(trustAnchorsResolver);
     private final AAGUID aaguid = AAGUID.ZERO;
 
@@ -86,8 +90,91 @@ class TrustAnchorCertPathTrustworthinessValidatorTest {
         );
     }
 
+    @Test
+    void validate_with_cache_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(trustAnchors);
+        CertPathValidationCache cache = new CertPathValidationCache();
+        target.setCertPathValidationCache(cache);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createFIDOU2FAttestationStatement(new AttestationCertificatePath(Arrays.asList(
+                TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate(),
+                TestAttestationUtil.load3tierTestIntermediateCACertificate())));
+        target.validate(aaguid, attestationStatement);
+        target.validate(aaguid, attestationStatement);
+
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void validate_with_cache_and_untrusted_anchor_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        Set<TrustAnchor> otherTrustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load2tierTestRootCACertificate()));
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(trustAnchors);
+        CertPathValidationCache cache = new CertPathValidationCache();
+        target.setCertPathValidationCache(cache);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createFIDOU2FAttestationStatement(new AttestationCertificatePath(Arrays.asList(
+                TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate(),
+                TestAttestationUtil.load3tierTestIntermediateCACertificate())));
+        target.validate(aaguid, attestationStatement);
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(otherTrustAnchors);
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement)
+        );
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    void validate_with_revoked_certificate_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(trustAnchors);
+        X509CRL crl = TestAttestationUtil.create3tierTestIntermediateCACRL(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate().getSerialNumber());
+        CRLStore crlStore = new CRLStore(() -> Collections.singletonList(crl));
+        crlStore.refresh();
+        target.setCRLStore(crlStore);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createFIDOU2FAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement)
+        );
+    }
+
+    @Test
+    void validate_with_cache_and_revoked_certificate_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(trustAnchors);
+        AtomicReference<X509CRL> crl = new AtomicReference<>(TestAttestationUtil.create3tierTestIntermediateCACRL());
+        CRLStore crlStore = new CRLStore(() -> Collections.singletonList(crl.get()));
+        crlStore.refresh();
+        target.setCRLStore(crlStore);
+        target.setCertPathValidationCache(new CertPathValidationCache());
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createFIDOU2FAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        target.validate(aaguid, attestationStatement);
+
+        crl.set(TestAttestationUtil.create3tierTestIntermediateCACRL(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate().getSerialNumber()));
+        crlStore.refresh();
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement)
+        );
+        assertThat(target.getCertPathValidationCache().getHitCount()).isEqualTo(1);
+    }
+
     @Test
     void test() {
         assertThat(target.isFullChainProhibited()).isFalse();
+        assertThat(target.getCertPathValidationCache()).isNull();
     }
 }
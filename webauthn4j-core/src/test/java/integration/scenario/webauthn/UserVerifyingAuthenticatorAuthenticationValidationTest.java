@@ -20,6 +20,7 @@ import com.webauthn4j.WebAuthnManager;
 import com.webauthn4j.authenticator.Authenticator;
 import com.webauthn4j.converter.AttestationObjectConverter;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.*;
 import com.webauthn4j.data.attestation.AttestationObject;
@@ -40,9 +41,19 @@ import com.webauthn4j.test.client.ClientPlatform;
 import com.webauthn4j.validator.exception.*;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -426,6 +437,141 @@ class UserVerifyingAuthenticatorAuthenticationValidationTest {
     }
 
 
+    @Test
+    void validateAsync_test() {
+        String rpId = "example.com";
+        long timeout = 0;
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                timeout,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticatorAssertionResponse = credential.getAuthenticatorResponse();
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(
+                credential.getRawId(),
+                authenticatorAssertionResponse.getAuthenticatorData(),
+                authenticatorAssertionResponse.getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                authenticatorAssertionResponse.getSignature()
+        );
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        ServerProperty wrongChallengeServerProperty = new ServerProperty(origin, rpId, new DefaultChallenge(), null);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AuthenticationData authenticationData = target.validateAsync(authenticationRequest, new AuthenticationParameters(serverProperty, TestDataUtil.createAuthenticator(attestationObject), true), executor).join();
+            CompletableFuture<AuthenticationData> failed = target.validateAsync(authenticationRequest, new AuthenticationParameters(wrongChallengeServerProperty, TestDataUtil.createAuthenticator(attestationObject), true), executor);
+
+            assertAll(
+                    () -> assertThat(authenticationData.getAuthenticatorData()).isNotNull(),
+                    () -> assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(BadChallengeException.class)
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void validateAll_test() {
+        String rpId = "example.com";
+        long timeout = 0;
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                timeout,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticatorAssertionResponse = credential.getAuthenticatorResponse();
+        String clientExtensionJSON = authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults());
+
+        AuthenticationRequest validRequest = new AuthenticationRequest(
+                credential.getRawId(),
+                authenticatorAssertionResponse.getAuthenticatorData(),
+                authenticatorAssertionResponse.getClientDataJSON(),
+                clientExtensionJSON,
+                authenticatorAssertionResponse.getSignature()
+        );
+        byte[] tamperedSignature = authenticatorAssertionResponse.getSignature();
+        tamperedSignature[tamperedSignature.length - 1] ^= 0x01;
+        AuthenticationRequest badSignatureRequest = new AuthenticationRequest(
+                credential.getRawId(),
+                authenticatorAssertionResponse.getAuthenticatorData(),
+                authenticatorAssertionResponse.getClientDataJSON(),
+                clientExtensionJSON,
+                tamperedSignature
+        );
+        AuthenticationRequest malformedRequest = new AuthenticationRequest(
+                credential.getRawId(),
+                new byte[]{0x01, 0x02},
+                authenticatorAssertionResponse.getClientDataJSON(),
+                clientExtensionJSON,
+                authenticatorAssertionResponse.getSignature()
+        );
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<AuthenticationResult> results;
+        try {
+            results = target.validateAll(
+                    Arrays.asList(validRequest, badSignatureRequest, malformedRequest),
+                    request -> new AuthenticationParameters(serverProperty, TestDataUtil.createAuthenticator(attestationObject), true),
+                    executor
+            );
+        } finally {
+            executor.shutdown();
+        }
+
+        assertAll(
+                () -> assertThat(results).extracting(AuthenticationResult::getAuthenticationRequest).containsExactly(validRequest, badSignatureRequest, malformedRequest),
+                () -> assertThat(results.get(0).isSuccess()).isTrue(),
+                () -> assertThat(results.get(0).getAuthenticationData()).isNotNull(),
+                () -> assertThat(results.get(1).getException()).isInstanceOf(BadSignatureException.class),
+                () -> assertThat(results.get(2).getException()).isInstanceOf(DataConversionException.class)
+        );
+    }
+
+    @Test
+    void validateAll_with_rejecting_executor_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        AuthenticationRequest executedRequest = new AuthenticationRequest(new byte[]{0x01}, new byte[]{0x01, 0x02}, new byte[0], (String) null, new byte[0]);
+        AuthenticationRequest rejectedRequest = new AuthenticationRequest(new byte[]{0x02}, new byte[]{0x01, 0x02}, new byte[0], (String) null, new byte[0]);
+        AtomicInteger submissions = new AtomicInteger();
+        // runs the first item, and rejects the others like a saturated bounded executor
+        Executor executor = command -> {
+            if (submissions.incrementAndGet() > 1) {
+                throw new RejectedExecutionException("dummy rejection");
+            }
+            command.run();
+        };
+
+        List<AuthenticationResult> results = target.validateAll(
+                Arrays.asList(executedRequest, rejectedRequest),
+                request -> new AuthenticationParameters(serverProperty, TestDataUtil.createAuthenticator(createAttestationObject(rpId, challenge)), true),
+                executor
+        );
+
+        assertAll(
+                () -> assertThat(results).extracting(AuthenticationResult::getAuthenticationRequest).containsExactly(executedRequest, rejectedRequest),
+                () -> assertThat(results.get(0).getException()).isInstanceOf(DataConversionException.class),
+                () -> assertThat(results.get(1).getException()).isInstanceOf(RejectedExecutionException.class)
+        );
+    }
+
     private AttestationObject createAttestationObject(String rpId, Challenge challenge) {
         AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
                 new AuthenticatorSelectionCriteria(
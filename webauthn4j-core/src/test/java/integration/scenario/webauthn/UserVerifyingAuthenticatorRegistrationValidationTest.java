@@ -34,6 +34,7 @@ import com.webauthn4j.test.EmulatorUtil;
 import com.webauthn4j.test.TestAttestationUtil;
 import com.webauthn4j.test.authenticator.webauthn.WebAuthnAuthenticatorAdaptor;
 import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.validator.exception.BadRpIdException;
 import com.webauthn4j.validator.attestation.statement.androidkey.AndroidKeyAttestationStatementValidator;
 import com.webauthn4j.validator.attestation.statement.none.NoneAttestationStatementValidator;
 import com.webauthn4j.validator.attestation.statement.packed.PackedAttestationStatementValidator;
@@ -45,8 +46,13 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 @SuppressWarnings("ConstantConditions")
@@ -132,6 +138,63 @@ class UserVerifyingAuthenticatorRegistrationValidationTest {
         );
     }
 
+    @Test
+    void validateAsync_RegistrationRequest_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
+                new AuthenticatorSelectionCriteria(
+                        AuthenticatorAttachment.CROSS_PLATFORM,
+                        true,
+                        UserVerificationRequirement.REQUIRED);
+
+        PublicKeyCredentialParameters publicKeyCredentialParameters = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
+
+        PublicKeyCredentialCreationOptions credentialCreationOptions
+                = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(rpId, "example.com"),
+                new PublicKeyCredentialUserEntity(),
+                challenge,
+                Collections.singletonList(publicKeyCredentialParameters),
+                null,
+                Collections.emptyList(),
+                authenticatorSelectionCriteria,
+                AttestationConveyancePreference.DIRECT,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential = clientPlatform.create(credentialCreationOptions);
+        AuthenticatorAttestationResponse registrationRequest = credential.getAuthenticatorResponse();
+        String clientExtensionJSON = authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults());
+        RegistrationRequest webAuthnRegistrationRequest
+                = new RegistrationRequest(
+                registrationRequest.getAttestationObject(),
+                registrationRequest.getClientDataJSON(),
+                clientExtensionJSON,
+                Collections.emptySet()
+        );
+        RegistrationParameters registrationParameters = new RegistrationParameters(
+                new ServerProperty(origin, rpId, challenge, null),
+                false
+        );
+        RegistrationParameters wrongRpIdRegistrationParameters = new RegistrationParameters(
+                new ServerProperty(origin, "wrong.example.com", challenge, null),
+                false
+        );
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RegistrationData registrationData = target.validateAsync(webAuthnRegistrationRequest, registrationParameters, executor).join();
+            CompletableFuture<RegistrationData> failed = target.validateAsync(webAuthnRegistrationRequest, wrongRpIdRegistrationParameters, executor);
+
+            assertAll(
+                    () -> assertThat(registrationData.getAttestationObject()).isNotNull(),
+                    () -> assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(BadRpIdException.class)
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void validate_RegistrationRequest_with_packed_attestation_statement_test() {
         String rpId = "example.com";
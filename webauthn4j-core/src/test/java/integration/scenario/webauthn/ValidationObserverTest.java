@@ -0,0 +1,227 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package integration.scenario.webauthn;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.util.CollectionUtil;
+import com.webauthn4j.validator.NullValidationObserver;
+import com.webauthn4j.validator.ValidationObserver;
+import com.webauthn4j.validator.ValidationStep;
+import com.webauthn4j.validator.exception.BadChallengeException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("ConstantConditions")
+class ValidationObserverTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    private final String rpId = "example.com";
+    private final Origin origin = new Origin("http://example.com");
+    private final ClientPlatform clientPlatform = new ClientPlatform(origin, new FIDOU2FAuthenticatorAdaptor());
+    private final WebAuthnManager target = WebAuthnManager.createNonStrictWebAuthnManager();
+
+    private final RecordingValidationObserver validationObserver = new RecordingValidationObserver();
+
+    @Test
+    void registration_steps_test() {
+        Challenge challenge = new DefaultChallenge();
+        AuthenticatorAttestationResponse response = create(challenge);
+        RegistrationRequest registrationRequest = new RegistrationRequest(response.getAttestationObject(), response.getClientDataJSON());
+        RegistrationParameters registrationParameters = new RegistrationParameters(new ServerProperty(origin, rpId, challenge, null), false, true);
+
+        target.setValidationObserver(validationObserver);
+        target.validate(registrationRequest, registrationParameters);
+
+        assertThat(validationObserver.getSteps()).containsExactly(
+                ValidationStep.PARSE,
+                ValidationStep.DATA_STRUCTURE,
+                ValidationStep.CLIENT_DATA_TYPE,
+                ValidationStep.CHALLENGE,
+                ValidationStep.ORIGIN,
+                ValidationStep.TOKEN_BINDING,
+                ValidationStep.RP_ID_HASH,
+                ValidationStep.FLAGS,
+                ValidationStep.EXTENSIONS,
+                ValidationStep.ATTESTATION_STATEMENT,
+                ValidationStep.ATTESTATION_TRUSTWORTHINESS,
+                ValidationStep.CUSTOM_VALIDATORS
+        );
+        assertThat(validationObserver.records).allMatch(record -> record.exception == null && record.elapsedNanos >= 0);
+    }
+
+    @Test
+    void authentication_steps_test() {
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = register(challenge);
+        AuthenticationRequest authenticationRequest = get(challenge, attestationObject);
+        AuthenticationParameters authenticationParameters = createAuthenticationParameters(challenge, attestationObject);
+
+        target.setValidationObserver(validationObserver);
+        target.validate(authenticationRequest, authenticationParameters);
+
+        assertThat(validationObserver.getSteps()).containsExactly(
+                ValidationStep.PARSE,
+                ValidationStep.DATA_STRUCTURE,
+                ValidationStep.CLIENT_DATA_TYPE,
+                ValidationStep.CHALLENGE,
+                ValidationStep.ORIGIN,
+                ValidationStep.TOKEN_BINDING,
+                ValidationStep.RP_ID_HASH,
+                ValidationStep.FLAGS,
+                ValidationStep.EXTENSIONS,
+                ValidationStep.SIGNATURE,
+                ValidationStep.SIGNATURE_COUNTER,
+                ValidationStep.CUSTOM_VALIDATORS
+        );
+        assertThat(validationObserver.records).allMatch(record -> record.exception == null && record.elapsedNanos >= 0);
+    }
+
+    @Test
+    void failed_step_test() {
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = register(challenge);
+        AuthenticationRequest authenticationRequest = get(challenge, attestationObject);
+        AuthenticationParameters authenticationParameters = createAuthenticationParameters(new DefaultChallenge(), attestationObject);
+
+        target.setValidationObserver(validationObserver);
+        assertThatThrownBy(() -> target.validate(authenticationRequest, authenticationParameters)).isInstanceOf(BadChallengeException.class);
+
+        assertThat(validationObserver.getSteps()).containsExactly(
+                ValidationStep.PARSE,
+                ValidationStep.DATA_STRUCTURE,
+                ValidationStep.CLIENT_DATA_TYPE,
+                ValidationStep.CHALLENGE
+        );
+        assertThat(validationObserver.records.get(3).exception).isInstanceOf(BadChallengeException.class);
+    }
+
+    @Test
+    void disabled_observer_test() {
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = register(challenge);
+        AuthenticationRequest authenticationRequest = get(challenge, attestationObject);
+        AuthenticationParameters authenticationParameters = createAuthenticationParameters(challenge, attestationObject);
+
+        target.setValidationObserver(new NullValidationObserver() {
+            @Override
+            public void stepCompleted(@NonNull ValidationStep step, long elapsedNanos, @Nullable RuntimeException exception) {
+                validationObserver.stepCompleted(step, elapsedNanos, exception);
+            }
+        });
+        target.validate(authenticationRequest, authenticationParameters);
+
+        assertThat(validationObserver.records).isEmpty();
+    }
+
+    private AuthenticatorAttestationResponse create(Challenge challenge) {
+        PublicKeyCredentialParameters publicKeyCredentialParameters
+                = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(rpId, "example.com"),
+                new PublicKeyCredentialUserEntity(),
+                challenge,
+                Collections.singletonList(publicKeyCredentialParameters)
+        );
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential = clientPlatform.create(credentialCreationOptions);
+        return credential.getAuthenticatorResponse();
+    }
+
+    private AttestationObject register(Challenge challenge) {
+        return new AttestationObjectConverter(objectConverter).convert(create(challenge).getAttestationObject());
+    }
+
+    private AuthenticationRequest get(Challenge challenge, AttestationObject attestationObject) {
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                Collections.singletonList(
+                        new PublicKeyCredentialDescriptor(
+                                PublicKeyCredentialType.PUBLIC_KEY,
+                                attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId(),
+                                CollectionUtil.unmodifiableSet(AuthenticatorTransport.USB)
+                        )
+                ),
+                UserVerificationRequirement.DISCOURAGED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse response = credential.getAuthenticatorResponse();
+        return new AuthenticationRequest(
+                credential.getRawId(),
+                response.getAuthenticatorData(),
+                response.getClientDataJSON(),
+                response.getSignature()
+        );
+    }
+
+    private AuthenticationParameters createAuthenticationParameters(Challenge challenge, AttestationObject attestationObject) {
+        Authenticator authenticator = TestDataUtil.createAuthenticator(attestationObject);
+        return new AuthenticationParameters(new ServerProperty(origin, rpId, challenge, null), authenticator, false, true);
+    }
+
+    private static class RecordingValidationObserver implements ValidationObserver {
+
+        private final List<StepRecord> records = new ArrayList<>();
+
+        @Override
+        public void stepCompleted(@NonNull ValidationStep step, long elapsedNanos, @Nullable RuntimeException exception) {
+            records.add(new StepRecord(step, elapsedNanos, exception));
+        }
+
+        List<ValidationStep> getSteps() {
+            return records.stream().map(record -> record.step).collect(Collectors.toList());
+        }
+    }
+
+    private static class StepRecord {
+        private final ValidationStep step;
+        private final long elapsedNanos;
+        private final RuntimeException exception;
+
+        StepRecord(ValidationStep step, long elapsedNanos, RuntimeException exception) {
+            this.step = step;
+            this.elapsedNanos = elapsedNanos;
+            this.exception = exception;
+        }
+    }
+}
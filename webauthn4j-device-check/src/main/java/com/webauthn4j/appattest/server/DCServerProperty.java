@@ -45,6 +45,20 @@ public class DCServerProperty extends CoreServerProperty {
         super(formatRpId(teamIdentifier, cfBundleIdentifier), challenge);
     }
 
+    private DCServerProperty(@NonNull DCServerProperty template, @Nullable Challenge challenge) {
+        super(template, challenge);
+    }
+
+    /**
+     * Returns a new {@link DCServerProperty} which has the same rpId and the specified challenge.
+     *
+     * @param challenge challenge
+     * @return a new {@link DCServerProperty}
+     */
+    public @NonNull DCServerProperty withChallenge(@Nullable Challenge challenge) {
+        return new DCServerProperty(this, challenge);
+    }
+
     private static @NonNull String formatRpId(@NonNull String teamIdentifier, @NonNull String cfBundleIdentifier){
         AssertUtil.notNull(teamIdentifier, "teamIdentifier must not be null");
         AssertUtil.notNull(cfBundleIdentifier, "cfBundleIdentifier must not be null");
@@ -17,6 +17,7 @@
 package com.webauthn4j.appattest.validator;
 
 import com.webauthn4j.data.CoreAuthenticationData;
+import com.webauthn4j.util.CryptoUtil;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.validator.AssertionSignatureValidator;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -29,10 +30,8 @@ public class DCAssertionSignatureValidator extends AssertionSignatureValidator {
     // ========================================================================================================
 
     @Override
-    protected @NonNull byte[] getSignedData(@NonNull CoreAuthenticationData authenticationData) {
-        byte[] rawAuthenticatorData = authenticationData.getAuthenticatorDataBytes();
-        byte[] clientDataHash = authenticationData.getClientDataHash();
-        byte[] concatenated = ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
-        return MessageDigestUtil.createSHA256().digest(concatenated);
+    protected @NonNull ByteBuffer[] getSignedDataParts(@NonNull CoreAuthenticationData authenticationData) {
+        byte[] hash = MessageDigestUtil.digest(CryptoUtil.getSHA256(), authenticationData.getAuthenticatorDataBuffer(), authenticationData.getClientDataHashBuffer());
+        return new ByteBuffer[]{ByteBuffer.wrap(hash)};
     }
 }
@@ -21,6 +21,7 @@ import com.webauthn4j.appattest.validator.DCRegistrationObject;
 import com.webauthn4j.data.attestation.statement.AttestationStatement;
 import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CryptoUtil;
 import com.webauthn4j.util.ECUtil;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.validator.CoreRegistrationObject;
@@ -100,11 +101,7 @@ public class AppleAppAttestAttestationStatementValidator extends AbstractStateme
         X509Certificate attestationCertificate = attestationStatement.getX5c().getEndEntityAttestationCertificate().getCertificate();
         byte[] actualNonce = extractNonce(attestationCertificate);
 
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] composite = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length)
-                .put(authenticatorData).put(clientDataHash).array();
-        byte[] expectedNonce = MessageDigestUtil.createSHA256().digest(composite);
+        byte[] expectedNonce = MessageDigestUtil.digest(CryptoUtil.getSHA256(), registrationObject.getAuthenticatorDataBuffer(), registrationObject.getClientDataHashBuffer());
 
         if (!Arrays.equals(actualNonce, expectedNonce)) {
             throw new BadAttestationStatementException("App Attest nonce doesn't match.");
@@ -116,7 +113,7 @@ public class AppleAppAttestAttestationStatementValidator extends AbstractStateme
         byte[] publicKey = ECUtil.createUncompressedPublicKey((ECPublicKey) getAttestationStatement(registrationObject).getX5c().getEndEntityAttestationCertificate().getCertificate().getPublicKey());
         DCRegistrationObject dcRegistrationObject = (DCRegistrationObject) registrationObject;
         byte[] keyId = dcRegistrationObject.getKeyId();
-        if (!Arrays.equals(MessageDigestUtil.createSHA256().digest(publicKey), keyId)) {
+        if (!Arrays.equals(CryptoUtil.getSHA256().digest(publicKey), keyId)) {
             throw new BadAttestationStatementException("key identifier doesn't match SHA-256 of the publickey");
         }
     }
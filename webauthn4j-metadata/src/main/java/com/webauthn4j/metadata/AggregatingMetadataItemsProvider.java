@@ -21,6 +21,7 @@ import com.webauthn4j.metadata.data.MetadataItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,23 +33,61 @@ public class AggregatingMetadataItemsProvider implements MetadataItemsProvider {
     private final Logger logger = LoggerFactory.getLogger(AggregatingMetadataItemsProvider.class);
 
     private final List<MetadataItemsProvider> metadataItemsProviders;
+    private volatile Memo memo;
 
     public AggregatingMetadataItemsProvider(List<MetadataItemsProvider> metadataItemsProviders) {
         this.metadataItemsProviders = metadataItemsProviders;
     }
 
+    /**
+     * Provides the aggregated metadata. The same {@link Map} instance is returned while all the providers provide
+     * the same {@link Map} instances, so that consumers can detect changes by identity.
+     *
+     * @return aggregated metadata
+     */
     @Override
     public Map<AAGUID, Set<MetadataItem>> provide() {
-        return metadataItemsProviders.stream()
-                .flatMap(provider -> {
-                    try {
-                        return provider.provide().entrySet().stream();
-                    } catch (RuntimeException e) {
-                        logger.warn("Failed to load metadata from one of metadataItemsProviders", e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        List<Map<AAGUID, Set<MetadataItem>>> sources = new ArrayList<>(metadataItemsProviders.size());
+        for (MetadataItemsProvider provider : metadataItemsProviders) {
+            try {
+                sources.add(provider.provide());
+            } catch (RuntimeException e) {
+                logger.warn("Failed to load metadata from one of metadataItemsProviders", e);
+                sources.add(null);
+            }
+        }
+        Memo current = memo;
+        if (current == null || !current.isCreatedFrom(sources)) {
+            Map<AAGUID, Set<MetadataItem>> aggregated = sources.stream()
+                    .filter(Objects::nonNull)
+                    .flatMap(source -> source.entrySet().stream())
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            current = new Memo(sources, aggregated);
+            memo = current;
+        }
+        return current.result;
+    }
+
+    private static class Memo {
+
+        private final List<Map<AAGUID, Set<MetadataItem>>> sources;
+        private final Map<AAGUID, Set<MetadataItem>> result;
+
+        Memo(List<Map<AAGUID, Set<MetadataItem>>> sources, Map<AAGUID, Set<MetadataItem>> result) {
+            this.sources = sources;
+            this.result = result;
+        }
+
+        boolean isCreatedFrom(List<Map<AAGUID, Set<MetadataItem>>> sources) {
+            if (this.sources.size() != sources.size()) {
+                return false;
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                if (this.sources.get(i) != sources.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
@@ -21,6 +21,7 @@ import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,23 +33,61 @@ public class AggregatingMetadataStatementsProvider implements MetadataStatements
     private final Logger logger = LoggerFactory.getLogger(AggregatingMetadataStatementsProvider.class);
 
     private final List<MetadataStatementsProvider> metadataStatementsProviders;
+    private volatile Memo memo;
 
     public AggregatingMetadataStatementsProvider(List<MetadataStatementsProvider> metadataStatementsProviders) {
         this.metadataStatementsProviders = metadataStatementsProviders;
     }
 
+    /**
+     * Provides the aggregated metadata. The same {@link Map} instance is returned while all the providers provide
+     * the same {@link Map} instances, so that consumers can detect changes by identity.
+     *
+     * @return aggregated metadata
+     */
     @Override
     public Map<AAGUID, Set<MetadataStatement>> provide() {
-        return metadataStatementsProviders.stream()
-                .flatMap(provider -> {
-                    try {
-                        return provider.provide().entrySet().stream();
-                    } catch (RuntimeException e) {
-                        logger.warn("Failed to load metadata from one of metadataStatementsProviders", e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        List<Map<AAGUID, Set<MetadataStatement>>> sources = new ArrayList<>(metadataStatementsProviders.size());
+        for (MetadataStatementsProvider provider : metadataStatementsProviders) {
+            try {
+                sources.add(provider.provide());
+            } catch (RuntimeException e) {
+                logger.warn("Failed to load metadata from one of metadataStatementsProviders", e);
+                sources.add(null);
+            }
+        }
+        Memo current = memo;
+        if (current == null || !current.isCreatedFrom(sources)) {
+            Map<AAGUID, Set<MetadataStatement>> aggregated = sources.stream()
+                    .filter(Objects::nonNull)
+                    .flatMap(source -> source.entrySet().stream())
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            current = new Memo(sources, aggregated);
+            memo = current;
+        }
+        return current.result;
+    }
+
+    private static class Memo {
+
+        private final List<Map<AAGUID, Set<MetadataStatement>>> sources;
+        private final Map<AAGUID, Set<MetadataStatement>> result;
+
+        Memo(List<Map<AAGUID, Set<MetadataStatement>>> sources, Map<AAGUID, Set<MetadataStatement>> result) {
+            this.sources = sources;
+            this.result = result;
+        }
+
+        boolean isCreatedFrom(List<Map<AAGUID, Set<MetadataStatement>>> sources) {
+            if (this.sources.size() != sources.size()) {
+                return false;
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                if (this.sources.get(i) != sources.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
@@ -30,7 +30,8 @@ import com.webauthn4j.metadata.exception.MDSException;
 import com.webauthn4j.metadata.validator.MetadataStatementValidator;
 import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.CertificateUtil;
-import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.CryptoUtil;
+import com.webauthn4j.util.FlightRecorderEventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,25 +45,74 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
+/**
+ * {@link MetadataItemsProvider} implementation that fetches metadata items from the FIDO Metadata Service.
+ * <p>
+ * Metadata statements are fetched on the executor set by {@link #setFetchExecutor(Executor)}, or on a bounded executor
+ * owned by this provider if none is set. The owned executor uses daemon threads that time out when idle, and is shut
+ * down by {@link #close()}.
+ */
+public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider, AutoCloseable {
+
+    /**
+     * The number of threads of the executor owned by this provider to fetch metadata statements
+     */
+    public static final int DEFAULT_FETCH_PARALLELISM = 4;
 
     private static final String DEFAULT_FIDO_METADATA_SERVICE_ENDPOINT = "https://mds2.fidoalliance.org/";
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofHours(1);
+    private static final double JITTER_RATIO = 0.1;
+    private static final FlightRecorderEventType METADATA_REFRESH_EVENT = FlightRecorderEventType.create(
+            "com.webauthn4j.MetadataRefresh", "FIDO MDS Metadata Refresh",
+            FlightRecorderEventType.Field.of("entries", int.class, "TOC Entries"),
+            FlightRecorderEventType.Field.of("entriesFetched", int.class, "Entries Fetched"),
+            FlightRecorderEventType.Field.of("bytes", long.class, "Bytes Fetched"),
+            FlightRecorderEventType.Field.of("outcome", String.class, "Outcome")
+    );
     private final Logger logger = LoggerFactory.getLogger(FidoMdsMetadataItemsProvider.class);
     private final JsonConverter jsonConverter;
     private final JWSFactory jwsFactory;
     private final HttpClient httpClient;
     private final TrustAnchor trustAnchor;
     private final MetadataStatementValidator metadataStatementValidator = new MetadataStatementValidator();
-    Map<AAGUID, Set<MetadataItem>> cachedMetadataItemMap;
-    OffsetDateTime nextUpdate;
-    OffsetDateTime lastRefresh;
+    private final Object refreshLock = new Object();
+    private final AtomicBoolean backgroundRefreshScheduled = new AtomicBoolean(false);
+    private final AtomicInteger consecutiveBackgroundRefreshFailures = new AtomicInteger(0);
+    volatile Map<AAGUID, Set<MetadataItem>> cachedMetadataItemMap;
+    volatile OffsetDateTime nextUpdate;
+    volatile OffsetDateTime lastRefresh;
+    private volatile Map<String, VerifiedMetadataStatement> cachedMetadataStatements = Collections.emptyMap();
+    private volatile MetadataItemsDelta lastDelta;
     private String fidoMetadataServiceEndpoint = DEFAULT_FIDO_METADATA_SERVICE_ENDPOINT;
     private final String token;
+    private ScheduledExecutorService backgroundRefreshExecutor;
+    private Duration initialRetryBackoff = Duration.ofMinutes(1);
+    private Duration maxRetryBackoff = Duration.ofHours(1);
+    private FidoMdsSnapshotStore snapshotStore;
+    private Executor fetchExecutor;
+    private final Object defaultFetchExecutorLock = new Object();
+    private ExecutorService defaultFetchExecutor;
 
     public FidoMdsMetadataItemsProvider(ObjectConverter objectConverter, String token, HttpClient httpClient, X509Certificate rootCertificate) {
         this.jsonConverter = objectConverter.getJsonConverter();
@@ -80,6 +130,13 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         this(objectConverter, token, httpClient, loadEmbeddedFidoMdsRootCertificate());
     }
 
+    /**
+     * Creates a new instance that fetches metadata with {@link SimpleHttpClient}, which is kept as the default for
+     * compatibility. Use a constructor with {@link HttpClient} to use {@link PooledHttpClient} instead.
+     *
+     * @param objectConverter object converter
+     * @param token           token to access the FIDO Metadata Service, or null
+     */
     public FidoMdsMetadataItemsProvider(ObjectConverter objectConverter, String token) {
         this(objectConverter, token, new SimpleHttpClient(), loadEmbeddedFidoMdsRootCertificate());
     }
@@ -140,12 +197,38 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         }
     }
 
+    /**
+     * Provides cached metadata items.
+     * If no background refresh executor is configured, stale metadata items are refreshed on the calling thread.
+     * If it is configured, stale metadata items are served as is while they are refreshed on the executor.
+     * In both modes, concurrent refreshes are coalesced into one.
+     * If a snapshot store is configured, metadata items are restored from the snapshot on the first call.
+     *
+     * @return metadata items
+     */
     @Override
     public Map<AAGUID, Set<MetadataItem>> provide() {
+        Map<AAGUID, Set<MetadataItem>> current = cachedMetadataItemMap;
+        if (current == null || backgroundRefreshExecutor == null) {
+            if (needsRefresh()) {
+                synchronized (refreshLock) {
+                    if (needsRefresh()) {
+                        if (cachedMetadataItemMap == null) {
+                            restoreSnapshot();
+                        }
+                        if (cachedMetadataItemMap == null || (backgroundRefreshExecutor == null && needsRefresh())) {
+                            refresh();
+                        }
+                        scheduleBackgroundRefresh(needsRefresh() ? Duration.ZERO : getDelayUntilNextRefresh());
+                    }
+                }
+            }
+            return cachedMetadataItemMap;
+        }
         if (needsRefresh()) {
-            refresh();
+            scheduleBackgroundRefresh(Duration.ZERO);
         }
-        return cachedMetadataItemMap;
+        return current;
     }
 
     public String getFidoMetadataServiceEndpoint() {
@@ -156,27 +239,284 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         this.fidoMetadataServiceEndpoint = fidoMetadataServiceEndpoint;
     }
 
-    private void refresh() {
-        MetadataTOCPayload tocPayload = fetchMetadataTOCPayload(false);
+    public ScheduledExecutorService getBackgroundRefreshExecutor() {
+        return backgroundRefreshExecutor;
+    }
 
-        cachedMetadataItemMap =
-                tocPayload.getEntries().parallelStream().map(entry -> {
-                    try {
-                        return fetchFidoMdsMetadataItem(entry);
-                    } catch (RuntimeException e) {
-                        logger.warn("Failed to fetch MetadataTOCPayLoad", e);
-                        return null;
-                    }
-                })
-                        .filter(Objects::nonNull)
-                        .distinct()
-                        .collect(Collectors.groupingBy(MetadataItem::getAaguid))
-                        .entrySet()
-                        .stream()
-                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> Collections.unmodifiableSet(new HashSet<>(entry.getValue()))));
+    /**
+     * Sets the executor to refresh metadata items in the background (stale-while-revalidate).
+     * The executor is not shut down by this class.
+     *
+     * @param backgroundRefreshExecutor executor for background refresh, or null to refresh on the calling thread
+     */
+    public void setBackgroundRefreshExecutor(ScheduledExecutorService backgroundRefreshExecutor) {
+        this.backgroundRefreshExecutor = backgroundRefreshExecutor;
+    }
+
+    public Duration getInitialRetryBackoff() {
+        return initialRetryBackoff;
+    }
+
+    /**
+     * Sets the delay before the first retry of a failed background refresh. The delay doubles on each consecutive failure.
+     *
+     * @param initialRetryBackoff initial retry backoff
+     */
+    public void setInitialRetryBackoff(Duration initialRetryBackoff) {
+        this.initialRetryBackoff = initialRetryBackoff;
+    }
+
+    public Duration getMaxRetryBackoff() {
+        return maxRetryBackoff;
+    }
+
+    public void setMaxRetryBackoff(Duration maxRetryBackoff) {
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    /**
+     * Returns the delta of metadata items made by the last refresh.
+     * On the first refresh, all metadata items are reported as added.
+     *
+     * @return the delta of the last refresh, or null if metadata items are not refreshed yet
+     */
+    public MetadataItemsDelta getLastDelta() {
+        return lastDelta;
+    }
+
+    public Executor getFetchExecutor() {
+        return fetchExecutor;
+    }
+
+    /**
+     * Sets the executor to fetch metadata statements on refresh. A bounded executor limits the number of concurrent
+     * connections to the FIDO Metadata Service. The executor is not shut down by this class.
+     * If it is not set, an executor owned by this provider with {@link #DEFAULT_FETCH_PARALLELISM} daemon threads is used.
+     * The {@link HttpClient} the requests are sent with is chosen by the constructor, and is {@link SimpleHttpClient}
+     * unless specified.
+     *
+     * @param fetchExecutor executor for fetching metadata statements, or null to use the executor owned by this provider
+     */
+    public void setFetchExecutor(Executor fetchExecutor) {
+        this.fetchExecutor = fetchExecutor;
+    }
+
+    public FidoMdsSnapshotStore getSnapshotStore() {
+        return snapshotStore;
+    }
+
+    /**
+     * Sets the store to persist the last verified TOC and metadata statements.
+     * On cold start, metadata items are restored from the store after re-verifying the TOC signature and
+     * the metadata statement hashes, and served until a refresh succeeds.
+     *
+     * @param snapshotStore snapshot store, or null to disable snapshots
+     */
+    public void setSnapshotStore(FidoMdsSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
+    /**
+     * Shuts down the executor owned by this provider to fetch metadata statements.
+     * The executors set by {@link #setBackgroundRefreshExecutor(ScheduledExecutorService)} and
+     * {@link #setFetchExecutor(Executor)} are not shut down.
+     */
+    @Override
+    public void close() {
+        synchronized (defaultFetchExecutorLock) {
+            if (defaultFetchExecutor != null) {
+                defaultFetchExecutor.shutdown();
+                defaultFetchExecutor = null;
+            }
+        }
+    }
+
+    private Executor getDefaultFetchExecutor() {
+        synchronized (defaultFetchExecutorLock) {
+            if (defaultFetchExecutor == null) {
+                AtomicInteger threadNumber = new AtomicInteger();
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_FETCH_PARALLELISM, DEFAULT_FETCH_PARALLELISM,
+                        60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "webauthn4j-mds-fetch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                // idle threads are terminated so that an unclosed provider does not hold them
+                executor.allowCoreThreadTimeOut(true);
+                defaultFetchExecutor = executor;
+            }
+            return defaultFetchExecutor;
+        }
+    }
+
+    private void scheduleBackgroundRefresh(Duration delay) {
+        ScheduledExecutorService executor = backgroundRefreshExecutor;
+        if (executor == null || !backgroundRefreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.schedule(this::runBackgroundRefresh, withJitter(delay).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            backgroundRefreshScheduled.set(false);
+            logger.warn("Failed to schedule background refresh of FIDO MDS metadata items", e);
+        }
+    }
+
+    private void runBackgroundRefresh() {
+        Duration nextDelay;
+        try {
+            synchronized (refreshLock) {
+                refresh();
+            }
+            consecutiveBackgroundRefreshFailures.set(0);
+            nextDelay = getDelayUntilNextRefresh();
+        } catch (RuntimeException e) {
+            int failures = consecutiveBackgroundRefreshFailures.incrementAndGet();
+            nextDelay = getRetryBackoff(failures);
+            logger.warn("Failed to refresh FIDO MDS metadata items. Retrying in {}", nextDelay, e);
+        }
+        backgroundRefreshScheduled.set(false);
+        scheduleBackgroundRefresh(nextDelay);
+    }
+
+    private Duration getDelayUntilNextRefresh() {
+        Duration delay = Duration.between(OffsetDateTime.now(ZoneOffset.UTC), nextUpdate);
+        return delay.compareTo(MIN_REFRESH_INTERVAL) < 0 ? MIN_REFRESH_INTERVAL : delay;
+    }
 
+    Duration getRetryBackoff(int failures) {
+        Duration backoff = initialRetryBackoff;
+        for (int i = 1; i < failures && backoff.compareTo(maxRetryBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(maxRetryBackoff) < 0 ? backoff : maxRetryBackoff;
+    }
+
+    private static Duration withJitter(Duration delay) {
+        long millis = delay.toMillis();
+        long jitter = (long) (millis * JITTER_RATIO);
+        return jitter <= 0 ? delay : Duration.ofMillis(millis + ThreadLocalRandom.current().nextLong(jitter + 1));
+    }
+
+    void refresh() {
+        Object event = METADATA_REFRESH_EVENT.begin();
+        AtomicInteger entries = new AtomicInteger();
+        AtomicInteger entriesFetched = new AtomicInteger();
+        AtomicLong bytes = new AtomicLong();
+        try {
+            refresh(entries, entriesFetched, bytes);
+            commitRefreshEvent(event, entries, entriesFetched, bytes, null);
+        } catch (RuntimeException e) {
+            commitRefreshEvent(event, entries, entriesFetched, bytes, e);
+            throw e;
+        }
+    }
+
+    private void refresh(AtomicInteger entries, AtomicInteger entriesFetched, AtomicLong bytes) {
+        String toc = fetchMetadataTOC();
+        bytes.addAndGet(toc.length());
+        MetadataTOCPayload tocPayload = verifyMetadataTOC(toc, false, true);
+        entries.set(tocPayload.getEntries().size());
+
+        // metadata statements are identified by their hash, so only new or changed ones are fetched
+        Map<String, VerifiedMetadataStatement> previousMetadataStatements = cachedMetadataStatements;
+        Map<String, VerifiedMetadataStatement> metadataStatements = new ConcurrentHashMap<>();
+        Map<String, String> snapshotMetadataStatements = new ConcurrentHashMap<>();
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap = createMetadataItemMap(tocPayload, entry -> {
+            String url = entry.getUrl().toString();
+            VerifiedMetadataStatement verifiedMetadataStatement = previousMetadataStatements.get(entry.getHash());
+            if (verifiedMetadataStatement == null) {
+                String metadataStatementBase64url = httpClient.fetch(appendToken(url, token));
+                entriesFetched.incrementAndGet();
+                bytes.addAndGet(metadataStatementBase64url.length());
+                MetadataStatement metadataStatement = parseMetadataStatement(metadataStatementBase64url, Base64UrlUtil.decode(entry.getHash()));
+                verifiedMetadataStatement = new VerifiedMetadataStatement(metadataStatementBase64url, metadataStatement);
+            }
+            metadataStatements.put(entry.getHash(), verifiedMetadataStatement);
+            snapshotMetadataStatements.put(url, verifiedMetadataStatement.base64url);
+            return verifiedMetadataStatement.metadataStatement;
+        });
+        publish(tocPayload, metadataItemMap, metadataStatements, OffsetDateTime.now(ZoneOffset.UTC));
+        saveSnapshot(new FidoMdsSnapshot(toc, snapshotMetadataStatements, Instant.now()));
+    }
+
+    private static void commitRefreshEvent(Object event, AtomicInteger entries, AtomicInteger entriesFetched, AtomicLong bytes, RuntimeException exception) {
+        if (event == null) {
+            return;
+        }
+        String outcome = exception == null ? "success" : exception.getClass().getName();
+        METADATA_REFRESH_EVENT.commit(event, entries.get(), entriesFetched.get(), bytes.get(), outcome);
+    }
+
+    private void restoreSnapshot() {
+        FidoMdsSnapshotStore store = snapshotStore;
+        if (store == null) {
+            return;
+        }
+        try {
+            FidoMdsSnapshot snapshot = store.load();
+            if (snapshot == null) {
+                return;
+            }
+            MetadataTOCPayload tocPayload = verifyMetadataTOC(snapshot.getToc(), false, false);
+            Map<String, VerifiedMetadataStatement> metadataStatements = new ConcurrentHashMap<>();
+            Map<AAGUID, Set<MetadataItem>> metadataItemMap = createMetadataItemMap(tocPayload, entry -> {
+                String metadataStatementBase64url = snapshot.getMetadataStatements().get(entry.getUrl().toString());
+                if (metadataStatementBase64url == null) {
+                    throw new MDSException("metadataStatement is not found in the snapshot");
+                }
+                MetadataStatement metadataStatement = parseMetadataStatement(metadataStatementBase64url, Base64UrlUtil.decode(entry.getHash()));
+                metadataStatements.put(entry.getHash(), new VerifiedMetadataStatement(metadataStatementBase64url, metadataStatement));
+                return metadataStatement;
+            });
+            publish(tocPayload, metadataItemMap, metadataStatements, snapshot.getSavedAt().atOffset(ZoneOffset.UTC));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to restore FIDO MDS metadata items from snapshot", e);
+        }
+    }
+
+    private void saveSnapshot(FidoMdsSnapshot snapshot) {
+        FidoMdsSnapshotStore store = snapshotStore;
+        if (store == null) {
+            return;
+        }
+        try {
+            store.save(snapshot);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to save FIDO MDS snapshot", e);
+        }
+    }
+
+    private Map<AAGUID, Set<MetadataItem>> createMetadataItemMap(MetadataTOCPayload tocPayload, Function<MetadataTOCPayloadEntry, MetadataStatement> metadataStatementResolver) {
+        Function<MetadataTOCPayloadEntry, MetadataItem> metadataItemFactory = entry -> {
+            try {
+                return createMetadataItem(entry, metadataStatementResolver.apply(entry));
+            } catch (RuntimeException e) {
+                logger.warn("Failed to fetch MetadataTOCPayLoad", e);
+                return null;
+            }
+        };
+        Executor executor = fetchExecutor != null ? fetchExecutor : getDefaultFetchExecutor();
+        List<CompletableFuture<MetadataItem>> futures = tocPayload.getEntries().stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> metadataItemFactory.apply(entry), executor))
+                .collect(Collectors.toList());
+        return futures.stream().map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.groupingBy(MetadataItem::getAaguid))
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Collections.unmodifiableSet(new HashSet<>(entry.getValue()))));
+    }
+
+    private void publish(MetadataTOCPayload tocPayload, Map<AAGUID, Set<MetadataItem>> metadataItemMap,
+                         Map<String, VerifiedMetadataStatement> metadataStatements, OffsetDateTime refreshedAt) {
+        lastDelta = MetadataItemsDelta.compute(cachedMetadataItemMap, metadataItemMap);
+        cachedMetadataStatements = metadataStatements;
         nextUpdate = tocPayload.getNextUpdate().atStartOfDay().atOffset(ZoneOffset.UTC);
-        lastRefresh = OffsetDateTime.now(ZoneOffset.UTC);
+        lastRefresh = refreshedAt;
+        // publish the map last as needsRefresh reads nextUpdate and lastRefresh once the map is set
+        cachedMetadataItemMap = metadataItemMap;
     }
 
     boolean needsRefresh() {
@@ -191,22 +531,26 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
      * @return MetaDataTOCPayload
      */
     MetadataTOCPayload fetchMetadataTOCPayload(boolean skipCertPathValidation) {
-        String uriWithToken = appendToken(fidoMetadataServiceEndpoint, token);
+        return verifyMetadataTOC(fetchMetadataTOC(), skipCertPathValidation, true);
+    }
 
-        String toc = httpClient.fetch(uriWithToken);
+    private String fetchMetadataTOC() {
+        String uriWithToken = appendToken(fidoMetadataServiceEndpoint, token);
+        return httpClient.fetch(uriWithToken);
+    }
 
+    MetadataTOCPayload verifyMetadataTOC(String toc, boolean skipCertPathValidation, boolean revocationCheckEnabled) {
         JWS<MetadataTOCPayload> jws = jwsFactory.parse(toc, MetadataTOCPayload.class);
         if (!jws.isValidSignature()) {
             throw new MDSException("invalid signature");
         }
         if (!skipCertPathValidation) {
-            validateCertPath(jws);
+            validateCertPath(jws, revocationCheckEnabled);
         }
         return jws.getPayload();
     }
 
-    private MetadataItem fetchFidoMdsMetadataItem(MetadataTOCPayloadEntry entry) {
-        MetadataStatement metadataStatement = fetchMetadataStatement(entry.getUrl().toString(), Base64UrlUtil.decode(entry.getHash()));
+    private MetadataItem createMetadataItem(MetadataTOCPayloadEntry entry, MetadataStatement metadataStatement) {
         return new MetadataItemImpl(
                 entry.getAaid(),
                 new AAGUID(entry.getAaguid()),
@@ -218,15 +562,20 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         );
     }
 
-    private void validateCertPath(JWS<MetadataTOCPayload> jws) {
+    private void validateCertPath(JWS<MetadataTOCPayload> jws, boolean revocationCheckEnabled) {
         Set<TrustAnchor> trustAnchors = Collections.singleton(trustAnchor);
         CertPath certPath = jws.getHeader().getX5c();
 
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
         PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
-        PKIXRevocationChecker pkixRevocationChecker = (PKIXRevocationChecker) certPathValidator.getRevocationChecker();
-        pkixRevocationChecker.setOptions(EnumSet.of(PKIXRevocationChecker.Option.PREFER_CRLS));
-        certPathParameters.addCertPathChecker(pkixRevocationChecker);
+        if (revocationCheckEnabled) {
+            PKIXRevocationChecker pkixRevocationChecker = (PKIXRevocationChecker) certPathValidator.getRevocationChecker();
+            pkixRevocationChecker.setOptions(EnumSet.of(PKIXRevocationChecker.Option.PREFER_CRLS));
+            certPathParameters.addCertPathChecker(pkixRevocationChecker);
+        }
+        else {
+            certPathParameters.setRevocationEnabled(false);
+        }
 
         try {
             certPathValidator.validate(certPath, certPathParameters);
@@ -240,8 +589,12 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
     MetadataStatement fetchMetadataStatement(String uri, byte[] expectedHash) {
         String uriWithToken = appendToken(uri, token);
         String metadataStatementBase64url = httpClient.fetch(uriWithToken);
+        return parseMetadataStatement(metadataStatementBase64url, expectedHash);
+    }
+
+    private MetadataStatement parseMetadataStatement(String metadataStatementBase64url, byte[] expectedHash) {
         String metadataStatementStr = new String(Base64UrlUtil.decode(metadataStatementBase64url));
-        byte[] hash = MessageDigestUtil.createSHA256().digest(metadataStatementBase64url.getBytes(StandardCharsets.UTF_8));
+        byte[] hash = CryptoUtil.getSHA256().digest(metadataStatementBase64url.getBytes(StandardCharsets.UTF_8));
         if (!Arrays.equals(hash, expectedHash)) {
             throw new MDSException("Hash of metadataStatement doesn't match");
         }
@@ -250,4 +603,15 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider {
         return metadataStatement;
     }
 
+    private static class VerifiedMetadataStatement {
+
+        private final String base64url;
+        private final MetadataStatement metadataStatement;
+
+        VerifiedMetadataStatement(String base64url, MetadataStatement metadataStatement) {
+            this.base64url = base64url;
+            this.metadataStatement = metadataStatement;
+        }
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.util.AssertUtil;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Snapshot of the FIDO Metadata Service TOC and metadata statements as they were fetched.
+ * Metadata statements are kept in their original base64url form so that their hashes can be re-verified on load.
+ */
+public class FidoMdsSnapshot {
+
+    private final String toc;
+    private final Map<String, String> metadataStatements;
+    private final Instant savedAt;
+
+    /**
+     * Constructor
+     *
+     * @param toc                TOC JWS string
+     * @param metadataStatements base64url encoded metadata statements keyed by their url
+     * @param savedAt            the time the snapshot was taken
+     */
+    public FidoMdsSnapshot(String toc, Map<String, String> metadataStatements, Instant savedAt) {
+        AssertUtil.notNull(toc, "toc must not be null");
+        AssertUtil.notNull(metadataStatements, "metadataStatements must not be null");
+        AssertUtil.notNull(savedAt, "savedAt must not be null");
+        this.toc = toc;
+        this.metadataStatements = Collections.unmodifiableMap(new HashMap<>(metadataStatements));
+        this.savedAt = savedAt;
+    }
+
+    public String getToc() {
+        return toc;
+    }
+
+    public Map<String, String> getMetadataStatements() {
+        return metadataStatements;
+    }
+
+    public Instant getSavedAt() {
+        return savedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FidoMdsSnapshot that = (FidoMdsSnapshot) o;
+        return toc.equals(that.toc) &&
+                metadataStatements.equals(that.metadataStatements) &&
+                savedAt.equals(that.savedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(toc, metadataStatements, savedAt);
+    }
+}
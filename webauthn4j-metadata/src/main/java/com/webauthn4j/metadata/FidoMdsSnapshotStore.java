@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.exception.MDSException;
+
+/**
+ * Persists the last verified {@link FidoMdsSnapshot} so that {@link FidoMdsMetadataItemsProvider} can start without
+ * waiting for the FIDO Metadata Service.
+ */
+public interface FidoMdsSnapshotStore {
+
+    void save(FidoMdsSnapshot snapshot) throws MDSException;
+
+    /**
+     * Loads the saved snapshot
+     *
+     * @return the saved snapshot, or null if no snapshot is saved
+     * @throws MDSException if the saved snapshot cannot be read
+     */
+    FidoMdsSnapshot load() throws MDSException;
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link FidoMdsSnapshotStore} implementation which stores a snapshot to a local file in a compact binary format.
+ * The file is replaced atomically on save, and memory-mapped on load.
+ */
+public class FileFidoMdsSnapshotStore implements FidoMdsSnapshotStore {
+
+    private static final int MAGIC = 0x57344D44; // "W4MD"
+    private static final int VERSION = 1;
+
+    private final Path path;
+
+    public FileFidoMdsSnapshotStore(Path path) {
+        AssertUtil.notNull(path, "path must not be null");
+        this.path = path.toAbsolutePath();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void save(FidoMdsSnapshot snapshot) {
+        AssertUtil.notNull(snapshot, "snapshot must not be null");
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                outputStream.writeInt(MAGIC);
+                outputStream.writeInt(VERSION);
+                outputStream.writeLong(snapshot.getSavedAt().getEpochSecond());
+                outputStream.writeInt(snapshot.getSavedAt().getNano());
+                writeString(outputStream, snapshot.getToc());
+                outputStream.writeInt(snapshot.getMetadataStatements().size());
+                for (Map.Entry<String, String> entry : snapshot.getMetadataStatements().entrySet()) {
+                    writeString(outputStream, entry.getKey());
+                    writeString(outputStream, entry.getValue());
+                }
+            }
+            try {
+                Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw new MDSException("Failed to save FIDO MDS snapshot to " + path, e);
+        }
+    }
+
+    @Override
+    public FidoMdsSnapshot load() {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new MDSException("Failed to load FIDO MDS snapshot from " + path, e);
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new MDSException("FIDO MDS snapshot " + path + " is not a snapshot file");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new MDSException("FIDO MDS snapshot version " + version + " is not supported");
+            }
+            Instant savedAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            String toc = readString(buffer);
+            int count = readLength(buffer);
+            Map<String, String> metadataStatements = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                metadataStatements.put(readString(buffer), readString(buffer));
+            }
+            return new FidoMdsSnapshot(toc, metadataStatements, savedAt);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new MDSException("FIDO MDS snapshot " + path + " is corrupted", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream outputStream, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = readLength(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("negative length");
+        }
+        return length;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // nop
+        }
+    }
+}
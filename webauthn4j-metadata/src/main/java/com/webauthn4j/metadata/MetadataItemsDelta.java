@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.util.AssertUtil;
+
+import java.util.*;
+
+/**
+ * Difference of metadata items between two refreshes, keyed by {@link AAGUID}
+ */
+public class MetadataItemsDelta {
+
+    private final Set<AAGUID> added;
+    private final Set<AAGUID> changed;
+    private final Set<AAGUID> removed;
+
+    public MetadataItemsDelta(Set<AAGUID> added, Set<AAGUID> changed, Set<AAGUID> removed) {
+        AssertUtil.notNull(added, "added must not be null");
+        AssertUtil.notNull(changed, "changed must not be null");
+        AssertUtil.notNull(removed, "removed must not be null");
+        this.added = Collections.unmodifiableSet(new HashSet<>(added));
+        this.changed = Collections.unmodifiableSet(new HashSet<>(changed));
+        this.removed = Collections.unmodifiableSet(new HashSet<>(removed));
+    }
+
+    /**
+     * Computes the delta from the previous metadata items to the current metadata items
+     *
+     * @param previous previous metadata items, or null if there were none
+     * @param current  current metadata items
+     * @return delta
+     */
+    public static MetadataItemsDelta compute(Map<AAGUID, Set<MetadataItem>> previous, Map<AAGUID, Set<MetadataItem>> current) {
+        AssertUtil.notNull(current, "current must not be null");
+        Map<AAGUID, Set<MetadataItem>> previousMap = previous == null ? Collections.emptyMap() : previous;
+        Set<AAGUID> added = new HashSet<>();
+        Set<AAGUID> changed = new HashSet<>();
+        for (Map.Entry<AAGUID, Set<MetadataItem>> entry : current.entrySet()) {
+            Set<MetadataItem> previousItems = previousMap.get(entry.getKey());
+            if (previousItems == null) {
+                added.add(entry.getKey());
+            }
+            else if (!previousItems.equals(entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        Set<AAGUID> removed = new HashSet<>(previousMap.keySet());
+        removed.removeAll(current.keySet());
+        return new MetadataItemsDelta(added, changed, removed);
+    }
+
+    public Set<AAGUID> getAdded() {
+        return added;
+    }
+
+    public Set<AAGUID> getChanged() {
+        return changed;
+    }
+
+    public Set<AAGUID> getRemoved() {
+        return removed;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MetadataItemsDelta that = (MetadataItemsDelta) o;
+        return added.equals(that.added) &&
+                changed.equals(that.changed) &&
+                removed.equals(that.removed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(added, changed, removed);
+    }
+}
@@ -27,17 +27,42 @@ import java.util.stream.Collectors;
 public class MetadataItemsMetadataStatementsProvider implements MetadataStatementsProvider {
 
     private final MetadataItemsProvider metadataItemsProvider;
+    private volatile Memo memo;
 
     public MetadataItemsMetadataStatementsProvider(MetadataItemsProvider metadataItemsProvider) {
         this.metadataItemsProvider = metadataItemsProvider;
     }
 
+    /**
+     * Provides metadata statements. The same {@link Map} instance is returned while {@link MetadataItemsProvider}
+     * provides the same {@link Map} instance, so that consumers can detect changes by identity.
+     *
+     * @return metadata statements
+     */
     @Override
     public Map<AAGUID, Set<MetadataStatement>> provide() {
-        return metadataItemsProvider.provide().entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().stream().map(MetadataItem::getMetadataStatement).collect(Collectors.toSet())
-                ));
+        Map<AAGUID, Set<MetadataItem>> metadataItems = metadataItemsProvider.provide();
+        Memo current = memo;
+        if (current == null || current.source != metadataItems) {
+            Map<AAGUID, Set<MetadataStatement>> metadataStatements = metadataItems.entrySet().stream()
+                    .collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            entry -> entry.getValue().stream().map(MetadataItem::getMetadataStatement).collect(Collectors.toSet())
+                    ));
+            current = new Memo(metadataItems, metadataStatements);
+            memo = current;
+        }
+        return current.result;
+    }
+
+    private static class Memo {
+
+        private final Map<AAGUID, Set<MetadataItem>> source;
+        private final Map<AAGUID, Set<MetadataStatement>> result;
+
+        Memo(Map<AAGUID, Set<MetadataItem>> source, Map<AAGUID, Set<MetadataStatement>> result) {
+            this.source = source;
+            this.result = result;
+        }
     }
 }
@@ -18,6 +18,7 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.anchor.TrustAnchorsProvider;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
 
 import java.security.cert.TrustAnchor;
 import java.util.Map;
@@ -27,20 +28,45 @@ import java.util.stream.Collectors;
 public class MetadataStatementsTrustAnchorsProvider implements TrustAnchorsProvider {
 
     private final MetadataStatementsProvider metadataStatementsProvider;
+    private volatile Memo memo;
 
     public MetadataStatementsTrustAnchorsProvider(MetadataStatementsProvider metadataStatementsProvider) {
         this.metadataStatementsProvider = metadataStatementsProvider;
     }
 
+    /**
+     * Provides trust anchors. The same {@link Map} instance is returned while {@link MetadataStatementsProvider}
+     * provides the same {@link Map} instance, so that consumers can detect changes by identity.
+     *
+     * @return trust anchors
+     */
     @Override
     public Map<AAGUID, Set<TrustAnchor>> provide() {
-        return metadataStatementsProvider.provide().entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().stream().flatMap(metadataStatement ->
-                                metadataStatement.getAttestationRootCertificates().stream()
-                                        .map(certificate -> new TrustAnchor(certificate, null))
-                        ).collect(Collectors.toSet())
-                ));
+        Map<AAGUID, Set<MetadataStatement>> metadataStatements = metadataStatementsProvider.provide();
+        Memo current = memo;
+        if (current == null || current.source != metadataStatements) {
+            Map<AAGUID, Set<TrustAnchor>> trustAnchors = metadataStatements.entrySet().stream()
+                    .collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            entry -> entry.getValue().stream().flatMap(metadataStatement ->
+                                    metadataStatement.getAttestationRootCertificates().stream()
+                                            .map(certificate -> new TrustAnchor(certificate, null))
+                            ).collect(Collectors.toSet())
+                    ));
+            current = new Memo(metadataStatements, trustAnchors);
+            memo = current;
+        }
+        return current.result;
+    }
+
+    private static class Memo {
+
+        private final Map<AAGUID, Set<MetadataStatement>> source;
+        private final Map<AAGUID, Set<TrustAnchor>> result;
+
+        Memo(Map<AAGUID, Set<MetadataStatement>> source, Map<AAGUID, Set<TrustAnchor>> result) {
+            this.source = source;
+            this.result = result;
+        }
     }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.BoundedConcurrentCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * {@link HttpClient} implementation for production use.
+ * <p>
+ * Responses are always read to the end and closed so that the underlying connections are returned to the JDK
+ * keep-alive pool and reused. Responses are requested gzip-compressed, and conditional requests are sent with
+ * the ETag and Last-Modified of the previous response so that unchanged resources are served from memory.
+ * Only the most recently used responses are kept for conditional requests, as metadata statements are already
+ * cached by their hash in {@link FidoMdsMetadataItemsProvider} and only the TOC is fetched repeatedly.
+ */
+public class PooledHttpClient implements HttpClient {
+
+    public static final int DEFAULT_MAXIMUM_CACHED_RESPONSES = 16;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_INITIAL_BUFFER_SIZE = 1024 * 1024;
+
+    private final BoundedConcurrentCache<String, CachedResponse> cachedResponses;
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration readTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Creates a new instance
+     *
+     * @param maximumCachedResponses maximum number of responses kept for conditional requests
+     */
+    public PooledHttpClient(int maximumCachedResponses) {
+        this.cachedResponses = new BoundedConcurrentCache<>(maximumCachedResponses);
+    }
+
+    public PooledHttpClient() {
+        this(DEFAULT_MAXIMUM_CACHED_RESPONSES);
+    }
+
+    @Override
+    public String fetch(String url) {
+        AssertUtil.notNull(url, "url must not be null");
+        HttpURLConnection urlConnection = null;
+        try {
+            urlConnection = (HttpURLConnection) new URL(url).openConnection();
+            urlConnection.setRequestMethod("GET");
+            urlConnection.setConnectTimeout((int) connectTimeout.toMillis());
+            urlConnection.setReadTimeout((int) readTimeout.toMillis());
+            urlConnection.setRequestProperty("Accept-Encoding", "gzip");
+            CachedResponse cachedResponse = cachedResponses.get(url);
+            if (cachedResponse != null) {
+                if (cachedResponse.etag != null) {
+                    urlConnection.setRequestProperty("If-None-Match", cachedResponse.etag);
+                }
+                if (cachedResponse.lastModified != null) {
+                    urlConnection.setRequestProperty("If-Modified-Since", cachedResponse.lastModified);
+                }
+            }
+
+            int status = urlConnection.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cachedResponse != null) {
+                drain(urlConnection.getInputStream());
+                return cachedResponse.body;
+            }
+            if (status == HttpURLConnection.HTTP_OK) {
+                String body = read(urlConnection);
+                String etag = urlConnection.getHeaderField("ETag");
+                String lastModified = urlConnection.getHeaderField("Last-Modified");
+                if (etag != null || lastModified != null) {
+                    cachedResponses.put(url, new CachedResponse(etag, lastModified, body));
+                }
+                else {
+                    cachedResponses.remove(url);
+                }
+                return body;
+            }
+            drain(urlConnection.getErrorStream());
+            throw new MDSException("failed to fetch " + url + ": status " + status);
+        } catch (IOException e) {
+            if (urlConnection != null) {
+                drainQuietly(urlConnection.getErrorStream());
+            }
+            throw new MDSException("failed to fetch " + url, e);
+        }
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        AssertUtil.notNull(connectTimeout, "connectTimeout must not be null");
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        AssertUtil.notNull(readTimeout, "readTimeout must not be null");
+        this.readTimeout = readTimeout;
+    }
+
+    private static String read(HttpURLConnection urlConnection) throws IOException {
+        InputStream inputStream = urlConnection.getInputStream();
+        if ("gzip".equalsIgnoreCase(urlConnection.getContentEncoding())) {
+            inputStream = new GZIPInputStream(inputStream, BUFFER_SIZE);
+        }
+        // Content-Length is only a hint from the server, so the buffer is grown on demand beyond the clamped size
+        int contentLength = urlConnection.getContentLength();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(contentLength > 0 ? Math.min(contentLength, MAX_INITIAL_BUFFER_SIZE) : BUFFER_SIZE);
+        try (InputStream closeable = inputStream) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = closeable.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void drain(InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            return;
+        }
+        try (InputStream closeable = inputStream) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            //noinspection StatementWithEmptyBody
+            while (closeable.read(buffer) != -1) {
+            }
+        }
+    }
+
+    private static void drainQuietly(InputStream inputStream) {
+        try {
+            drain(inputStream);
+        } catch (IOException e) {
+            // nop
+        }
+    }
+
+    private static class CachedResponse {
+
+        private final String etag;
+        private final String lastModified;
+        private final String body;
+
+        CachedResponse(String etag, String lastModified, String body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.body = body;
+        }
+    }
+}
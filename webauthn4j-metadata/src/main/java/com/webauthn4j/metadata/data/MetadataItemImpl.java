@@ -23,6 +23,7 @@ import com.webauthn4j.util.WIP;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Created by ynojima on 2017/09/24.
@@ -89,4 +90,23 @@ public class MetadataItemImpl implements MetadataItem {
     public MetadataStatement getMetadataStatement() {
         return metadataStatement;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MetadataItemImpl that = (MetadataItemImpl) o;
+        return Objects.equals(aaid, that.aaid) &&
+                Objects.equals(aaguid, that.aaguid) &&
+                Objects.equals(attestationCertificateKeyIdentifiers, that.attestationCertificateKeyIdentifiers) &&
+                Objects.equals(hash, that.hash) &&
+                Objects.equals(statusReports, that.statusReports) &&
+                Objects.equals(timeOfLastStatusChange, that.timeOfLastStatusChange) &&
+                Objects.equals(metadataStatement, that.metadataStatement);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(aaid, aaguid, attestationCertificateKeyIdentifiers, hash, statusReports, timeOfLastStatusChange, metadataStatement);
+    }
 }
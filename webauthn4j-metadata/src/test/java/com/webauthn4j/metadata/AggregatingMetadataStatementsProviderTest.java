@@ -58,4 +58,19 @@ class AggregatingMetadataStatementsProviderTest {
         AggregatingMetadataStatementsProvider target = new AggregatingMetadataStatementsProvider(Arrays.asList(providerA, providerB));
         assertThat(target.provide()).containsOnlyKeys(new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812"));
     }
+
+    @Test
+    void provide_returns_same_instance_while_providers_are_unchanged_test() {
+        MetadataStatementsProvider providerA = mock(MetadataStatementsProvider.class);
+        Map<AAGUID, Set<MetadataStatement>> mapA = new HashMap<>();
+        mapA.put(new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812"), new HashSet<>());
+        when(providerA.provide()).thenReturn(mapA);
+
+        AggregatingMetadataStatementsProvider target = new AggregatingMetadataStatementsProvider(Collections.singletonList(providerA));
+        Map<AAGUID, Set<MetadataStatement>> first = target.provide();
+        assertThat(target.provide()).isSameAs(first);
+
+        when(providerA.provide()).thenReturn(new HashMap<>(mapA));
+        assertThat(target.provide()).isNotSameAs(first);
+    }
 }
\ No newline at end of file
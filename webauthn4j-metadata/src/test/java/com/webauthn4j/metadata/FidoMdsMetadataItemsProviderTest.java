@@ -16,12 +16,60 @@
 
 package com.webauthn4j.metadata;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.jws.JWAIdentifier;
+import com.webauthn4j.data.jws.JWS;
+import com.webauthn4j.data.jws.JWSFactory;
+import com.webauthn4j.data.jws.JWSHeader;
+import com.webauthn4j.metadata.converter.jackson.WebAuthnMetadataJSONModule;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayload;
+import com.webauthn4j.metadata.data.toc.MetadataTOCPayloadEntry;
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.cert.CertPath;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
 
 class FidoMdsMetadataItemsProviderTest {
 
+    private static final String AAGUID_VALUE = "81303c1a-25cf-4f43-be04-0460df5b6c68";
+    private static final String METADATA_STATEMENT_URL = "https://example.com/metadata/81303c1a-25cf-4f43-be04-0460df5b6c68";
+
+    private final ObjectConverter objectConverter;
+
+    FidoMdsMetadataItemsProviderTest() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        jsonMapper.registerModule(new WebAuthnMetadataJSONModule());
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        objectConverter = new ObjectConverter(jsonMapper, cborMapper);
+    }
 
     @Test
     void appendToken() {
@@ -29,4 +77,258 @@ class FidoMdsMetadataItemsProviderTest {
         assertThat(FidoMdsMetadataItemsProvider.appendToken("https://mds2.fidoalliance.org/metadata/4e4e%234005/", "dummyToken")).isEqualTo("https://mds2.fidoalliance.org/metadata/4e4e%234005/?token=dummyToken");
     }
 
-}
\ No newline at end of file
+    @Test
+    void provide_serves_stale_items_while_refreshing_in_background_test() throws InterruptedException {
+        FidoMdsMetadataItemsProvider target = spy(new FidoMdsMetadataItemsProvider(new ObjectConverter(), mock(HttpClient.class)));
+        Map<AAGUID, Set<MetadataItem>> staleMap = new HashMap<>();
+        Map<AAGUID, Set<MetadataItem>> freshMap = new HashMap<>();
+        setStale(target, staleMap);
+        CountDownLatch refreshed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            setFresh(target, freshMap);
+            refreshed.countDown();
+            return null;
+        }).when(target).refresh();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            target.setBackgroundRefreshExecutor(executor);
+
+            assertThat(target.provide()).isSameAs(staleMap);
+            target.provide();
+            assertThat(refreshed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(target.provide()).isSameAs(freshMap);
+            verify(target, times(1)).refresh();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void background_refresh_retries_on_failure_test() throws InterruptedException {
+        FidoMdsMetadataItemsProvider target = spy(new FidoMdsMetadataItemsProvider(new ObjectConverter(), mock(HttpClient.class)));
+        Map<AAGUID, Set<MetadataItem>> freshMap = new HashMap<>();
+        setStale(target, new HashMap<>());
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch refreshed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("dummy failure");
+            }
+            setFresh(target, freshMap);
+            refreshed.countDown();
+            return null;
+        }).when(target).refresh();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            target.setBackgroundRefreshExecutor(executor);
+            target.setInitialRetryBackoff(Duration.ofMillis(10));
+            target.setMaxRetryBackoff(Duration.ofMillis(20));
+
+            target.provide();
+            assertThat(refreshed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(attempts.get()).isEqualTo(3);
+            assertThat(target.provide()).isSameAs(freshMap);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void provide_coalesces_concurrent_blocking_refresh_test() throws Exception {
+        FidoMdsMetadataItemsProvider target = spy(new FidoMdsMetadataItemsProvider(new ObjectConverter(), mock(HttpClient.class)));
+        Map<AAGUID, Set<MetadataItem>> freshMap = new HashMap<>();
+        doAnswer(invocation -> {
+            Thread.sleep(100);
+            setFresh(target, freshMap);
+            return null;
+        }).when(target).refresh();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<AAGUID, Set<MetadataItem>>>> results = executor.invokeAll(Collections.nCopies(4, target::provide));
+            for (Future<Map<AAGUID, Set<MetadataItem>>> result : results) {
+                assertThat(result.get()).isSameAs(freshMap);
+            }
+            verify(target, times(1)).refresh();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getRetryBackoff_test() {
+        FidoMdsMetadataItemsProvider target = new FidoMdsMetadataItemsProvider(new ObjectConverter(), mock(HttpClient.class));
+        target.setInitialRetryBackoff(Duration.ofMinutes(1));
+        target.setMaxRetryBackoff(Duration.ofHours(1));
+
+        assertThat(target.getRetryBackoff(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(target.getRetryBackoff(2)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(target.getRetryBackoff(3)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(target.getRetryBackoff(10)).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void provide_restores_metadata_items_from_snapshot_test(@TempDir Path tempDir) throws Exception {
+        HttpClient httpClient = mock(HttpClient.class);
+        FidoMdsMetadataItemsProvider target = new FidoMdsMetadataItemsProvider(objectConverter, httpClient, TestAttestationUtil.load3tierTestRootCACertificate());
+        FileFidoMdsSnapshotStore snapshotStore = new FileFidoMdsSnapshotStore(tempDir.resolve("mds.snapshot"));
+        snapshotStore.save(createSnapshot(LocalDate.now().plusDays(30)));
+        target.setSnapshotStore(snapshotStore);
+
+        Map<AAGUID, Set<MetadataItem>> metadataItemMap = target.provide();
+
+        assertThat(metadataItemMap).containsOnlyKeys(new AAGUID(AAGUID_VALUE));
+        assertThat(target.needsRefresh()).isFalse();
+        verify(httpClient, never()).fetch(any());
+    }
+
+    @Test
+    void provide_falls_back_to_fetch_when_snapshot_is_tampered_test(@TempDir Path tempDir) throws Exception {
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetch(any())).thenThrow(new MDSException("offline"));
+        FidoMdsMetadataItemsProvider target = new FidoMdsMetadataItemsProvider(objectConverter, httpClient, TestAttestationUtil.load3tierTestRootCACertificate());
+        FidoMdsSnapshot snapshot = createSnapshot(LocalDate.now().plusDays(30));
+        FileFidoMdsSnapshotStore snapshotStore = new FileFidoMdsSnapshotStore(tempDir.resolve("mds.snapshot"));
+        snapshotStore.save(new FidoMdsSnapshot(snapshot.getToc() + "AA", snapshot.getMetadataStatements(), snapshot.getSavedAt()));
+        target.setSnapshotStore(snapshotStore);
+
+        assertThrows(MDSException.class, target::provide);
+        verify(httpClient).fetch(any());
+    }
+
+    @Test
+    void refresh_saves_snapshot_test(@TempDir Path tempDir) throws Exception {
+        FidoMdsSnapshot snapshot = createSnapshot(LocalDate.now().plusDays(30));
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetch("https://mds2.fidoalliance.org/")).thenReturn(snapshot.getToc());
+        when(httpClient.fetch(METADATA_STATEMENT_URL)).thenReturn(snapshot.getMetadataStatements().get(METADATA_STATEMENT_URL));
+        FidoMdsMetadataItemsProvider target = spy(new FidoMdsMetadataItemsProvider(objectConverter, httpClient, TestAttestationUtil.load3tierTestRootCACertificate()));
+        // skip revocation check as the test certificates don't have reachable CRLs
+        doAnswer(invocation -> target.verifyMetadataTOC(invocation.getArgument(0), false, false)).when(target).verifyMetadataTOC(anyString(), eq(false), eq(true));
+        FileFidoMdsSnapshotStore snapshotStore = new FileFidoMdsSnapshotStore(tempDir.resolve("mds.snapshot"));
+        target.setSnapshotStore(snapshotStore);
+
+        target.refresh();
+
+        FidoMdsSnapshot saved = snapshotStore.load();
+        assertThat(saved.getToc()).isEqualTo(snapshot.getToc());
+        assertThat(saved.getMetadataStatements()).isEqualTo(snapshot.getMetadataStatements());
+    }
+
+    @Test
+    void refresh_reuses_unchanged_metadata_statements_test() throws Exception {
+        String metadataStatement = loadMetadataStatement();
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetch(METADATA_STATEMENT_URL)).thenReturn(metadataStatement);
+        FidoMdsMetadataItemsProvider target = spy(new FidoMdsMetadataItemsProvider(objectConverter, httpClient, TestAttestationUtil.load3tierTestRootCACertificate()));
+        doAnswer(invocation -> target.verifyMetadataTOC(invocation.getArgument(0), false, false)).when(target).verifyMetadataTOC(anyString(), eq(false), eq(true));
+        AAGUID aaguid = new AAGUID(AAGUID_VALUE);
+
+        when(httpClient.fetch("https://mds2.fidoalliance.org/")).thenReturn(createToc(1, createEntry(metadataStatement, LocalDate.of(2020, 1, 1))));
+        target.refresh();
+        assertThat(target.getLastDelta().getAdded()).containsExactly(aaguid);
+        MetadataStatement fetched = target.provide().get(aaguid).iterator().next().getMetadataStatement();
+
+        when(httpClient.fetch("https://mds2.fidoalliance.org/")).thenReturn(createToc(2, createEntry(metadataStatement, LocalDate.of(2020, 1, 1))));
+        target.refresh();
+        assertThat(target.getLastDelta().isEmpty()).isTrue();
+
+        when(httpClient.fetch("https://mds2.fidoalliance.org/")).thenReturn(createToc(3, createEntry(metadataStatement, LocalDate.of(2020, 2, 1))));
+        target.refresh();
+        assertThat(target.getLastDelta().getChanged()).containsExactly(aaguid);
+        assertThat(target.provide().get(aaguid).iterator().next().getMetadataStatement()).isSameAs(fetched);
+
+        when(httpClient.fetch("https://mds2.fidoalliance.org/")).thenReturn(createToc(4));
+        target.refresh();
+        assertThat(target.getLastDelta().getRemoved()).containsExactly(aaguid);
+
+        verify(httpClient, times(1)).fetch(METADATA_STATEMENT_URL);
+    }
+
+    @Test
+    void refresh_with_fetch_executor_test() throws Exception {
+        String metadataStatement = loadMetadataStatement();
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetch("https://mds2.fidoalliance.org/")).thenReturn(createToc(1, createEntry(metadataStatement, LocalDate.now())));
+        when(httpClient.fetch(METADATA_STATEMENT_URL)).thenReturn(metadataStatement);
+        FidoMdsMetadataItemsProvider target = spy(new FidoMdsMetadataItemsProvider(objectConverter, httpClient, TestAttestationUtil.load3tierTestRootCACertificate()));
+        doAnswer(invocation -> target.verifyMetadataTOC(invocation.getArgument(0), false, false)).when(target).verifyMetadataTOC(anyString(), eq(false), eq(true));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            target.setFetchExecutor(executor);
+
+            target.refresh();
+
+            assertThat(target.provide()).containsOnlyKeys(new AAGUID(AAGUID_VALUE));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void refresh_with_default_fetch_executor_test() throws Exception {
+        String metadataStatement = loadMetadataStatement();
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.fetch("https://mds2.fidoalliance.org/")).thenReturn(createToc(1, createEntry(metadataStatement, LocalDate.now())));
+        AtomicReference<Thread> fetchThread = new AtomicReference<>();
+        when(httpClient.fetch(METADATA_STATEMENT_URL)).thenAnswer(invocation -> {
+            fetchThread.set(Thread.currentThread());
+            return metadataStatement;
+        });
+        FidoMdsMetadataItemsProvider target = spy(new FidoMdsMetadataItemsProvider(objectConverter, httpClient, TestAttestationUtil.load3tierTestRootCACertificate()));
+        doAnswer(invocation -> target.verifyMetadataTOC(invocation.getArgument(0), false, false)).when(target).verifyMetadataTOC(anyString(), eq(false), eq(true));
+        try {
+            target.refresh();
+
+            assertThat(target.provide()).containsOnlyKeys(new AAGUID(AAGUID_VALUE));
+            assertThat(fetchThread.get().getName()).startsWith("webauthn4j-mds-fetch-");
+            assertThat(fetchThread.get().isDaemon()).isTrue();
+        } finally {
+            target.close();
+        }
+    }
+
+    private FidoMdsSnapshot createSnapshot(LocalDate nextUpdate) throws Exception {
+        String metadataStatement = loadMetadataStatement();
+        String toc = createToc(1, nextUpdate, createEntry(metadataStatement, LocalDate.now()));
+        return new FidoMdsSnapshot(toc, Collections.singletonMap(METADATA_STATEMENT_URL, metadataStatement), Instant.now());
+    }
+
+    private String loadMetadataStatement() throws Exception {
+        byte[] metadataStatementJson = Files.readAllBytes(Paths.get(getClass().getResource("/com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toURI()));
+        return Base64UrlUtil.encodeToString(metadataStatementJson);
+    }
+
+    private MetadataTOCPayloadEntry createEntry(String metadataStatement, LocalDate timeOfLastStatusChange) {
+        String hash = Base64UrlUtil.encodeToString(MessageDigestUtil.createSHA256().digest(metadataStatement.getBytes(StandardCharsets.UTF_8)));
+        return new MetadataTOCPayloadEntry(null, AAGUID_VALUE, null, hash, URI.create(METADATA_STATEMENT_URL),
+                null, Collections.emptyList(), timeOfLastStatusChange, null, null);
+    }
+
+    private String createToc(int no, MetadataTOCPayloadEntry... entries) {
+        return createToc(no, LocalDate.now().plusDays(30), entries);
+    }
+
+    private String createToc(int no, LocalDate nextUpdate, MetadataTOCPayloadEntry... entries) {
+        MetadataTOCPayload payload = new MetadataTOCPayload("legalHeader", no, nextUpdate, Arrays.asList(entries));
+        CertPath certPath = CertificateUtil.generateCertPath(Arrays.asList(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate(), TestAttestationUtil.load3tierTestIntermediateCACertificate()));
+        JWS<MetadataTOCPayload> jws = new JWSFactory(objectConverter).create(new JWSHeader(JWAIdentifier.ES256, certPath), payload, TestAttestationUtil.load3tierTestAuthenticatorAttestationPrivateKey());
+        return jws.toString();
+    }
+
+    private void setStale(FidoMdsMetadataItemsProvider target, Map<AAGUID, Set<MetadataItem>> metadataItemMap) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        target.nextUpdate = now.minusDays(1);
+        target.lastRefresh = now.minusDays(2);
+        target.cachedMetadataItemMap = metadataItemMap;
+    }
+
+    private void setFresh(FidoMdsMetadataItemsProvider target, Map<AAGUID, Set<MetadataItem>> metadataItemMap) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        target.nextUpdate = now.plusDays(1);
+        target.lastRefresh = now;
+        target.cachedMetadataItemMap = metadataItemMap;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.exception.MDSException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileFidoMdsSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void save_and_load_test() {
+        FileFidoMdsSnapshotStore target = new FileFidoMdsSnapshotStore(tempDir.resolve("mds.snapshot"));
+        Map<String, String> metadataStatements = new HashMap<>();
+        metadataStatements.put("https://example.com/metadata/1", "c3RhdGVtZW50MQ");
+        metadataStatements.put("https://example.com/metadata/2", "c3RhdGVtZW50Mg");
+        FidoMdsSnapshot snapshot = new FidoMdsSnapshot("header.payload.signature", metadataStatements, Instant.ofEpochSecond(1600000000, 123));
+
+        target.save(snapshot);
+
+        assertThat(target.load()).isEqualTo(snapshot);
+    }
+
+    @Test
+    void save_overwrites_existing_snapshot_test() {
+        FileFidoMdsSnapshotStore target = new FileFidoMdsSnapshotStore(tempDir.resolve("mds.snapshot"));
+        FidoMdsSnapshot first = new FidoMdsSnapshot("first", new HashMap<>(), Instant.ofEpochSecond(1));
+        FidoMdsSnapshot second = new FidoMdsSnapshot("second", new HashMap<>(), Instant.ofEpochSecond(2));
+
+        target.save(first);
+        target.save(second);
+
+        assertThat(target.load()).isEqualTo(second);
+    }
+
+    @Test
+    void load_without_snapshot_test() {
+        FileFidoMdsSnapshotStore target = new FileFidoMdsSnapshotStore(tempDir.resolve("mds.snapshot"));
+        assertThat(target.load()).isNull();
+    }
+
+    @Test
+    void load_corrupted_snapshot_test() throws IOException {
+        Path path = tempDir.resolve("mds.snapshot");
+        FileFidoMdsSnapshotStore target = new FileFidoMdsSnapshotStore(path);
+        target.save(new FidoMdsSnapshot("header.payload.signature", new HashMap<>(), Instant.ofEpochSecond(1)));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 4));
+
+        assertThrows(MDSException.class, target::load);
+    }
+
+    @Test
+    void load_non_snapshot_file_test() throws IOException {
+        Path path = tempDir.resolve("mds.snapshot");
+        Files.write(path, new byte[]{0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08});
+        FileFidoMdsSnapshotStore target = new FileFidoMdsSnapshotStore(path);
+
+        assertThrows(MDSException.class, target::load);
+    }
+}
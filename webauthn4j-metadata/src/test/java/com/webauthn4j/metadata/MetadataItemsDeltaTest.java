@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.metadata.data.MetadataItemImpl;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataItemsDeltaTest {
+
+    private final AAGUID unchanged = new AAGUID("00000000-0000-0000-0000-000000000001");
+    private final AAGUID changed = new AAGUID("00000000-0000-0000-0000-000000000002");
+    private final AAGUID removed = new AAGUID("00000000-0000-0000-0000-000000000003");
+    private final AAGUID added = new AAGUID("00000000-0000-0000-0000-000000000004");
+
+    @Test
+    void compute_test() {
+        Map<AAGUID, Set<MetadataItem>> previous = new HashMap<>();
+        previous.put(unchanged, createItems(unchanged, LocalDate.of(2020, 1, 1)));
+        previous.put(changed, createItems(changed, LocalDate.of(2020, 1, 1)));
+        previous.put(removed, createItems(removed, LocalDate.of(2020, 1, 1)));
+        Map<AAGUID, Set<MetadataItem>> current = new HashMap<>();
+        current.put(unchanged, createItems(unchanged, LocalDate.of(2020, 1, 1)));
+        current.put(changed, createItems(changed, LocalDate.of(2020, 2, 1)));
+        current.put(added, createItems(added, LocalDate.of(2020, 1, 1)));
+
+        MetadataItemsDelta delta = MetadataItemsDelta.compute(previous, current);
+
+        assertThat(delta.getAdded()).containsExactly(added);
+        assertThat(delta.getChanged()).containsExactly(changed);
+        assertThat(delta.getRemoved()).containsExactly(removed);
+        assertThat(delta.isEmpty()).isFalse();
+    }
+
+    @Test
+    void compute_without_previous_test() {
+        Map<AAGUID, Set<MetadataItem>> current = new HashMap<>();
+        current.put(added, createItems(added, LocalDate.of(2020, 1, 1)));
+
+        MetadataItemsDelta delta = MetadataItemsDelta.compute(null, current);
+
+        assertThat(delta).isEqualTo(new MetadataItemsDelta(Collections.singleton(added), Collections.emptySet(), Collections.emptySet()));
+    }
+
+    @Test
+    void compute_with_same_items_test() {
+        Map<AAGUID, Set<MetadataItem>> previous = Collections.singletonMap(unchanged, createItems(unchanged, LocalDate.of(2020, 1, 1)));
+        Map<AAGUID, Set<MetadataItem>> current = Collections.singletonMap(unchanged, createItems(unchanged, LocalDate.of(2020, 1, 1)));
+
+        assertThat(MetadataItemsDelta.compute(previous, current).isEmpty()).isTrue();
+    }
+
+    private Set<MetadataItem> createItems(AAGUID aaguid, LocalDate timeOfLastStatusChange) {
+        return Collections.singleton(new MetadataItemImpl(null, aaguid, null, "hash", Collections.emptyList(), timeOfLastStatusChange, null));
+    }
+}
@@ -42,4 +42,18 @@ class MetadataStatementsTrustAnchorsProviderTest {
         assertThat(result.get(aaguid).stream().map(TrustAnchor::getTrustedCert)).contains(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate());
     }
 
+    @Test
+    void provide_returns_same_instance_while_source_is_unchanged_test() {
+        MetadataStatementsProvider metadataStatementsProvider = mock(MetadataStatementsProvider.class);
+        AAGUID aaguid = new AAGUID("49e25c43-a6d1-49f0-bcfa-23e23a7c0e52");
+        when(metadataStatementsProvider.provide()).thenReturn(Collections.singletonMap(aaguid, Collections.singleton(TestDataUtil.createMetadataStatement())));
+        MetadataStatementsTrustAnchorsProvider target = new MetadataStatementsTrustAnchorsProvider(metadataStatementsProvider);
+
+        Map<AAGUID, Set<TrustAnchor>> first = target.provide();
+        assertThat(target.provide()).isSameAs(first);
+
+        when(metadataStatementsProvider.provide()).thenReturn(Collections.singletonMap(aaguid, Collections.singleton(TestDataUtil.createMetadataStatement())));
+        assertThat(target.provide()).isNotSameAs(first);
+    }
+
 }
\ No newline at end of file
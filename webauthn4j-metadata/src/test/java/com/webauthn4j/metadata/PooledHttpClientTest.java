@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.webauthn4j.metadata.exception.MDSException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PooledHttpClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final List<String> ifNoneMatchHeaders = new CopyOnWriteArrayList<>();
+    private final PooledHttpClient target = new PooledHttpClient();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/plain", exchange -> respond(exchange, 200, createBody(), false));
+        server.createContext("/gzip", exchange -> respond(exchange, 200, createBody(), true));
+        HttpHandler etagHandler = exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatchHeaders.add(String.valueOf(ifNoneMatch));
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            if ("\"v1\"".equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+            }
+            else {
+                respond(exchange, 200, "etag body", false);
+            }
+        };
+        server.createContext("/etag", etagHandler);
+        server.createContext("/other-etag", etagHandler);
+        server.createContext("/not-found", exchange -> respond(exchange, 404, "not found", false));
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "slow", false);
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void fetch_test() {
+        assertThat(target.fetch(baseUrl + "/plain")).isEqualTo(createBody());
+    }
+
+    @Test
+    void fetch_gzip_test() {
+        assertThat(target.fetch(baseUrl + "/gzip")).isEqualTo(createBody());
+    }
+
+    @Test
+    void fetch_with_etag_test() {
+        assertThat(target.fetch(baseUrl + "/etag")).isEqualTo("etag body");
+        assertThat(target.fetch(baseUrl + "/etag")).isEqualTo("etag body");
+        assertThat(ifNoneMatchHeaders).containsExactly("null", "\"v1\"");
+    }
+
+    @Test
+    void fetch_with_evicted_cached_response_test() {
+        PooledHttpClient pooledHttpClient = new PooledHttpClient(1);
+        pooledHttpClient.fetch(baseUrl + "/etag");
+        pooledHttpClient.fetch(baseUrl + "/other-etag");
+        assertThat(pooledHttpClient.fetch(baseUrl + "/etag")).isEqualTo("etag body");
+        assertThat(ifNoneMatchHeaders).containsExactly("null", "null", "null");
+    }
+
+    @Test
+    void fetch_with_error_status_test() {
+        assertThrows(MDSException.class, () -> target.fetch(baseUrl + "/not-found"));
+    }
+
+    @Test
+    void fetch_with_read_timeout_test() {
+        target.setReadTimeout(Duration.ofMillis(100));
+        assertThrows(MDSException.class, () -> target.fetch(baseUrl + "/slow"));
+    }
+
+    private static String createBody() {
+        return String.join("", Collections.nCopies(10000, "0123456789"));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body, boolean gzip) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (gzip && "gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+                gzipOutputStream.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -23,9 +23,12 @@ import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.RSAUtil;
 import com.webauthn4j.util.exception.UnexpectedCheckedException;
 import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.CRLReason;
 import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.bouncycastle.cert.X509CertificateHolder;
 import org.bouncycastle.cert.X509v1CertificateBuilder;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CRLConverter;
 import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
 import org.bouncycastle.operator.ContentSigner;
 import org.bouncycastle.operator.DefaultSignatureAlgorithmIdentifierFinder;
@@ -44,12 +47,15 @@ import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.cert.CRLException;
 import java.security.cert.CertificateException;
 import java.security.cert.TrustAnchor;
+import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.sql.Date;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -227,6 +233,47 @@ public class TestAttestationUtil {
         return loadCertificateFromResourcePath("classpath:attestation/2tier/certs/2tier-test-authenticator.crt");
     }
 
+    // ~ CRLs
+    // ========================================================================================================
+
+    /**
+     * Creates a CRL issued by the 3tier test intermediate CA
+     *
+     * @param thisUpdate           thisUpdate of the CRL
+     * @param revokedSerialNumbers serial numbers of revoked certificates
+     * @return created X509CRL
+     */
+    public static X509CRL create3tierTestIntermediateCACRL(Instant thisUpdate, BigInteger... revokedSerialNumbers) {
+        return create3tierTestIntermediateCACRL(thisUpdate, load3tierTestIntermediateCAPrivateKey(), revokedSerialNumbers);
+    }
+
+    /**
+     * Creates a CRL issued under the name of the 3tier test intermediate CA, and signed by the specified key
+     *
+     * @param thisUpdate           thisUpdate of the CRL
+     * @param signingKey           private key to sign the CRL
+     * @param revokedSerialNumbers serial numbers of revoked certificates
+     * @return created X509CRL
+     */
+    public static X509CRL create3tierTestIntermediateCACRL(Instant thisUpdate, PrivateKey signingKey, BigInteger... revokedSerialNumbers) {
+        X509Certificate issuer = load3tierTestIntermediateCACertificate();
+        X509v2CRLBuilder crlBuilder = new X509v2CRLBuilder(X500Name.getInstance(issuer.getSubjectX500Principal().getEncoded()), Date.from(thisUpdate));
+        crlBuilder.setNextUpdate(Date.from(thisUpdate.plus(Duration.ofDays(30))));
+        for (BigInteger serialNumber : revokedSerialNumbers) {
+            crlBuilder.addCRLEntry(serialNumber, Date.from(thisUpdate), CRLReason.keyCompromise);
+        }
+        try {
+            ContentSigner contentSigner = new JcaContentSignerBuilder("SHA256withECDSA").build(signingKey);
+            return new JcaX509CRLConverter().getCRL(crlBuilder.build(contentSigner));
+        } catch (OperatorCreationException | CRLException e) {
+            throw new UnexpectedCheckedException(e);
+        }
+    }
+
+    public static X509CRL create3tierTestIntermediateCACRL(BigInteger... revokedSerialNumbers) {
+        return create3tierTestIntermediateCACRL(Instant.now(), revokedSerialNumbers);
+    }
+
     // ~ Public Keys
     // ========================================================================================================
     public static PublicKey load3tierTestRootCAPublicKey() {
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded cache backed by {@link ConcurrentHashMap}, safe for concurrent use without a global lock on the read path.
+ * <p>
+ * Each entry records the time it is last read. When the cache grows beyond the maximum size, the thread that put the
+ * entry evicts expired entries and then the least recently read entries until 90% of the maximum size is left.
+ * Only one thread evicts at a time and the others do not wait for it, so the size may exceed the maximum size
+ * briefly under concurrent puts and the eviction order is approximately LRU.
+ * Entries optionally expire after a time to live. The entries are not serialized.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class BoundedConcurrentCache<K, V> implements Serializable {
+
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private transient ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private transient ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a new instance
+     *
+     * @param maximumSize maximum number of entries
+     * @param timeToLive  time to live of an entry, or null if entries do not expire
+     */
+    public BoundedConcurrentCache(int maximumSize, @Nullable Duration timeToLive) {
+        AssertUtil.isTrue(maximumSize > 0, "maximumSize must be positive");
+        AssertUtil.isTrue(timeToLive == null || (!timeToLive.isNegative() && !timeToLive.isZero()), "timeToLive must be positive");
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive == null ? 0 : timeToLive.toNanos();
+    }
+
+    public BoundedConcurrentCache(int maximumSize) {
+        this(maximumSize, null);
+    }
+
+    /**
+     * Returns the cached value
+     *
+     * @param key key
+     * @return the value, or null if it is not cached or expired
+     */
+    public @Nullable V get(@NonNull K key) {
+        AssertUtil.notNull(key, "key must not be null");
+        Entry<V> entry = entries.get(key);
+        long now = System.nanoTime();
+        if (entry != null && isExpired(entry, now)) {
+            if (entries.remove(key, entry)) {
+                evictionCount.increment();
+            }
+            entry = null;
+        }
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        entry.lastAccess = now;
+        hitCount.increment();
+        return entry.value;
+    }
+
+    /**
+     * Returns the cached value, or computes and caches it if it is not cached.
+     * The value is computed outside of any lock. If another thread caches a value for the same key meanwhile,
+     * the value cached by that thread is returned.
+     *
+     * @param key             key
+     * @param mappingFunction function to compute the value
+     * @return the cached or computed value
+     */
+    public @NonNull V computeIfAbsent(@NonNull K key, @NonNull Function<? super K, ? extends V> mappingFunction) {
+        AssertUtil.notNull(mappingFunction, "mappingFunction must not be null");
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        V computed = mappingFunction.apply(key);
+        AssertUtil.notNull(computed, "computed value must not be null");
+        Entry<V> entry = createEntry(computed);
+        Entry<V> existing = entries.putIfAbsent(key, entry);
+        if (existing != null) {
+            if (!isExpired(existing, entry.lastAccess)) {
+                // another thread cached the value meanwhile; keep the instance already shared
+                return existing.value;
+            }
+            entries.replace(key, existing, entry);
+        }
+        evictIfNecessary();
+        return computed;
+    }
+
+    public void put(@NonNull K key, @NonNull V value) {
+        AssertUtil.notNull(key, "key must not be null");
+        AssertUtil.notNull(value, "value must not be null");
+        entries.put(key, createEntry(value));
+        evictIfNecessary();
+    }
+
+    public void remove(@NonNull K key) {
+        AssertUtil.notNull(key, "key must not be null");
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private @NonNull Entry<V> createEntry(@NonNull V value) {
+        long now = System.nanoTime();
+        return new Entry<>(value, now, now + timeToLiveNanos);
+    }
+
+    private boolean isExpired(@NonNull Entry<V> entry, long now) {
+        return timeToLiveNanos != 0 && entry.expiresAt - now <= 0;
+    }
+
+    private void evictIfNecessary() {
+        // entries put by threads which failed to acquire the lock are evicted by the lock holder on its next round
+        while (entries.size() > maximumSize && evictionLock.tryLock()) {
+            try {
+                evictLeastRecentlyRead();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evictLeastRecentlyRead() {
+        long now = System.nanoTime();
+        List<EvictionCandidate<K, V>> candidates = new ArrayList<>(entries.size());
+        for (Map.Entry<K, Entry<V>> mapEntry : entries.entrySet()) {
+            if (isExpired(mapEntry.getValue(), now)) {
+                evict(mapEntry.getKey(), mapEntry.getValue());
+            }
+            else {
+                // lastAccess is copied, as it may be updated by readers while sorting
+                candidates.add(new EvictionCandidate<>(mapEntry.getKey(), mapEntry.getValue()));
+            }
+        }
+        int targetSize = maximumSize - maximumSize / 10;
+        int excess = entries.size() - targetSize;
+        if (excess <= 0) {
+            return;
+        }
+        candidates.sort((a, b) -> Long.compare(a.lastAccess, b.lastAccess));
+        for (int i = 0; i < excess && i < candidates.size(); i++) {
+            EvictionCandidate<K, V> candidate = candidates.get(i);
+            evict(candidate.key, candidate.entry);
+        }
+    }
+
+    private void evict(@NonNull K key, @NonNull Entry<V> entry) {
+        if (entries.remove(key, entry)) {
+            evictionCount.increment();
+        }
+    }
+
+    private void readObject(ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException {
+        objectInputStream.defaultReadObject();
+        entries = new ConcurrentHashMap<>();
+        evictionLock = new ReentrantLock();
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        Entry(V value, long lastAccess, long expiresAt) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class EvictionCandidate<K, V> {
+
+        private final K key;
+        private final Entry<V> entry;
+        private final long lastAccess;
+
+        EvictionCandidate(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.security.MessageDigest;
+import java.security.Signature;
+
+/**
+ * Provides JCA {@link MessageDigest} and {@link Signature} instances to WebAuthn4J validators.
+ * <p>
+ * Returned instances may be shared with later calls on the same thread, so callers must use them only within the
+ * calling method, and must not hold them while obtaining another instance of the same algorithm.
+ * A returned {@link MessageDigest} is reset, and a returned {@link Signature} must be initialized by
+ * {@link Signature#initVerify} or {@link Signature#initSign} before use.
+ */
+public interface CryptoProvider {
+
+    /**
+     * Returns {@link MessageDigest} for the specified algorithm
+     *
+     * @param algorithm JCA algorithm name. "S256", "S384" and "S512" are also accepted.
+     * @return reset {@link MessageDigest}
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    @NonNull MessageDigest getMessageDigest(@NonNull String algorithm);
+
+    /**
+     * Returns {@link Signature} for the specified algorithm
+     *
+     * @param algorithm JCA algorithm name
+     * @return {@link Signature} to be initialized by the caller
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    @NonNull Signature getSignature(@NonNull String algorithm);
+
+}
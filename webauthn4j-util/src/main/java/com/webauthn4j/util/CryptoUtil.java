@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.security.MessageDigest;
+import java.security.Signature;
+
+/**
+ * A Utility class to obtain {@link MessageDigest} and {@link Signature} through the configured {@link CryptoProvider}.
+ * {@link ThreadLocalCryptoProvider} is used unless another {@link CryptoProvider} is configured.
+ */
+public class CryptoUtil {
+
+    private static volatile CryptoProvider cryptoProvider = new ThreadLocalCryptoProvider();
+
+    private CryptoUtil() {
+    }
+
+    public static @NonNull CryptoProvider getCryptoProvider() {
+        return cryptoProvider;
+    }
+
+    public static void setCryptoProvider(@NonNull CryptoProvider cryptoProvider) {
+        AssertUtil.notNull(cryptoProvider, "cryptoProvider must not be null");
+        CryptoUtil.cryptoProvider = cryptoProvider;
+    }
+
+    public static @NonNull MessageDigest getMessageDigest(@NonNull String algorithm) {
+        return cryptoProvider.getMessageDigest(algorithm);
+    }
+
+    public static @NonNull MessageDigest getSHA256() {
+        return getMessageDigest("SHA-256");
+    }
+
+    public static @NonNull Signature getSignature(@NonNull String algorithm) {
+        return cryptoProvider.getSignature(algorithm);
+    }
+
+}
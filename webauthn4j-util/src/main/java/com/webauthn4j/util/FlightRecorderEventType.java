@@ -0,0 +1,225 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDK Flight Recorder event type defined at runtime through the jdk.jfr.EventFactory API.
+ * <p>
+ * As jdk.jfr is accessed reflectively, this class compiles against Java 8 and works on runtimes without JFR, where
+ * {@link #begin()} always returns null and nothing is recorded. Event values are set only when the event type is
+ * enabled in a running recording, so a disabled event type costs a single check per event.
+ */
+public final class FlightRecorderEventType {
+
+    private static final String CATEGORY = "WebAuthn4J";
+
+    private static final @Nullable JfrApi JFR_API = JfrApi.load();
+
+    private final @Nullable Object eventFactory;
+    private final @Nullable Object eventType;
+
+    private FlightRecorderEventType(@Nullable Object eventFactory, @Nullable Object eventType) {
+        this.eventFactory = eventFactory;
+        this.eventType = eventType;
+    }
+
+    /**
+     * Creates an event type. Each event records its start time and duration in addition to the specified fields.
+     *
+     * @param name   event name, such as com.webauthn4j.Registration
+     * @param label  human readable event name
+     * @param fields event fields, whose values are passed to {@link #commit(Object, Object...)} in the same order
+     * @return event type
+     */
+    public static @NonNull FlightRecorderEventType create(@NonNull String name, @NonNull String label, @NonNull Field... fields) {
+        AssertUtil.notNull(name, "name must not be null");
+        AssertUtil.notNull(label, "label must not be null");
+        AssertUtil.notNull(fields, "fields must not be null");
+        JfrApi jfrApi = JFR_API;
+        if (jfrApi != null) {
+            try {
+                Object eventFactory = jfrApi.createEventFactory(name, label, fields);
+                return new FlightRecorderEventType(eventFactory, jfrApi.getEventType.invoke(eventFactory));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // JFR is not usable in this runtime, fall through to the disabled event type
+            }
+        }
+        return new FlightRecorderEventType(null, null);
+    }
+
+    /**
+     * Returns whether events of this type are recorded
+     *
+     * @return true if JFR is available and the event type is enabled in a running recording
+     */
+    public boolean isEnabled() {
+        JfrApi jfrApi = JFR_API;
+        if (jfrApi == null || eventType == null) {
+            return false;
+        }
+        try {
+            return (Boolean) jfrApi.isEnabled.invoke(eventType);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Begins an event
+     *
+     * @return the begun event to pass to {@link #commit(Object, Object...)}, or null if the event type is not enabled
+     */
+    public @Nullable Object begin() {
+        JfrApi jfrApi = JFR_API;
+        if (jfrApi == null || !isEnabled()) {
+            return null;
+        }
+        try {
+            Object event = jfrApi.newEvent.invoke(eventFactory);
+            jfrApi.begin.invoke(event);
+            return event;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ends and commits an event begun by {@link #begin()}. Failures are ignored, as events are diagnostics only.
+     *
+     * @param event  the event returned by {@link #begin()}. Nothing is done if null.
+     * @param values field values in the order of the fields the event type is created with
+     */
+    public void commit(@Nullable Object event, @Nullable Object... values) {
+        JfrApi jfrApi = JFR_API;
+        if (jfrApi == null || event == null) {
+            return;
+        }
+        try {
+            if (values != null) {
+                for (int i = 0; i < values.length; i++) {
+                    jfrApi.set.invoke(event, i, values[i]);
+                }
+            }
+            jfrApi.commit.invoke(event);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // nop
+        }
+    }
+
+    /**
+     * Event field definition
+     */
+    public static final class Field {
+
+        private final String name;
+        private final Class<?> type;
+        private final String label;
+
+        private Field(@NonNull String name, @NonNull Class<?> type, @NonNull String label) {
+            this.name = name;
+            this.type = type;
+            this.label = label;
+        }
+
+        /**
+         * Creates a field definition
+         *
+         * @param name  field name
+         * @param type  field type, which must be a primitive type or {@link String}
+         * @param label human readable field name
+         * @return field definition
+         */
+        public static @NonNull Field of(@NonNull String name, @NonNull Class<?> type, @NonNull String label) {
+            AssertUtil.notNull(name, "name must not be null");
+            AssertUtil.notNull(type, "type must not be null");
+            AssertUtil.notNull(label, "label must not be null");
+            return new Field(name, type, label);
+        }
+    }
+
+    /**
+     * Reflective accessor of the jdk.jfr API
+     */
+    private static final class JfrApi {
+
+        private final Class<? extends Annotation> nameAnnotation;
+        private final Class<? extends Annotation> labelAnnotation;
+        private final Class<? extends Annotation> categoryAnnotation;
+        private final Constructor<?> annotationElementConstructor;
+        private final Constructor<?> valueDescriptorConstructor;
+        private final Method createEventFactory;
+        private final Method getEventType;
+        private final Method isEnabled;
+        private final Method newEvent;
+        private final Method begin;
+        private final Method set;
+        private final Method commit;
+
+        private JfrApi() throws ReflectiveOperationException {
+            ClassLoader classLoader = FlightRecorderEventType.class.getClassLoader();
+            nameAnnotation = Class.forName("jdk.jfr.Name", false, classLoader).asSubclass(Annotation.class);
+            labelAnnotation = Class.forName("jdk.jfr.Label", false, classLoader).asSubclass(Annotation.class);
+            categoryAnnotation = Class.forName("jdk.jfr.Category", false, classLoader).asSubclass(Annotation.class);
+            Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement", false, classLoader);
+            annotationElementConstructor = annotationElementClass.getConstructor(Class.class, Object.class);
+            Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor", false, classLoader);
+            valueDescriptorConstructor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+            Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory", false, classLoader);
+            createEventFactory = eventFactoryClass.getMethod("create", List.class, List.class);
+            getEventType = eventFactoryClass.getMethod("getEventType");
+            newEvent = eventFactoryClass.getMethod("newEvent");
+            isEnabled = Class.forName("jdk.jfr.EventType", false, classLoader).getMethod("isEnabled");
+            Class<?> eventClass = Class.forName("jdk.jfr.Event", false, classLoader);
+            begin = eventClass.getMethod("begin");
+            set = eventClass.getMethod("set", int.class, Object.class);
+            commit = eventClass.getMethod("commit");
+        }
+
+        static @Nullable JfrApi load() {
+            try {
+                return new JfrApi();
+            } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+                return null;
+            }
+        }
+
+        @NonNull Object createEventFactory(@NonNull String name, @NonNull String label, @NonNull Field[] fields) throws ReflectiveOperationException {
+            List<Object> eventAnnotations = Arrays.asList(
+                    annotationElementConstructor.newInstance(nameAnnotation, name),
+                    annotationElementConstructor.newInstance(labelAnnotation, label),
+                    annotationElementConstructor.newInstance(categoryAnnotation, new String[]{CATEGORY})
+            );
+            List<Object> valueDescriptors = new ArrayList<>(fields.length);
+            for (Field field : fields) {
+                List<Object> fieldAnnotations = Collections.singletonList(annotationElementConstructor.newInstance(labelAnnotation, field.label));
+                valueDescriptors.add(valueDescriptorConstructor.newInstance(field.type, field.name, fieldAnnotations));
+            }
+            return createEventFactory.invoke(null, eventAnnotations, valueDescriptors);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.security.MessageDigest;
+import java.security.Signature;
+
+/**
+ * {@link CryptoProvider} implementation which looks up a new instance from JCA providers on every call.
+ * Suitable when keys from multiple security providers are mixed, as the provider is chosen per call.
+ */
+public class JcaCryptoProvider implements CryptoProvider {
+
+    @Override
+    public @NonNull MessageDigest getMessageDigest(@NonNull String algorithm) {
+        AssertUtil.notNull(algorithm, "algorithm must not be null");
+        return MessageDigestUtil.createMessageDigest(algorithm);
+    }
+
+    @Override
+    public @NonNull Signature getSignature(@NonNull String algorithm) {
+        return SignatureUtil.createSignature(algorithm);
+    }
+}
@@ -18,6 +18,7 @@ package com.webauthn4j.util;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -51,4 +52,22 @@ public class MessageDigestUtil {
         return createMessageDigest("SHA-256");
     }
 
+    /**
+     * Calculates the digest of the concatenation of the parts.
+     * Each part is streamed into the {@link MessageDigest} in order, so no composite buffer is allocated.
+     * The positions of the passed buffers are not modified.
+     *
+     * @param messageDigest {@link MessageDigest} used for calculation
+     * @param parts         parts of the data to digest
+     * @return the digest
+     */
+    public static @NonNull byte[] digest(@NonNull MessageDigest messageDigest, @NonNull ByteBuffer... parts) {
+        AssertUtil.notNull(messageDigest, "messageDigest must not be null");
+        AssertUtil.notNull(parts, "parts must not be null");
+        for (ByteBuffer part : parts) {
+            messageDigest.update(part.duplicate());
+        }
+        return messageDigest.digest();
+    }
+
 }
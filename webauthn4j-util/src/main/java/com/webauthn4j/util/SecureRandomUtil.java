@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A set of utility methods for random bytes.
+ * The DRBG implementations synchronize on the instance while generating, so a single shared instance serializes all
+ * callers just like {@link java.util.UUID#randomUUID()}. Instead, the callers are spread over a fixed number of
+ * stripes sized to the available processors and selected by the thread id. Unlike a per-thread instance, the number
+ * of instances to create and seed stays bounded even when many short-lived or virtual threads are used.
+ */
+public class SecureRandomUtil {
+
+    private static final int STRIPE_MASK = createStripeMask(Runtime.getRuntime().availableProcessors());
+    private static final AtomicReferenceArray<SecureRandom> secureRandoms = new AtomicReferenceArray<>(STRIPE_MASK + 1);
+
+    private SecureRandomUtil() {
+    }
+
+    /**
+     * Generates random bytes
+     *
+     * @param length the number of bytes
+     * @return random bytes
+     */
+    public static @NonNull byte[] nextBytes(int length) {
+        AssertUtil.isTrue(length >= 0, "length must not be negative");
+        byte[] bytes = new byte[length];
+        getSecureRandom().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static @NonNull SecureRandom getSecureRandom() {
+        long id = Thread.currentThread().getId();
+        // spread sequential thread ids over the stripes with the Fibonacci hashing
+        int index = ((int) (id ^ (id >>> 32)) * 0x9E3779B9 >>> 16) & STRIPE_MASK;
+        SecureRandom secureRandom = secureRandoms.get(index);
+        if (secureRandom == null) {
+            secureRandoms.compareAndSet(index, null, createSecureRandom());
+            secureRandom = secureRandoms.get(index);
+        }
+        return secureRandom;
+    }
+
+    /**
+     * Returns the mask of the stripe index, which makes the number of stripes the smallest power of two
+     * not less than the specified parallelism
+     *
+     * @param parallelism the number of available processors
+     * @return stripe mask
+     */
+    static int createStripeMask(int parallelism) {
+        int stripes = Integer.highestOneBit(Math.max(1, parallelism) * 2 - 1);
+        return stripes - 1;
+    }
+
+    /**
+     * Creates a {@link SecureRandom}, preferring the DRBG available since Java 9
+     *
+     * @return {@link SecureRandom}
+     */
+    static @NonNull SecureRandom createSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
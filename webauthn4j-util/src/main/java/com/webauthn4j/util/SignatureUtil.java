@@ -18,8 +18,12 @@ package com.webauthn4j.util;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.security.Signature;
+import java.security.SignatureException;
 
 /**
  * A Utility class for signature calculation
@@ -56,4 +60,27 @@ public class SignatureUtil {
         }
     }
 
+    /**
+     * Verifies the signature over the concatenation of the signed data parts.
+     * Each part is streamed into the {@link Signature} in order, so no composite buffer is allocated.
+     * The positions of the passed buffers are not modified.
+     *
+     * @param verifier        {@link Signature} used for verification
+     * @param publicKey       public key to verify the signature with
+     * @param signature       signature to verify
+     * @param signedDataParts parts of the signed data
+     * @return true if the signature is valid
+     * @throws InvalidKeyException if the public key is invalid
+     * @throws SignatureException  if the verifier cannot process the signature
+     */
+    public static boolean verify(@NonNull Signature verifier, @NonNull PublicKey publicKey, @NonNull byte[] signature, @NonNull ByteBuffer... signedDataParts) throws InvalidKeyException, SignatureException {
+        AssertUtil.notNull(verifier, "verifier must not be null");
+        AssertUtil.notNull(signedDataParts, "signedDataParts must not be null");
+        verifier.initVerify(publicKey);
+        for (ByteBuffer signedDataPart : signedDataParts) {
+            verifier.update(signedDataPart.duplicate());
+        }
+        return verifier.verify(signature);
+    }
+
 }
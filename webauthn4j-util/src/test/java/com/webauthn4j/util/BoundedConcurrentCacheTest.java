@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedConcurrentCacheTest {
+
+    @Test
+    void get_and_put_test() {
+        BoundedConcurrentCache<String, String> target = new BoundedConcurrentCache<>(10);
+
+        assertThat(target.get("key")).isNull();
+        target.put("key", "value");
+        assertThat(target.get("key")).isEqualTo("value");
+
+        assertThat(target.getHitCount()).isEqualTo(1);
+        assertThat(target.getMissCount()).isEqualTo(1);
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    @Test
+    void computeIfAbsent_test() {
+        BoundedConcurrentCache<String, Object> target = new BoundedConcurrentCache<>(10);
+
+        Object first = target.computeIfAbsent("key", key -> new Object());
+        Object second = target.computeIfAbsent("key", key -> new Object());
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void evicts_least_recently_read_entry_test() throws InterruptedException {
+        BoundedConcurrentCache<String, String> target = new BoundedConcurrentCache<>(2);
+        target.put("a", "a");
+        Thread.sleep(1);
+        target.put("b", "b");
+        Thread.sleep(1);
+        target.get("a");
+        Thread.sleep(1);
+        target.put("c", "c");
+
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.getEvictionCount()).isEqualTo(1);
+        assertThat(target.get("a")).isEqualTo("a");
+        assertThat(target.get("b")).isNull();
+        assertThat(target.get("c")).isEqualTo("c");
+    }
+
+    @Test
+    void evicts_to_ninety_percent_of_maximum_size_test() {
+        BoundedConcurrentCache<Integer, Integer> target = new BoundedConcurrentCache<>(100);
+        for (int i = 0; i <= 100; i++) {
+            target.put(i, i);
+        }
+        assertThat(target.size()).isEqualTo(90);
+        assertThat(target.get(100)).isEqualTo(100);
+    }
+
+    @Test
+    void expiration_test() throws InterruptedException {
+        BoundedConcurrentCache<String, String> target = new BoundedConcurrentCache<>(10, Duration.ofMillis(1));
+        target.put("key", "value");
+
+        Thread.sleep(10);
+
+        assertThat(target.get("key")).isNull();
+        assertThat(target.size()).isZero();
+        assertThat(target.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrent_put_test() {
+        BoundedConcurrentCache<Integer, Integer> target = new BoundedConcurrentCache<>(100);
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 8)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        int key = thread * 1000 + i;
+                        target.put(key, key);
+                        target.get(key);
+                    }
+                }))
+                .collect(Collectors.toList());
+        futures.forEach(CompletableFuture::join);
+
+        assertThat(target.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void clear_test() {
+        BoundedConcurrentCache<String, String> target = new BoundedConcurrentCache<>(10);
+        target.put("key", "value");
+        target.clear();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void constructor_with_invalid_arguments_test() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedConcurrentCache<String, String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedConcurrentCache<String, String>(1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for CryptoUtil
+ */
+class CryptoUtilTest {
+
+    @Test
+    void setCryptoProvider_test() {
+        CryptoProvider original = CryptoUtil.getCryptoProvider();
+        try {
+            CryptoUtil.setCryptoProvider(new JcaCryptoProvider());
+            assertThat(CryptoUtil.getSHA256()).isNotSameAs(CryptoUtil.getSHA256());
+        } finally {
+            CryptoUtil.setCryptoProvider(original);
+        }
+    }
+
+    @Test
+    void getSHA256_test() {
+        assertThat(CryptoUtil.getSHA256().getAlgorithm()).isEqualTo("SHA-256");
+    }
+
+    @Test
+    void setCryptoProvider_with_null_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CryptoUtil.setCryptoProvider(null)
+        );
+    }
+}
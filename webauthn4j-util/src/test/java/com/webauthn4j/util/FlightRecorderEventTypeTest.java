@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class FlightRecorderEventTypeTest {
+
+    @Test
+    void begin_without_recording_test() {
+        FlightRecorderEventType target = FlightRecorderEventType.create("com.webauthn4j.test.NotRecorded", "Not Recorded",
+                FlightRecorderEventType.Field.of("value", String.class, "Value"));
+
+        assertThat(target.isEnabled()).isFalse();
+        assertThat(target.begin()).isNull();
+        assertThatCode(() -> target.commit(null, "dummy")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void commit_with_recording_test(@TempDir Path tempDir) throws Exception {
+        Class<?> recordingClass = loadClass("jdk.jfr.Recording");
+        Class<?> recordingFileClass = loadClass("jdk.jfr.consumer.RecordingFile");
+        assumeTrue(recordingClass != null && recordingFileClass != null, "JFR is not available");
+
+        String name = "com.webauthn4j.test.Recorded";
+        FlightRecorderEventType target = FlightRecorderEventType.create(name, "Recorded",
+                FlightRecorderEventType.Field.of("format", String.class, "Format"),
+                FlightRecorderEventType.Field.of("count", int.class, "Count"));
+
+        Object recording = recordingClass.getConstructor().newInstance();
+        recordingClass.getMethod("enable", String.class).invoke(recording, name);
+        recordingClass.getMethod("start").invoke(recording);
+        try {
+            assertThat(target.isEnabled()).isTrue();
+            Object event = target.begin();
+            assertThat(event).isNotNull();
+            target.commit(event, "packed", 3);
+        } finally {
+            recordingClass.getMethod("stop").invoke(recording);
+        }
+        Path file = tempDir.resolve("recording.jfr");
+        recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+        recordingClass.getMethod("close").invoke(recording);
+
+        List<?> recordedEvents = (List<?>) recordingFileClass.getMethod("readAllEvents", Path.class).invoke(null, file);
+        Method getEventType = loadClass("jdk.jfr.consumer.RecordedEvent").getMethod("getEventType");
+        Method getName = loadClass("jdk.jfr.EventType").getMethod("getName");
+        List<?> events = recordedEvents.stream().filter(recordedEvent -> {
+            try {
+                return name.equals(getName.invoke(getEventType.invoke(recordedEvent)));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }).collect(Collectors.toList());
+        assertThat(events).hasSize(1);
+        Method getValue = loadClass("jdk.jfr.consumer.RecordedObject").getMethod("getValue", String.class);
+        assertThat(getValue.invoke(events.get(0), "format")).isEqualTo("packed");
+        assertThat(getValue.invoke(events.get(0), "count")).isEqualTo(3);
+    }
+
+    @Test
+    void create_with_null_test() {
+        assertThatThrownBy(() -> FlightRecorderEventType.create(null, "label")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FlightRecorderEventType.Field.of("name", null, "label")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Class<?> loadClass(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
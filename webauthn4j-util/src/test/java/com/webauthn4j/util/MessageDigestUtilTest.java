@@ -18,6 +18,7 @@ package com.webauthn4j.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,4 +52,16 @@ class MessageDigestUtilTest {
                 () -> MessageDigestUtil.createMessageDigest("wrong-arg")
         );
     }
+
+    @Test
+    void digest_test() {
+        byte[] first = new byte[]{0x01, 0x02, 0x03};
+        byte[] second = new byte[]{0x04, 0x05};
+        ByteBuffer firstBuffer = ByteBuffer.wrap(first);
+
+        byte[] result = MessageDigestUtil.digest(MessageDigestUtil.createSHA256(), firstBuffer, ByteBuffer.wrap(second));
+
+        assertThat(result).isEqualTo(MessageDigestUtil.createSHA256().digest(new byte[]{0x01, 0x02, 0x03, 0x04, 0x05}));
+        assertThat(firstBuffer.remaining()).isEqualTo(first.length);
+    }
 }
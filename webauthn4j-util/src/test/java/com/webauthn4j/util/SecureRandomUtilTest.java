@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SecureRandomUtilTest {
+
+    @Test
+    void nextBytes_test() {
+        byte[] bytesA = SecureRandomUtil.nextBytes(16);
+        byte[] bytesB = SecureRandomUtil.nextBytes(16);
+
+        assertThat(bytesA).hasSize(16);
+        assertThat(bytesA).isNotEqualTo(bytesB);
+        assertThat(SecureRandomUtil.nextBytes(0)).isEmpty();
+    }
+
+    @Test
+    void nextBytes_on_other_thread_test() {
+        byte[] bytesA = SecureRandomUtil.nextBytes(16);
+        byte[] bytesB = CompletableFuture.supplyAsync(() -> SecureRandomUtil.nextBytes(16)).join();
+
+        assertThat(bytesA).isNotEqualTo(bytesB);
+    }
+
+    @Test
+    void createStripeMask_test() {
+        assertThat(SecureRandomUtil.createStripeMask(0)).isZero();
+        assertThat(SecureRandomUtil.createStripeMask(1)).isZero();
+        assertThat(SecureRandomUtil.createStripeMask(2)).isEqualTo(1);
+        assertThat(SecureRandomUtil.createStripeMask(3)).isEqualTo(3);
+        assertThat(SecureRandomUtil.createStripeMask(8)).isEqualTo(7);
+    }
+
+    @Test
+    void nextBytes_with_negative_length_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SecureRandomUtil.nextBytes(-1)
+        );
+    }
+}
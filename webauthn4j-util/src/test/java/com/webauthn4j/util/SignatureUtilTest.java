@@ -18,6 +18,11 @@ package com.webauthn4j.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -56,4 +61,25 @@ class SignatureUtilTest {
         );
         assertThat(t).hasMessageContaining("dummyAlg Signature not available");
     }
+
+    @Test
+    void verify_test() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(256);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        byte[] first = new byte[]{0x01, 0x02, 0x03};
+        byte[] second = new byte[]{0x04, 0x05};
+        Signature signer = SignatureUtil.createES256();
+        signer.initSign(keyPair.getPrivate());
+        signer.update(first);
+        signer.update(second);
+        byte[] signature = signer.sign();
+
+        ByteBuffer firstBuffer = ByteBuffer.wrap(first);
+        ByteBuffer secondBuffer = ByteBuffer.wrap(second);
+        Signature verifier = SignatureUtil.createES256();
+        assertThat(SignatureUtil.verify(verifier, keyPair.getPublic(), signature, firstBuffer, secondBuffer)).isTrue();
+        assertThat(firstBuffer.remaining()).isEqualTo(first.length);
+        assertThat(SignatureUtil.verify(verifier, keyPair.getPublic(), signature, secondBuffer, firstBuffer)).isFalse();
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for ThreadLocalCryptoProvider
+ */
+class ThreadLocalCryptoProviderTest {
+
+    private final ThreadLocalCryptoProvider target = new ThreadLocalCryptoProvider();
+
+    @Test
+    void getMessageDigest_returns_same_instance_in_same_thread_test() {
+        MessageDigest first = target.getMessageDigest("SHA-256");
+        MessageDigest second = target.getMessageDigest("SHA-256");
+        assertThat(first).isSameAs(second);
+        assertThat(first.getAlgorithm()).isEqualTo("SHA-256");
+    }
+
+    @Test
+    void getMessageDigest_returns_different_instance_in_different_thread_test() {
+        MessageDigest first = target.getMessageDigest("SHA-256");
+        MessageDigest second = CompletableFuture.supplyAsync(() -> target.getMessageDigest("SHA-256")).join();
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void getMessageDigest_returns_reset_instance_test() {
+        MessageDigest messageDigest = target.getMessageDigest("SHA-256");
+        messageDigest.update(new byte[]{0x01, 0x02});
+        MessageDigest reset = target.getMessageDigest("SHA-256");
+        assertThat(reset.digest()).isEqualTo(MessageDigestUtil.createSHA256().digest());
+    }
+
+    @Test
+    void getMessageDigest_with_wrong_arg_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> target.getMessageDigest("wrong-arg")
+        );
+    }
+
+    @Test
+    void getSignature_returns_same_instance_in_same_thread_test() {
+        Signature first = target.getSignature("SHA256withECDSA");
+        Signature second = target.getSignature("SHA256withECDSA");
+        assertThat(first).isSameAs(second);
+        assertThat(target.getSignature("SHA256withRSA")).isNotSameAs(first);
+    }
+
+    @Test
+    void getSignature_with_wrong_arg_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> target.getSignature("wrong-arg")
+        );
+    }
+}